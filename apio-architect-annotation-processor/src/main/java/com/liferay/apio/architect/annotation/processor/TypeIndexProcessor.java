@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates, at compile time, an index of every type annotated with {@code
+ * com.liferay.apio.architect.annotation.Vocabulary.Type}. The index of each
+ * type is stored in {@code META-INF/apio/types/}, in a file named after the
+ * type's binary name, and lists the type's {@code Id} and {@code Field}
+ * methods, along with their parameter types.
+ *
+ * <p>
+ * Apio Architect reads this index when a type is registered, so it can find
+ * the annotated methods without scanning every method of the type with
+ * reflection. Types compiled without this processor are still scanned.
+ * </p>
+ *
+ * <p>
+ * This processor only writes the index. Representors, forms and action
+ * semantics are still built at runtime from the annotated types.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class TypeIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * The path in which the index of each type is stored.
+	 */
+	public static final String TYPE_INDEX_PATH = "META-INF/apio/types/";
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(_TYPE_ANNOTATION);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(
+		Set<? extends TypeElement> annotations,
+		RoundEnvironment roundEnvironment) {
+
+		Elements elements = processingEnv.getElementUtils();
+
+		TypeElement typeElement = elements.getTypeElement(_TYPE_ANNOTATION);
+
+		if (typeElement == null) {
+			return false;
+		}
+
+		for (Element element :
+				roundEnvironment.getElementsAnnotatedWith(typeElement)) {
+
+			ElementKind elementKind = element.getKind();
+
+			if (!elementKind.isClass() && !elementKind.isInterface()) {
+				continue;
+			}
+
+			_writeTypeIndex((TypeElement)element);
+		}
+
+		return false;
+	}
+
+	private String _getBinaryName(TypeMirror typeMirror) {
+		Types types = processingEnv.getTypeUtils();
+
+		TypeMirror erasure = types.erasure(typeMirror);
+
+		if (erasure.getKind() == TypeKind.ARRAY) {
+			ArrayType arrayType = (ArrayType)erasure;
+
+			return _getBinaryName(arrayType.getComponentType()) + "[]";
+		}
+
+		if (erasure.getKind() == TypeKind.DECLARED) {
+			DeclaredType declaredType = (DeclaredType)erasure;
+
+			Elements elements = processingEnv.getElementUtils();
+
+			Name name = elements.getBinaryName(
+				(TypeElement)declaredType.asElement());
+
+			return name.toString();
+		}
+
+		return erasure.toString();
+	}
+
+	private String _getLine(String kind, ExecutableElement executableElement) {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(kind);
+		sb.append(" ");
+		sb.append(executableElement.getSimpleName());
+
+		List<? extends VariableElement> parameters =
+			executableElement.getParameters();
+
+		for (VariableElement parameter : parameters) {
+			sb.append(" ");
+			sb.append(_getBinaryName(parameter.asType()));
+		}
+
+		sb.append("\n");
+
+		return sb.toString();
+	}
+
+	private boolean _isAnnotatedWith(Element element, String annotation) {
+		for (AnnotationMirror annotationMirror :
+				element.getAnnotationMirrors()) {
+
+			DeclaredType declaredType = annotationMirror.getAnnotationType();
+
+			TypeElement typeElement = (TypeElement)declaredType.asElement();
+
+			Name name = typeElement.getQualifiedName();
+
+			if (name.contentEquals(annotation)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void _writeTypeIndex(TypeElement typeElement) {
+		StringBuilder sb = new StringBuilder();
+
+		Elements elements = processingEnv.getElementUtils();
+
+		for (Element element : elements.getAllMembers(typeElement)) {
+			if ((element.getKind() != ElementKind.METHOD) ||
+				!element.getModifiers().contains(Modifier.PUBLIC)) {
+
+				continue;
+			}
+
+			ExecutableElement executableElement = (ExecutableElement)element;
+
+			if (_isAnnotatedWith(element, _ID_ANNOTATION)) {
+				sb.append(_getLine("id", executableElement));
+			}
+
+			if (_isAnnotatedWith(element, _FIELD_ANNOTATION)) {
+				sb.append(_getLine("field", executableElement));
+			}
+		}
+
+		Name name = elements.getBinaryName(typeElement);
+
+		Filer filer = processingEnv.getFiler();
+
+		try {
+			FileObject fileObject = filer.createResource(
+				StandardLocation.CLASS_OUTPUT, "", TYPE_INDEX_PATH + name,
+				typeElement);
+
+			try (Writer writer = fileObject.openWriter()) {
+				writer.write(sb.toString());
+			}
+		}
+		catch (IOException ioe) {
+			Messager messager = processingEnv.getMessager();
+
+			messager.printMessage(
+				Diagnostic.Kind.WARNING,
+				"Unable to write the Apio type index: " + ioe.getMessage(),
+				typeElement);
+		}
+	}
+
+	private static final String _FIELD_ANNOTATION =
+		"com.liferay.apio.architect.annotation.Vocabulary.Field";
+
+	private static final String _ID_ANNOTATION =
+		"com.liferay.apio.architect.annotation.Id";
+
+	private static final String _TYPE_ANNOTATION =
+		"com.liferay.apio.architect.annotation.Vocabulary.Type";
+
+}
\ No newline at end of file
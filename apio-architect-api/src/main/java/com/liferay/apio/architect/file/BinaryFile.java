@@ -16,7 +16,13 @@ package com.liferay.apio.architect.file;
 
 import aQute.bnd.annotation.ConsumerType;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.nio.channels.Channels;
+
+import java.util.Optional;
 
 /**
  * @author Javier Gamarra
@@ -35,10 +41,48 @@ public class BinaryFile {
 		_size = size;
 		_mimeType = mimeType;
 		_name = name;
+
+		_seekableSource = null;
+	}
+
+	/**
+	 * Creates a binary file whose content can be read from any position.
+	 *
+	 * @param seekableSource the source of the binary file's content
+	 * @param size the binary file's size
+	 * @param mimeType the binary file's MIME type
+	 * @param name the binary file's name
+	 * @review
+	 */
+	public BinaryFile(
+		SeekableSource seekableSource, Long size, String mimeType,
+		String name) {
+
+		_seekableSource = seekableSource;
+		_size = size;
+		_mimeType = mimeType;
+		_name = name;
+
+		_inputStream = null;
 	}
 
+	/**
+	 * Returns the binary file's content. If this binary file was created from
+	 * a {@link SeekableSource}, every call opens a new stream.
+	 *
+	 * @return the binary file's content
+	 */
 	public InputStream getInputStream() {
-		return _inputStream;
+		if (_seekableSource == null) {
+			return _inputStream;
+		}
+
+		try {
+			return Channels.newInputStream(_seekableSource.open());
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
 	}
 
 	public String getMimeType() {
@@ -49,6 +93,18 @@ public class BinaryFile {
 		return _name;
 	}
 
+	/**
+	 * Returns the binary file's seekable source, if this binary file was
+	 * created from one; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the seekable source, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<SeekableSource> getSeekableSourceOptional() {
+		return Optional.ofNullable(_seekableSource);
+	}
+
 	public long getSize() {
 		return _size;
 	}
@@ -56,6 +112,7 @@ public class BinaryFile {
 	private final InputStream _inputStream;
 	private final String _mimeType;
 	private final String _name;
+	private final SeekableSource _seekableSource;
 	private final long _size;
 
 }
\ No newline at end of file
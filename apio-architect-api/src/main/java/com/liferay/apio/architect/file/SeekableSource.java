@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.file;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.io.IOException;
+
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Opens a random-access channel to the content of a {@link BinaryFile}. Binary
+ * files created from a seekable source can be served partially (e.g., when the
+ * client sends a {@code Range} header), by reading only the requested range
+ * from the channel.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ConsumerType
+@FunctionalInterface
+public interface SeekableSource {
+
+	/**
+	 * Opens a new channel to the binary file's content. Callers close the
+	 * returned channel once they're done with it.
+	 *
+	 * @return the channel
+	 * @throws IOException if the channel couldn't be opened
+	 */
+	public SeekableByteChannel open() throws IOException;
+
+}
\ No newline at end of file
@@ -37,4 +37,19 @@ public interface Provider<T> {
 	 */
 	public T createContext(HttpServletRequest httpServletRequest);
 
+	/**
+	 * Returns {@code true} if the instance created for a request can be reused
+	 * for the rest of that request. Cacheable instances are created at most
+	 * once per request, no matter how many times they're provided. Providers
+	 * whose instances depend on state that changes while the request is
+	 * handled should return {@code false}.
+	 *
+	 * @return {@code true} if the instance can be reused during the request;
+	 *         {@code false} otherwise
+	 * @review
+	 */
+	public default boolean isCacheable() {
+		return true;
+	}
+
 }
\ No newline at end of file
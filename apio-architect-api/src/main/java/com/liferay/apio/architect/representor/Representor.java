@@ -18,6 +18,7 @@ import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.identifier.Identifier;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -43,6 +44,20 @@ public interface Representor<T> extends BaseRepresentor<T> {
 	 */
 	public Object getIdentifier(T model);
 
+	/**
+	 * Returns the model's version, if the representor declares a version
+	 * function; returns {@code Optional#empty()} otherwise. Versions are used
+	 * to compute a model's {@code ETag} without rendering it.
+	 *
+	 * @param  model the model instance
+	 * @return the model's version, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public default Optional<String> getVersionOptional(T model) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Creates generic representations of your domain models that Apio
 	 * hypermedia writers can understand.
@@ -97,6 +112,20 @@ public interface Representor<T> extends BaseRepresentor<T> {
 		public <S extends Identifier> FirstStep<T> addRelatedCollection(
 			String key, Class<S> itemIdentifierClass);
 
+		/**
+		 * Provides a function that returns a model's version. The version must
+		 * change every time the model changes (e.g., a version number or the
+		 * model's modified date). If a representor has a version function, the
+		 * {@code ETag} of its models is computed from their version, so
+		 * conditional requests can be answered before rendering the model.
+		 *
+		 * @param  versionFunction the function that returns the model's
+		 *         version
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T> version(Function<T, ?> versionFunction);
+
 	}
 
 	@ProviderType
@@ -15,10 +15,10 @@
 package com.liferay.apio.architect.internal.action;
 
 import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.toList;
 
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.alias.ProvideFunction;
+import com.liferay.apio.architect.internal.alias.ResolveFunction;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.resource.Resource;
@@ -31,6 +31,7 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 /**
@@ -140,17 +141,19 @@ public final class ActionSemantics {
 	 * @review
 	 */
 	public Action toAction(ProvideFunction provideFunction) {
+		ResolveFunction[] resolveFunctions = _getResolveFunctions(
+			provideFunction);
+
 		return request -> Try.of(
-			getParamClasses()::stream
-		).map(
-			stream -> stream.map(
-				provideFunction.apply(this, request)
-			).collect(
-				toList()
-			)
-		).mapTry(
-			this::execute
-		);
+			() -> {
+				Object[] params = new Object[resolveFunctions.length];
+
+				for (int i = 0; i < params.length; i++) {
+					params[i] = resolveFunctions[i].apply(this, request);
+				}
+
+				return execute(Arrays.asList(params));
+			});
 	}
 
 	/**
@@ -176,6 +179,7 @@ public final class ActionSemantics {
 		actionSemantics._method = _method;
 		actionSemantics._name = _name;
 		actionSemantics._paramClasses = _paramClasses;
+		actionSemantics._resolveFunctionsReference = _resolveFunctionsReference;
 		actionSemantics._resource = _resource;
 		actionSemantics._returnClass = _returnClass;
 
@@ -205,6 +209,7 @@ public final class ActionSemantics {
 		actionSemantics._method = method;
 		actionSemantics._name = _name;
 		actionSemantics._paramClasses = _paramClasses;
+		actionSemantics._resolveFunctionsReference = _resolveFunctionsReference;
 		actionSemantics._resource = _resource;
 		actionSemantics._returnClass = _returnClass;
 
@@ -234,6 +239,7 @@ public final class ActionSemantics {
 		actionSemantics._method = _method;
 		actionSemantics._name = name;
 		actionSemantics._paramClasses = _paramClasses;
+		actionSemantics._resolveFunctionsReference = _resolveFunctionsReference;
 		actionSemantics._resource = _resource;
 		actionSemantics._returnClass = _returnClass;
 
@@ -259,6 +265,7 @@ public final class ActionSemantics {
 		actionSemantics._method = _method;
 		actionSemantics._name = _name;
 		actionSemantics._paramClasses = _paramClasses;
+		actionSemantics._resolveFunctionsReference = _resolveFunctionsReference;
 		actionSemantics._resource = resource;
 		actionSemantics._returnClass = _returnClass;
 
@@ -288,12 +295,30 @@ public final class ActionSemantics {
 		actionSemantics._method = _method;
 		actionSemantics._name = _name;
 		actionSemantics._paramClasses = _paramClasses;
+		actionSemantics._resolveFunctionsReference = _resolveFunctionsReference;
 		actionSemantics._resource = _resource;
 		actionSemantics._returnClass = returnClass;
 
 		return actionSemantics;
 	}
 
+	private ResolveFunction[] _getResolveFunctions(
+		ProvideFunction provideFunction) {
+
+		ResolveFunctions resolveFunctions = _resolveFunctionsReference.get();
+
+		if ((resolveFunctions == null) ||
+			(resolveFunctions._provideFunction != provideFunction)) {
+
+			resolveFunctions = new ResolveFunctions(
+				provideFunction, _paramClasses);
+
+			_resolveFunctionsReference.set(resolveFunctions);
+		}
+
+		return resolveFunctions._resolveFunctions;
+	}
+
 	public static class Builder
 		implements NameStep, MethodStep, ReturnStep, ExecuteStep, FinalStep {
 
@@ -499,12 +524,40 @@ public final class ActionSemantics {
 
 	}
 
+	/**
+	 * Contains the functions that provide the action's params, in the order
+	 * declared by the action, compiled for a single {@link ProvideFunction}.
+	 * It is shared by every copy of an {@link ActionSemantics}, since the
+	 * copies have the same param classes.
+	 */
+	private static class ResolveFunctions {
+
+		private ResolveFunctions(
+			ProvideFunction provideFunction, List<Class<?>> paramClasses) {
+
+			_provideFunction = provideFunction;
+
+			_resolveFunctions = new ResolveFunction[paramClasses.size()];
+
+			for (int i = 0; i < _resolveFunctions.length; i++) {
+				_resolveFunctions[i] = provideFunction.getResolveFunction(
+					paramClasses.get(i));
+			}
+		}
+
+		private final ProvideFunction _provideFunction;
+		private final ResolveFunction[] _resolveFunctions;
+
+	}
+
 	private List<Annotation> _annotations = new ArrayList<>();
 	private Function<Body, Object> _bodyFunction;
 	private CheckedFunction1<List<?>, ?> _executeFunction;
 	private String _method;
 	private String _name;
 	private List<Class<?>> _paramClasses = new ArrayList<>();
+	private AtomicReference<ResolveFunctions> _resolveFunctionsReference =
+		new AtomicReference<>();
 	private Resource _resource;
 	private Class<?> _returnClass;
 
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.action;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import com.liferay.apio.architect.resource.Resource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Indexes a list of {@link ActionSemantics} by resource, HTTP method, and
+ * action name, so the action semantics of a request can be found without
+ * scanning every action. The index is immutable, and its lists keep the order
+ * of the original action semantics.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ActionSemanticsIndex {
+
+	public ActionSemanticsIndex(Stream<ActionSemantics> stream) {
+		stream.forEach(
+			actionSemantics -> {
+				_actionSemantics.add(actionSemantics);
+
+				Resource resource = actionSemantics.getResource();
+
+				List<ActionSemantics> resourceActionSemantics =
+					_resourceActionSemantics.computeIfAbsent(
+						resource, __ -> new ArrayList<>());
+
+				resourceActionSemantics.add(actionSemantics);
+
+				Map<String, List<ActionSemantics>> map =
+					_namedActionSemantics.computeIfAbsent(
+						resource, __ -> new HashMap<>());
+
+				List<ActionSemantics> namedActionSemantics =
+					map.computeIfAbsent(
+						_getKey(
+							actionSemantics.getHTTPMethod(),
+							actionSemantics.getActionName()),
+						__ -> new ArrayList<>());
+
+				namedActionSemantics.add(actionSemantics);
+			});
+	}
+
+	/**
+	 * Returns every indexed action semantics, in their original order.
+	 *
+	 * @return the action semantics
+	 */
+	public Stream<ActionSemantics> getActionSemantics() {
+		return _actionSemantics.stream();
+	}
+
+	/**
+	 * Returns the action semantics of a resource, in their original order.
+	 *
+	 * @param  resource the resource
+	 * @return the resource's action semantics
+	 */
+	public List<ActionSemantics> getActionSemantics(Resource resource) {
+		List<ActionSemantics> list = _resourceActionSemantics.get(resource);
+
+		if (list == null) {
+			return emptyList();
+		}
+
+		return unmodifiableList(list);
+	}
+
+	/**
+	 * Returns the first action semantics of a resource with the provided HTTP
+	 * method and action name, if present; {@code Optional#empty()} otherwise.
+	 *
+	 * @param  resource the resource
+	 * @param  method the HTTP method
+	 * @param  name the action's name
+	 * @return the action semantics, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<ActionSemantics> getActionSemanticsOptional(
+		Resource resource, String method, String name) {
+
+		return getActionSemanticsOptional(
+			resource, method, name, actionSemantics -> true);
+	}
+
+	/**
+	 * Returns the first action semantics of a resource with the provided HTTP
+	 * method and action name that also matches the predicate, if present;
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @param  resource the resource
+	 * @param  method the HTTP method
+	 * @param  name the action's name
+	 * @param  predicate the predicate the action semantics must match
+	 * @return the action semantics, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<ActionSemantics> getActionSemanticsOptional(
+		Resource resource, String method, String name,
+		Predicate<ActionSemantics> predicate) {
+
+		Map<String, List<ActionSemantics>> map = _namedActionSemantics.get(
+			resource);
+
+		if (map == null) {
+			return Optional.empty();
+		}
+
+		List<ActionSemantics> list = map.get(_getKey(method, name));
+
+		if (list == null) {
+			return Optional.empty();
+		}
+
+		for (ActionSemantics actionSemantics : list) {
+			if (predicate.test(actionSemantics)) {
+				return Optional.of(actionSemantics);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private static String _getKey(String method, String name) {
+		return method + " " + name;
+	}
+
+	private final List<ActionSemantics> _actionSemantics = new ArrayList<>();
+	private final Map<Resource, Map<String, List<ActionSemantics>>>
+		_namedActionSemantics = new HashMap<>();
+	private final Map<Resource, List<ActionSemantics>>
+		_resourceActionSemantics = new HashMap<>();
+
+}
\ No newline at end of file
@@ -29,4 +29,20 @@ import javax.servlet.http.HttpServletRequest;
  */
 public interface ProvideFunction
 	extends Function3<ActionSemantics, HttpServletRequest, Class<?>, Object> {
+
+	/**
+	 * Returns the function that provides instances of the class.
+	 * Implementations can override this method to return a function
+	 * specialized for the class, so the class is only inspected once, when the
+	 * action is compiled.
+	 *
+	 * @param  clazz the class being provided
+	 * @return the function that provides instances of the class
+	 * @review
+	 */
+	public default ResolveFunction getResolveFunction(Class<?> clazz) {
+		return (actionSemantics, request) -> apply(
+			actionSemantics, request, clazz);
+	}
+
 }
\ No newline at end of file
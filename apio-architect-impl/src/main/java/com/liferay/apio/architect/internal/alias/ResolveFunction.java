@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.alias;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+
+import java.util.function.BiFunction;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Defines a type alias for a function that receives the {@link
+ * ActionSemantics} and the HTTP request, and returns the value of one of the
+ * action's params. Instances are created once per param class by {@link
+ * ProvideFunction#getResolveFunction(Class)}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public interface ResolveFunction
+	extends BiFunction<ActionSemantics, HttpServletRequest, Object> {
+}
\ No newline at end of file
@@ -15,9 +15,12 @@
 package com.liferay.apio.architect.internal.annotation;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.documentation.APIDescription;
+import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
@@ -26,6 +29,7 @@ import io.vavr.control.Either;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
@@ -86,6 +90,24 @@ public interface ActionManager {
 	public Documentation getDocumentation(
 		HttpServletRequest httpServletRequest);
 
+	/**
+	 * The API documentation with the list of actions and resources. The API's
+	 * title, description, and application URL are obtained from the provided
+	 * functions instead of from a request, so the documentation can be written
+	 * outside of one.
+	 *
+	 * @param  apiTitleSupplier the function that provides the API's title
+	 * @param  apiDescriptionSupplier the function that provides the API's
+	 *         description
+	 * @param  applicationURLSupplier the function that provides the
+	 *         application URL
+	 * @review
+	 */
+	public Documentation getDocumentation(
+		Supplier<Optional<APITitle>> apiTitleSupplier,
+		Supplier<Optional<APIDescription>> apiDescriptionSupplier,
+		Supplier<Optional<ApplicationURL>> applicationURLSupplier);
+
 	/**
 	 * The API entry point with the root resources.
 	 *
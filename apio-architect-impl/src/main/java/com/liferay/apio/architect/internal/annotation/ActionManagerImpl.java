@@ -14,16 +14,12 @@
 
 package com.liferay.apio.architect.internal.annotation;
 
-import static com.liferay.apio.architect.internal.action.Predicates.isAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isActionFor;
-import static com.liferay.apio.architect.internal.action.Predicates.isCreateAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isRemoveAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isReplaceAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isRootCollectionAction;
 import static com.liferay.apio.architect.internal.action.converter.EntryPointConverter.getEntryPointFrom;
 import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonToBody;
 import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.multipartToBody;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.vavr.Predicates.instanceOf;
 import static io.vavr.control.Either.left;
@@ -31,6 +27,7 @@ import static io.vavr.control.Either.right;
 
 import static java.util.function.Function.identity;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA_TYPE;
 
@@ -42,10 +39,17 @@ import com.liferay.apio.architect.documentation.APIDescription;
 import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.action.ActionSemanticsIndex;
+import com.liferay.apio.architect.internal.alias.ProvideFunction;
+import com.liferay.apio.architect.internal.alias.ResolveFunction;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotFound;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.pagination.PageIterable;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.response.cache.RenderedSingleModel;
+import com.liferay.apio.architect.internal.response.cache.SingleModelResponseCache;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
@@ -55,6 +59,8 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ItemRouter
 import com.liferay.apio.architect.internal.wiring.osgi.manager.router.NestedCollectionRouterManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.router.ReusableNestedCollectionRouterManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.GenericParent;
 import com.liferay.apio.architect.resource.Resource.Item;
@@ -99,15 +105,10 @@ public class ActionManagerImpl implements ActionManager {
 	 * @review
 	 */
 	public Stream<ActionSemantics> actionSemantics() {
-		return Stream.of(
-			_actionRouterManager.getActionSemantics(),
-			_itemRouterManager.getActionSemantics(),
-			_collectionRouterManager.getActionSemantics(),
-			_reusableNestedCollectionRouterManager.getActionSemantics(),
-			_nestedCollectionRouterManager.getActionSemantics()
-		).flatMap(
-			identity()
-		);
+		ActionSemanticsIndex actionSemanticsIndex =
+			_getActionSemanticsIndex();
+
+		return actionSemanticsIndex.getActionSemantics();
 	}
 
 	@Override
@@ -120,10 +121,11 @@ public class ActionManagerImpl implements ActionManager {
 			Paged paged = Paged.of(params.get(0));
 
 			if ("GET".equals(method)) {
-				return _getAction(paged, isRootCollectionAction);
+				return _getAction(
+					paged, "GET", "retrieve", isRootCollectionAction);
 			}
 			else if ("POST".equals(method)) {
-				return _getAction(paged, isCreateAction);
+				return _getAction(paged, "POST", "create");
 			}
 		}
 		else if (numberOfParams == 2) {
@@ -131,7 +133,7 @@ public class ActionManagerImpl implements ActionManager {
 			String actionName = params.get(1);
 
 			Either<Error, Action> pagedActionEither = _getAction(
-				paged, isAction(actionName, method));
+				paged, method, actionName);
 
 			if (pagedActionEither.isRight()) {
 				return pagedActionEither;
@@ -141,13 +143,25 @@ public class ActionManagerImpl implements ActionManager {
 
 			if (item != null) {
 				if ("DELETE".equals(method)) {
-					return _getAction(item, isRemoveAction);
+					return _getAction(
+						item, "DELETE", "remove"
+					).map(
+						action -> _getInvalidatingAction(item, action)
+					);
 				}
 				else if ("PUT".equals(method)) {
-					return _getAction(item, isReplaceAction);
+					return _getAction(
+						item, "PUT", "replace"
+					).map(
+						action -> _getInvalidatingAction(item, action)
+					);
 				}
 				else if ("GET".equals(method)) {
-					return _getAction(item, isRetrieveAction);
+					return _getAction(
+						item, "GET", "retrieve"
+					).map(
+						action -> _getCachedAction(item, action)
+					);
 				}
 			}
 		}
@@ -157,10 +171,10 @@ public class ActionManagerImpl implements ActionManager {
 
 			if (genericParent != null) {
 				if ("GET".equals(method)) {
-					return _getAction(genericParent, isRetrieveAction);
+					return _getAction(genericParent, "GET", "retrieve");
 				}
 				else if ("POST".equals(method)) {
-					return _getAction(genericParent, isCreateAction);
+					return _getAction(genericParent, "POST", "create");
 				}
 			}
 			else {
@@ -175,19 +189,24 @@ public class ActionManagerImpl implements ActionManager {
 					}
 
 					Either<Error, Action> itemEither = _getAction(
-						item, isAction(params.get(2), method));
+						item, method, params.get(2));
 
 					if (itemEither.isRight()) {
-						return itemEither;
+						if ("GET".equals(method)) {
+							return itemEither;
+						}
+
+						return itemEither.map(
+							action -> _getInvalidatingAction(item, action));
 					}
 
 					Nested nested = Nested.of(item, params.get(2));
 
 					if ("GET".equals(method)) {
-						return _getAction(nested, isRetrieveAction);
+						return _getAction(nested, "GET", "retrieve");
 					}
 					else if ("POST".equals(method)) {
-						return _getAction(nested, isCreateAction);
+						return _getAction(nested, "POST", "create");
 					}
 				}
 			}
@@ -197,8 +216,7 @@ public class ActionManagerImpl implements ActionManager {
 				params.get(0), params.get(1), params.get(2));
 
 			if (genericParent != null) {
-				return _getAction(
-					genericParent, isAction(params.get(3), method));
+				return _getAction(genericParent, method, params.get(3));
 			}
 
 			Item item = _getItem(params.get(0), params.get(1));
@@ -206,7 +224,7 @@ public class ActionManagerImpl implements ActionManager {
 			if (item != null) {
 				Nested nested = Nested.of(item, params.get(2));
 
-				return _getAction(nested, isAction(params.get(3), method));
+				return _getAction(nested, method, params.get(3));
 			}
 		}
 
@@ -217,13 +235,16 @@ public class ActionManagerImpl implements ActionManager {
 	public Stream<ActionSemantics> getActionSemantics(
 		Resource resource, Credentials credentials) {
 
-		Stream<ActionSemantics> stream = actionSemantics();
+		ActionSemanticsIndex actionSemanticsIndex =
+			_getActionSemanticsIndex();
 
-		return stream.filter(
-			isActionFor(resource)
-		).map(
-			actionSemantics -> actionSemantics.withResource(resource)
-		);
+		List<ActionSemantics> list = actionSemanticsIndex.getActionSemantics(
+			resource);
+
+		Stream<ActionSemantics> stream = list.stream();
+
+		return stream.map(
+			actionSemantics -> actionSemantics.withResource(resource));
 	}
 
 	@Override
@@ -242,6 +263,16 @@ public class ActionManagerImpl implements ActionManager {
 			() -> providerManager.provideOptional(
 				httpServletRequest, ApplicationURL.class);
 
+		return getDocumentation(
+			apiTitleSupplier, apiDescriptionSupplier, applicationUrlSupplier);
+	}
+
+	@Override
+	public Documentation getDocumentation(
+		Supplier<Optional<APITitle>> apiTitleSupplier,
+		Supplier<Optional<APIDescription>> apiDescriptionSupplier,
+		Supplier<Optional<ApplicationURL>> applicationURLSupplier) {
+
 		Stream<ActionSemantics> stream = actionSemantics();
 
 		Stream<Resource> resourceStream = stream.map(
@@ -249,7 +280,7 @@ public class ActionManagerImpl implements ActionManager {
 		).distinct();
 
 		return new Documentation(
-			apiTitleSupplier, apiDescriptionSupplier, applicationUrlSupplier,
+			apiTitleSupplier, apiDescriptionSupplier, applicationURLSupplier,
 			() -> _representableManager.getRepresentors(), resourceStream,
 			resource -> getActionSemantics(resource, null),
 			() -> _customDocumentationManager.getCustomDocumentation());
@@ -264,8 +295,10 @@ public class ActionManagerImpl implements ActionManager {
 	public Optional<SingleModel> getItemSingleModel(
 		Item item, HttpServletRequest request) {
 
+		_singleModelResponseCache.addDependency(item, request);
+
 		return Either.narrow(
-			_getAction(item, isRetrieveAction)
+			_getAction(item, "GET", "retrieve")
 		).map(
 			action -> action.apply(request)
 		).map(
@@ -284,15 +317,34 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	protected ProviderManager providerManager;
 
+	private void _computeActionSemanticsIndex() {
+		Stream<Stream<ActionSemantics>> stream = Stream.of(
+			_actionRouterManager.getActionSemantics(),
+			_itemRouterManager.getActionSemantics(),
+			_collectionRouterManager.getActionSemantics(),
+			_reusableNestedCollectionRouterManager.getActionSemantics(),
+			_nestedCollectionRouterManager.getActionSemantics());
+
+		INSTANCE.putActionSemanticsIndex(
+			new ActionSemanticsIndex(stream.flatMap(identity())));
+	}
+
 	private Either<Action.Error, Action> _getAction(
-		Resource resource, Predicate<ActionSemantics> predicate) {
+		Resource resource, String method, String name) {
 
-		Stream<ActionSemantics> actionSemanticsStream = actionSemantics();
+		return _getAction(resource, method, name, actionSemantics -> true);
+	}
+
+	private Either<Action.Error, Action> _getAction(
+		Resource resource, String method, String name,
+		Predicate<ActionSemantics> predicate) {
+
+		ActionSemanticsIndex actionSemanticsIndex =
+			_getActionSemanticsIndex();
 
 		Optional<ActionSemantics> optionalActionSemantics =
-			actionSemanticsStream.filter(
-				predicate.and(isActionFor(resource))
-			).findFirst();
+			actionSemanticsIndex.getActionSemanticsOptional(
+				resource, method, name, predicate);
 
 		if (!optionalActionSemantics.isPresent()) {
 			return left(_notFound);
@@ -303,7 +355,18 @@ public class ActionManagerImpl implements ActionManager {
 		ActionSemantics updatedActionSemantics = actionSemantics.withResource(
 			resource);
 
-		return right(updatedActionSemantics.toAction(this::_provide));
+		Action action = updatedActionSemantics.toAction(_provideFunction);
+
+		if (Page.class.equals(updatedActionSemantics.getReturnClass())) {
+			return right(_getPageAction(action));
+		}
+
+		return right(action);
+	}
+
+	private ActionSemanticsIndex _getActionSemanticsIndex() {
+		return INSTANCE.getActionSemanticsIndex(
+			this::_computeActionSemanticsIndex);
 	}
 
 	private Either<Action.Error, Action> _getBinaryFileAction(
@@ -347,6 +410,19 @@ public class ActionManagerImpl implements ActionManager {
 		throw new NotSupportedException();
 	}
 
+	private Action _getCachedAction(Item item, Action action) {
+		return request -> {
+			Optional<RenderedSingleModel> optional =
+				_singleModelResponseCache.get(item, request);
+
+			if (optional.isPresent()) {
+				return Try.success(optional.get());
+			}
+
+			return action.apply(request);
+		};
+	}
+
 	private GenericParent _getGenericParent(
 		String name, String genericParentName, String genericParentStringId) {
 
@@ -369,6 +445,18 @@ public class ActionManagerImpl implements ActionManager {
 		).getOrNull();
 	}
 
+	private Action _getInvalidatingAction(Item item, Action action) {
+		return request -> {
+			Object object = action.apply(request);
+
+			if (!(object instanceof Try) || ((Try)object).isSuccess()) {
+				_singleModelResponseCache.invalidate(item);
+			}
+
+			return object;
+		};
+	}
+
 	private Item _getItem(String name, String stringId) {
 		return Optional.ofNullable(
 			_getId(name, stringId)
@@ -379,65 +467,167 @@ public class ActionManagerImpl implements ActionManager {
 		);
 	}
 
-	private Object _provide(
-		ActionSemantics actionSemantics, HttpServletRequest request,
-		Class<?> clazz) {
+	private Page<Object> _getPage(
+		Action action, HttpServletRequest request, Pagination pagination) {
+
+		request.setAttribute(_PAGINATION_ATTRIBUTE, pagination);
+
+		try {
+			Try<Page<Object>> pageTry = unsafeCast(action.apply(request));
+
+			return pageTry.get();
+		}
+		finally {
+			request.removeAttribute(_PAGINATION_ATTRIBUTE);
+		}
+	}
+
+	private Action _getPageAction(Action action) {
+		return request -> {
+			Object object = action.apply(request);
+
+			if (!_isExportRequest(request)) {
+				return object;
+			}
+
+			Try<Page<Object>> pageTry = unsafeCast(object);
+
+			return pageTry.map(
+				page -> new PageIterable<>(
+					page,
+					pageNumber -> _getPage(
+						action, request,
+						new PaginationImpl(
+							page.getItemsPerPage(), pageNumber))));
+		};
+	}
 
+	private ResolveFunction _getResolveFunction(Class<?> clazz) {
 		if (Void.class.equals(clazz)) {
-			return null;
+			return (actionSemantics, request) -> null;
 		}
 
 		if (Body.class.equals(clazz)) {
-			return actionSemantics.getBodyValue(_getBody(request));
+			return (actionSemantics, request) -> actionSemantics.getBodyValue(
+				_getBody(request));
 		}
 
 		if (Id.class.equals(clazz)) {
-			return Optional.of(
-				actionSemantics.getResource()
-			).filter(
-				instanceOf(Item.class)
-			).map(
-				Item.class::cast
-			).flatMap(
-				Item::getIdOptional
-			).orElseThrow(
-				NotFoundException::new
-			);
+			return (actionSemantics, request) -> _provideId(actionSemantics);
 		}
 
 		if (ParentId.class.equals(clazz)) {
-			return Optional.of(
-				actionSemantics.getResource()
-			).filter(
-				instanceOf(Nested.class)
-			).map(
-				Nested.class::cast
-			).map(
-				Nested::getParentItem
-			).flatMap(
-				Item::getIdOptional
-			).orElseThrow(
-				NotFoundException::new
-			);
+			return (actionSemantics, request) -> _provideParentId(
+				actionSemantics);
 		}
 
 		if (GenericParentId.class.equals(clazz)) {
-			return Optional.of(
-				actionSemantics.getResource()
-			).filter(
-				instanceOf(GenericParent.class)
-			).map(
-				GenericParent.class::cast
-			).flatMap(
-				GenericParent::getParentIdOptional
-			).orElseThrow(
-				NotFoundException::new
+			return (actionSemantics, request) -> _provideGenericParentId(
+				actionSemantics);
+		}
+
+		if (Pagination.class.equals(clazz)) {
+			return (actionSemantics, request) -> Optional.ofNullable(
+				request.getAttribute(_PAGINATION_ATTRIBUTE)
+			).orElseGet(
+				() -> providerManager.provideMandatory(request, clazz)
 			);
 		}
 
-		return providerManager.provideMandatory(request, clazz);
+		return (actionSemantics, request) -> providerManager.provideMandatory(
+			request, clazz);
 	}
 
+	/**
+	 * Returns {@code true} if the request accepts the export media type. This
+	 * is only a hint: the page's writers negotiate the response's media type,
+	 * and write an export's first page as a regular page if the negotiation
+	 * doesn't select the export media type.
+	 */
+	private boolean _isExportRequest(HttpServletRequest request) {
+		String accept = request.getHeader(ACCEPT);
+
+		if ((accept != null) && accept.contains(_NDJSON_MEDIA_TYPE)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private Object _provideGenericParentId(ActionSemantics actionSemantics) {
+		return Optional.of(
+			actionSemantics.getResource()
+		).filter(
+			instanceOf(GenericParent.class)
+		).map(
+			GenericParent.class::cast
+		).flatMap(
+			GenericParent::getParentIdOptional
+		).orElseThrow(
+			NotFoundException::new
+		);
+	}
+
+	private Object _provideId(ActionSemantics actionSemantics) {
+		return Optional.of(
+			actionSemantics.getResource()
+		).filter(
+			instanceOf(Item.class)
+		).map(
+			Item.class::cast
+		).flatMap(
+			Item::getIdOptional
+		).orElseThrow(
+			NotFoundException::new
+		);
+	}
+
+	private Object _provideParentId(ActionSemantics actionSemantics) {
+		return Optional.of(
+			actionSemantics.getResource()
+		).filter(
+			instanceOf(Nested.class)
+		).map(
+			Nested.class::cast
+		).map(
+			Nested::getParentItem
+		).flatMap(
+			Item::getIdOptional
+		).orElseThrow(
+			NotFoundException::new
+		);
+	}
+
+	/**
+	 * Provides the params of the actions by compiling a specialized {@link
+	 * ResolveFunction} for each param class.
+	 */
+	private class ActionProvideFunction implements ProvideFunction {
+
+		@Override
+		public Object apply(
+			ActionSemantics actionSemantics, HttpServletRequest request,
+			Class<?> clazz) {
+
+			ResolveFunction resolveFunction = getResolveFunction(clazz);
+
+			return resolveFunction.apply(actionSemantics, request);
+		}
+
+		@Override
+		public ResolveFunction getResolveFunction(Class<?> clazz) {
+			return _getResolveFunction(clazz);
+		}
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
+	private static final String _NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+	private static final String _PAGINATION_ATTRIBUTE =
+		ActionManagerImpl.class.getName() + "#PAGINATION";
+
 	private static final NotFound _notFound = new NotFound() {
 	};
 
@@ -456,6 +646,9 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	private NestedCollectionRouterManager _nestedCollectionRouterManager;
 
+	private final ProvideFunction _provideFunction =
+		new ActionProvideFunction();
+
 	@Reference
 	private RepresentableManager _representableManager;
 
@@ -463,4 +656,7 @@ public class ActionManagerImpl implements ActionManager {
 	private ReusableNestedCollectionRouterManager
 		_reusableNestedCollectionRouterManager;
 
+	@Reference
+	private SingleModelResponseCache _singleModelResponseCache;
+
 }
\ No newline at end of file
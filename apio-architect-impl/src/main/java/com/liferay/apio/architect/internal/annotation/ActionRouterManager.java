@@ -23,6 +23,7 @@ import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUt
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.isListBody;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.needsParameterFromBody;
 import static com.liferay.apio.architect.internal.annotation.util.AnnotationUtil.findAnnotationInMethodOrInItsAnnotations;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.ACTION_SEMANTICS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.leangen.geantyref.GenericTypeReflector.annotate;
@@ -78,7 +79,7 @@ public class ActionRouterManager {
 
 	@Deactivate
 	public void deactivate() {
-		INSTANCE.clear();
+		INSTANCE.clear(ACTION_SEMANTICS);
 	}
 
 	public Stream<ActionSemantics> getActionSemantics() {
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.annotation;
 
 import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.REPRESENTABLES;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.annotation.Vocabulary.Type;
@@ -47,7 +48,7 @@ public class ActionRouterRepresentorManager {
 
 	@Activate
 	public void activate() {
-		INSTANCE.clear();
+		INSTANCE.clear(REPRESENTABLES);
 	}
 
 	/**
@@ -86,7 +87,7 @@ public class ActionRouterRepresentorManager {
 
 	@Deactivate
 	public void deactivate() {
-		INSTANCE.clear();
+		INSTANCE.clear(REPRESENTABLES);
 	}
 
 	@Reference
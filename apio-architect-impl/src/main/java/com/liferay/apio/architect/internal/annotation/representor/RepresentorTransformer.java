@@ -35,13 +35,12 @@ import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.representor.Representor.FirstStep;
 
-import io.vavr.control.Try;
-
 import java.lang.reflect.Method;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -78,14 +77,18 @@ public class RepresentorTransformer {
 		Representor.Builder<T, S> builder = _createBuilder(
 			typeClass, nameFunction, unsafeCast(relatedCollections));
 
+		Function<T, S> identifierFunction = Optional.ofNullable(
+			parsedType.getIdMethod()
+		).<Function<T, S>>map(
+			RepresentorTransformerUtil::getMethodFunction
+		).orElse(
+			t -> null
+		);
+
 		FirstStep<T> firstStep = builder.types(
 			type.value()
 		).identifier(
-			t -> Try.of(
-				parsedType::getIdMethod
-			).mapTry(
-				method -> (S)method.invoke(t)
-			).getOrNull()
+			identifierFunction
 		);
 
 		_processFields(parsedType, firstStep);
@@ -149,9 +152,7 @@ public class RepresentorTransformer {
 
 				firstStep.addRelatedCollection(
 					fieldData.getFieldName(), linkTo.resource(),
-					model -> Try.of(
-						() -> method.invoke(model)
-					).getOrNull());
+					getMethodFunction(method));
 
 				Class<? extends Identifier<?>> typeClass = linkTo.resource();
 
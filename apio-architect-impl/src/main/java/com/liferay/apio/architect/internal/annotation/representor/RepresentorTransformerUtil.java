@@ -25,7 +25,6 @@ import com.liferay.apio.architect.annotation.Vocabulary.Field;
 import com.liferay.apio.architect.annotation.Vocabulary.LinkTo;
 import com.liferay.apio.architect.annotation.Vocabulary.RelativeURL;
 import com.liferay.apio.architect.file.BinaryFile;
-import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.internal.annotation.representor.processor.FieldData;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
 import com.liferay.apio.architect.language.AcceptLanguage;
@@ -152,22 +151,44 @@ public class RepresentorTransformerUtil {
 		);
 	}
 
+	/**
+	 * Returns a function that calls the method with one argument on the model.
+	 * If the call fails, the function returns {@code null}.
+	 *
+	 * @param  method the method
+	 * @return the function that calls the method
+	 * @review
+	 */
 	public static <A, T, S> BiFunction<T, A, S> getMethodBiFunction(
 		Method method) {
 
-		return (t, a) -> Try.fromFallible(
-			() -> (S)method.invoke(t, a)
-		).orElse(
-			null
-		);
+		return (t, a) -> {
+			try {
+				return unsafeCast(method.invoke(t, a));
+			}
+			catch (Exception e) {
+				return null;
+			}
+		};
 	}
 
+	/**
+	 * Returns a function that calls the method without arguments on the
+	 * model. If the call fails, the function returns {@code null}.
+	 *
+	 * @param  method the method
+	 * @return the function that calls the method
+	 * @review
+	 */
 	public static <T, S> Function<T, S> getMethodFunction(Method method) {
-		return t -> Try.fromFallible(
-			() -> (S)method.invoke(t)
-		).orElse(
-			null
-		);
+		return t -> {
+			try {
+				return unsafeCast(method.invoke(t));
+			}
+			catch (Exception e) {
+				return null;
+			}
+		};
 	}
 
 	private static void _addBasicFields(
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.annotation.representor.processor;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.PARSED_TYPES;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.leangen.geantyref.GenericTypeReflector.annotate;
@@ -54,7 +55,7 @@ public class ParsedTypeManager {
 
 	@Deactivate
 	public void deactivate() {
-		INSTANCE.clear();
+		INSTANCE.clear(PARSED_TYPES);
 	}
 
 	/**
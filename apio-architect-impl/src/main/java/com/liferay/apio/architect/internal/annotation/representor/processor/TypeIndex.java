@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.representor.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.Vocabulary.Field;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Contains the annotated methods of a type, read from the index generated for
+ * the type at compile time by the Apio Architect annotation processor. The
+ * index lets {@link TypeProcessor} find the methods directly, instead of
+ * scanning every method of the type.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class TypeIndex {
+
+	/**
+	 * Returns the index of the type, if the type was compiled with the
+	 * annotation processor and its index matches the type; {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  typeClass the annotated type
+	 * @return the type's index, if present; {@code Optional#empty()} otherwise
+	 */
+	public static Optional<TypeIndex> of(Class<?> typeClass) {
+		ClassLoader classLoader = typeClass.getClassLoader();
+
+		if (classLoader == null) {
+			return Optional.empty();
+		}
+
+		InputStream inputStream = classLoader.getResourceAsStream(
+			_TYPE_INDEX_PATH + typeClass.getName());
+
+		if (inputStream == null) {
+			return Optional.empty();
+		}
+
+		TypeIndex typeIndex = new TypeIndex();
+
+		try (BufferedReader bufferedReader = new BufferedReader(
+				new InputStreamReader(inputStream, UTF_8))) {
+
+			String line;
+
+			while ((line = bufferedReader.readLine()) != null) {
+				if (line.isEmpty()) {
+					continue;
+				}
+
+				String[] parts = line.split(" ");
+
+				if ("id".equals(parts[0])) {
+					Method method = _getMethod(typeClass, parts, Id.class);
+
+					if (typeIndex._idMethod == null) {
+						typeIndex._idMethod = method;
+					}
+				}
+				else if ("field".equals(parts[0])) {
+					typeIndex._fieldMethods.add(
+						_getMethod(typeClass, parts, Field.class));
+				}
+			}
+		}
+		catch (IOException | ReflectiveOperationException e) {
+			return Optional.empty();
+		}
+
+		return Optional.of(typeIndex);
+	}
+
+	/**
+	 * Returns the type's methods annotated with {@link Field}.
+	 *
+	 * @return the methods annotated with {@link Field}
+	 */
+	public List<Method> getFieldMethods() {
+		return _fieldMethods;
+	}
+
+	/**
+	 * Returns the type's method annotated with {@link Id}, if present; {@code
+	 * null} otherwise.
+	 *
+	 * @return the method annotated with {@link Id}, if present; {@code null}
+	 *         otherwise
+	 */
+	public Method getIdMethod() {
+		return _idMethod;
+	}
+
+	private static Method _getMethod(
+			Class<?> typeClass, String[] parts,
+			Class<? extends Annotation> annotationClass)
+		throws ReflectiveOperationException {
+
+		Class<?>[] parameterTypes = new Class<?>[parts.length - 2];
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			parameterTypes[i] = ClassUtils.getClass(
+				typeClass.getClassLoader(), parts[i + 2], false);
+		}
+
+		Method method = typeClass.getMethod(parts[1], parameterTypes);
+
+		if (!method.isAnnotationPresent(annotationClass)) {
+			throw new NoSuchMethodException(
+				"Method " + method + " is not annotated with " +
+					annotationClass);
+		}
+
+		return method;
+	}
+
+	private TypeIndex() {
+	}
+
+	private static final String _TYPE_INDEX_PATH = "META-INF/apio/types/";
+
+	private final List<Method> _fieldMethods = new ArrayList<>();
+	private Method _idMethod;
+
+}
\ No newline at end of file
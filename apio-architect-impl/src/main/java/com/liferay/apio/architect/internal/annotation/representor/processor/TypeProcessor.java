@@ -30,6 +30,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Class responsible of extracting the data of an annotated type and construct a
@@ -73,6 +74,18 @@ public class TypeProcessor {
 		}
 	}
 
+	private static Method _findIdMethod(Class<?> typeClass) {
+		return Try.fromFallible(
+			() -> getMethodsListWithAnnotation(typeClass, Id.class)
+		).filter(
+			methods -> !methods.isEmpty()
+		).map(
+			methods -> methods.get(0)
+		).orElse(
+			null
+		);
+	}
+
 	private static void _processMethod(Builder builder, Method method) {
 		LinkTo linkTo = method.getAnnotation(LinkTo.class);
 
@@ -127,22 +140,23 @@ public class TypeProcessor {
 
 		Builder builder = new Builder(type, typeClass);
 
+		Optional<TypeIndex> optional = TypeIndex.of(typeClass);
+
 		if (!nested) {
-			Method idMethod = Try.fromFallible(
-				() -> getMethodsListWithAnnotation(typeClass, Id.class)
-			).filter(
-				methods -> !methods.isEmpty()
-			).map(
-				methods -> methods.get(0)
-			).orElse(
-				null
+			Method idMethod = optional.map(
+				TypeIndex::getIdMethod
+			).orElseGet(
+				() -> _findIdMethod(typeClass)
 			);
 
 			builder.idMethod(idMethod);
 		}
 
-		List<Method> methods = getMethodsListWithAnnotation(
-			typeClass, Field.class);
+		List<Method> methods = optional.map(
+			TypeIndex::getFieldMethods
+		).orElseGet(
+			() -> getMethodsListWithAnnotation(typeClass, Field.class)
+		);
 
 		methods.forEach(method -> _processMethod(builder, method));
 
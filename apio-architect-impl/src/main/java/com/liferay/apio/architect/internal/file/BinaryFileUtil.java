@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.file.SeekableSource;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+import java.util.Optional;
+
+/**
+ * Provides utility functions for transferring the content of a {@link
+ * BinaryFile} to an output stream. Content is always copied through a pooled
+ * buffer. Binary files with a {@link SeekableSource} are read from the start
+ * of the requested range, instead of skipping the bytes before it.
+ *
+ * <p>
+ * The response's output stream isn't a channel, so even files backed by a
+ * {@code FileChannel} can't be transferred without copying them.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class BinaryFileUtil {
+
+	/**
+	 * Transfers a range of the binary file to the output stream.
+	 *
+	 * @param  binaryFile the binary file
+	 * @param  byteRange the range to transfer
+	 * @param  outputStream the output stream
+	 * @throws IOException if the range couldn't be transferred
+	 */
+	public static void transferTo(
+			BinaryFile binaryFile, ByteRange byteRange,
+			OutputStream outputStream)
+		throws IOException {
+
+		Optional<SeekableSource> optional =
+			binaryFile.getSeekableSourceOptional();
+
+		if (optional.isPresent()) {
+			SeekableSource seekableSource = optional.get();
+
+			try (SeekableByteChannel seekableByteChannel =
+					seekableSource.open()) {
+
+				_transferTo(
+					seekableByteChannel, byteRange.getStart(),
+					byteRange.getLength(), outputStream);
+			}
+
+			return;
+		}
+
+		try (InputStream inputStream = binaryFile.getInputStream()) {
+			_skip(inputStream, byteRange.getStart());
+
+			_copy(inputStream, byteRange.getLength(), outputStream);
+		}
+	}
+
+	/**
+	 * Transfers the whole binary file to the output stream.
+	 *
+	 * @param  binaryFile the binary file
+	 * @param  outputStream the output stream
+	 * @throws IOException if the binary file couldn't be transferred
+	 */
+	public static void transferTo(
+			BinaryFile binaryFile, OutputStream outputStream)
+		throws IOException {
+
+		Optional<SeekableSource> optional =
+			binaryFile.getSeekableSourceOptional();
+
+		if (optional.isPresent()) {
+			SeekableSource seekableSource = optional.get();
+
+			try (SeekableByteChannel seekableByteChannel =
+					seekableSource.open()) {
+
+				_transferTo(
+					seekableByteChannel, 0, seekableByteChannel.size(),
+					outputStream);
+			}
+
+			return;
+		}
+
+		try (InputStream inputStream = binaryFile.getInputStream()) {
+			_copy(inputStream, Long.MAX_VALUE, outputStream);
+		}
+	}
+
+	private static void _copy(
+			InputStream inputStream, long count, OutputStream outputStream)
+		throws IOException {
+
+		byte[] buffer = _bufferThreadLocal.get();
+
+		while (count > 0) {
+			int length = inputStream.read(
+				buffer, 0, (int)Math.min(buffer.length, count));
+
+			if (length == -1) {
+				if (count == Long.MAX_VALUE) {
+					return;
+				}
+
+				throw new EOFException();
+			}
+
+			outputStream.write(buffer, 0, length);
+
+			if (count != Long.MAX_VALUE) {
+				count -= length;
+			}
+		}
+	}
+
+	private static void _skip(InputStream inputStream, long count)
+		throws IOException {
+
+		while (count > 0) {
+			long skipped = inputStream.skip(count);
+
+			if (skipped <= 0) {
+				if (inputStream.read() == -1) {
+					throw new EOFException();
+				}
+
+				skipped = 1;
+			}
+
+			count -= skipped;
+		}
+	}
+
+	private static void _transferTo(
+			SeekableByteChannel seekableByteChannel, long position, long count,
+			OutputStream outputStream)
+		throws IOException {
+
+		seekableByteChannel.position(position);
+
+		byte[] buffer = _bufferThreadLocal.get();
+
+		ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+
+		while (count > 0) {
+			byteBuffer.clear();
+
+			if (byteBuffer.remaining() > count) {
+				byteBuffer.limit((int)count);
+			}
+
+			int length = seekableByteChannel.read(byteBuffer);
+
+			if (length == -1) {
+				throw new EOFException();
+			}
+
+			outputStream.write(buffer, 0, length);
+
+			count -= length;
+		}
+	}
+
+	private BinaryFileUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _BUFFER_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<byte[]> _bufferThreadLocal =
+		ThreadLocal.withInitial(() -> new byte[_BUFFER_SIZE]);
+
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents a range of bytes of a binary file, as requested in a {@code Range}
+ * header. Both positions are inclusive.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ByteRange {
+
+	/**
+	 * Parses the value of a {@code Range} header for a binary file of the
+	 * provided size.
+	 *
+	 * <p>
+	 * This method returns {@code Optional#empty()} if the header is malformed,
+	 * uses a unit other than {@code bytes}, or contains too many ranges; in
+	 * those cases the header must be ignored. If none of the ranges can be
+	 * satisfied, the returned list is empty.
+	 * </p>
+	 *
+	 * @param  range the {@code Range} header's value
+	 * @param  size the binary file's size
+	 * @return the satisfiable ranges, if the header is valid; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static Optional<List<ByteRange>> parse(String range, long size) {
+		if ((range == null) || !range.startsWith(_PREFIX)) {
+			return Optional.empty();
+		}
+
+		String[] specs = range.substring(_PREFIX.length()).split(",");
+
+		if (specs.length > _MAX_RANGES) {
+			return Optional.empty();
+		}
+
+		List<ByteRange> byteRanges = new ArrayList<>();
+
+		for (String spec : specs) {
+			int index = spec.indexOf('-');
+
+			if (index == -1) {
+				return Optional.empty();
+			}
+
+			long first = _parse(spec.substring(0, index));
+			long last = _parse(spec.substring(index + 1));
+
+			if ((first == _INVALID) || (last == _INVALID) ||
+				((first == _MISSING) && (last == _MISSING)) ||
+				((first != _MISSING) && (last != _MISSING) && (last < first))) {
+
+				return Optional.empty();
+			}
+
+			long start;
+			long end = size - 1;
+
+			if (first == _MISSING) {
+				start = Math.max(size - last, 0);
+
+				if (last == 0) {
+					continue;
+				}
+			}
+			else {
+				start = first;
+
+				if (last != _MISSING) {
+					end = Math.min(last, end);
+				}
+			}
+
+			if (start < size) {
+				byteRanges.add(new ByteRange(start, end));
+			}
+		}
+
+		return Optional.of(byteRanges);
+	}
+
+	public ByteRange(long start, long end) {
+		_start = start;
+		_end = end;
+	}
+
+	/**
+	 * Returns the value of the {@code Content-Range} header for this range.
+	 *
+	 * @param  size the binary file's size
+	 * @return the {@code Content-Range} header's value
+	 */
+	public String getContentRange(long size) {
+		return "bytes " + _start + "-" + _end + "/" + size;
+	}
+
+	/**
+	 * Returns the position of the range's last byte.
+	 *
+	 * @return the position of the last byte
+	 */
+	public long getEnd() {
+		return _end;
+	}
+
+	/**
+	 * Returns the number of bytes in the range.
+	 *
+	 * @return the range's length
+	 */
+	public long getLength() {
+		return (_end - _start) + 1;
+	}
+
+	/**
+	 * Returns the position of the range's first byte.
+	 *
+	 * @return the position of the first byte
+	 */
+	public long getStart() {
+		return _start;
+	}
+
+	private static long _parse(String value) {
+		value = value.trim();
+
+		if (value.isEmpty()) {
+			return _MISSING;
+		}
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			if ((c < '0') || (c > '9')) {
+				return _INVALID;
+			}
+		}
+
+		try {
+			return Long.parseLong(value);
+		}
+		catch (NumberFormatException nfe) {
+			return _INVALID;
+		}
+	}
+
+	private static final long _INVALID = -2;
+
+	private static final int _MAX_RANGES = 16;
+
+	private static final long _MISSING = -1;
+
+	private static final String _PREFIX = "bytes=";
+
+	private final long _end;
+	private final long _start;
+
+}
\ No newline at end of file
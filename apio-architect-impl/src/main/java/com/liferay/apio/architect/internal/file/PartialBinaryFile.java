@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.util.List;
+
+/**
+ * Represents the ranges of a {@link BinaryFile} that must be sent in a {@code
+ * 206 Partial Content} response.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class PartialBinaryFile {
+
+	public PartialBinaryFile(
+		BinaryFile binaryFile, List<ByteRange> byteRanges) {
+
+		_binaryFile = binaryFile;
+		_byteRanges = byteRanges;
+	}
+
+	/**
+	 * Returns the complete binary file.
+	 *
+	 * @return the binary file
+	 */
+	public BinaryFile getBinaryFile() {
+		return _binaryFile;
+	}
+
+	/**
+	 * Returns the ranges that must be sent, in the requested order.
+	 *
+	 * @return the byte ranges
+	 */
+	public List<ByteRange> getByteRanges() {
+		return _byteRanges;
+	}
+
+	private final BinaryFile _binaryFile;
+	private final List<ByteRange> _byteRanges;
+
+}
\ No newline at end of file
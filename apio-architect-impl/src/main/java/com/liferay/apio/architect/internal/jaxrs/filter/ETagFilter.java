@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.filter;
+
+import static com.liferay.apio.architect.internal.jaxrs.util.EntityTagUtil.getEntityTag;
+import static com.liferay.apio.architect.internal.jaxrs.util.EntityTagUtil.hash;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+import static javax.ws.rs.core.HttpHeaders.AUTHORIZATION;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding;
+import com.liferay.apio.architect.internal.jaxrs.interceptor.EncodedDocument;
+import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.response.cache.RenderedSingleModel;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import io.vavr.control.Try;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.lang.annotation.Annotation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Adds a strong {@code ETag} to every {@code GET} response with a {@link
+ * SingleModel} entity or a cacheable document (e.g., the API documentation),
+ * and answers {@code 304 Not Modified} when the request's {@code If-None-Match}
+ * header matches it. Since the {@code ETag} of a compressed response carries
+ * the content coding as a suffix (see {@link
+ * ContentEncoding#getEntityTag(EntityTag)}), the tags of every content coding
+ * match.
+ *
+ * <p>
+ * If the model's representor declares a version function (see {@link
+ * Representor.FirstStep#version(java.util.function.Function)}) and the request
+ * doesn't embed related resources, the {@code ETag} is computed from the
+ * model's version and the request's representation-selecting headers, so a
+ * matching request is answered without rendering the model. Otherwise, the
+ * model is rendered and the {@code ETag} is computed from the rendered body.
+ * Single models served from the response cache are hashed directly.
+ * </p>
+ *
+ * <p>
+ * Cacheable documents use the entity tag computed when they were cached, so
+ * they're never hashed again.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Filter.ETag"
+	},
+	service = ContainerResponseFilter.class
+)
+public class ETagFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (!HttpMethod.GET.equals(containerRequestContext.getMethod()) ||
+			(containerResponseContext.getStatus() != _OK)) {
+
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (entity instanceof Try) {
+			Try<?> entityTry = (Try<?>)entity;
+
+			if (entityTry.isFailure()) {
+				return;
+			}
+
+			entity = entityTry.get();
+		}
+
+		EntityTag entityTag;
+
+		if (entity instanceof RenderedSingleModel) {
+			RenderedSingleModel renderedSingleModel =
+				(RenderedSingleModel)entity;
+
+			entityTag = getEntityTag(renderedSingleModel.getBytes());
+		}
+		else if (entity instanceof SingleModel) {
+			String hash = _getHash(
+				containerRequestContext, containerResponseContext,
+				unsafeCast(entity));
+
+			if (hash == null) {
+				return;
+			}
+
+			entityTag = new EntityTag(hash);
+		}
+		else {
+			Optional<EncodedDocument> optional = _getEncodedDocumentOptional(
+				entity, containerResponseContext);
+
+			if (!optional.isPresent()) {
+				return;
+			}
+
+			EncodedDocument encodedDocument = optional.get();
+
+			entityTag = encodedDocument.getEntityTag();
+		}
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.putSingle(ETAG, entityTag);
+
+		Response response = _evaluatePreconditions(entityTag, headers);
+
+		if (response == null) {
+			return;
+		}
+
+		containerResponseContext.setStatus(response.getStatus());
+		containerResponseContext.setEntity(null);
+	}
+
+	private Response _evaluatePreconditions(
+		EntityTag entityTag, MultivaluedMap<String, Object> headers) {
+
+		ResponseBuilder responseBuilder = _request.evaluatePreconditions(
+			entityTag);
+
+		if (responseBuilder != null) {
+			return responseBuilder.build();
+		}
+
+		for (ContentEncoding contentEncoding : ContentEncoding.values()) {
+			EntityTag encodedEntityTag = contentEncoding.getEntityTag(
+				entityTag);
+
+			if (encodedEntityTag == entityTag) {
+				continue;
+			}
+
+			responseBuilder = _request.evaluatePreconditions(encodedEntityTag);
+
+			if (responseBuilder == null) {
+				continue;
+			}
+
+			Response response = responseBuilder.build();
+
+			if (response.getStatus() == _NOT_MODIFIED) {
+				headers.putSingle(ETAG, encodedEntityTag);
+
+				return response;
+			}
+		}
+
+		return null;
+	}
+
+	private Optional<EncodedDocument> _getEncodedDocumentOptional(
+		Object entity, ContainerResponseContext containerResponseContext) {
+
+		Class<?> clazz = entity.getClass();
+
+		MessageBodyWriter<?> messageBodyWriter =
+			_providers.getMessageBodyWriter(
+				clazz, clazz, new Annotation[0],
+				containerResponseContext.getMediaType());
+
+		if (!(messageBodyWriter instanceof BaseMessageBodyWriter)) {
+			return Optional.empty();
+		}
+
+		BaseMessageBodyWriter<Object, ?> baseMessageBodyWriter = unsafeCast(
+			messageBodyWriter);
+
+		return baseMessageBodyWriter.getEncodedDocumentOptional(entity);
+	}
+
+	private String _getHash(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext,
+			SingleModel<Object> singleModel)
+		throws IOException {
+
+		Optional<String> versionOptional = _getVersionOptional(
+			containerRequestContext, singleModel);
+
+		if (versionOptional.isPresent()) {
+			String key = String.join(
+				"\n", versionOptional.get(),
+				_getRequestKey(containerRequestContext));
+
+			return hash(key.getBytes(UTF_8));
+		}
+
+		byte[] bytes = _render(singleModel, containerResponseContext);
+
+		if (bytes == null) {
+			return null;
+		}
+
+		return hash(bytes);
+	}
+
+	private String _getRequestKey(
+		ContainerRequestContext containerRequestContext) {
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		return String.join(
+			"\n", String.valueOf(uriInfo.getRequestUri()),
+			String.valueOf(containerRequestContext.getHeaderString(ACCEPT)),
+			String.valueOf(
+				containerRequestContext.getHeaderString(ACCEPT_LANGUAGE)),
+			String.valueOf(
+				containerRequestContext.getHeaderString(AUTHORIZATION)));
+	}
+
+	private Optional<String> _getVersionOptional(
+		ContainerRequestContext containerRequestContext,
+		SingleModel<Object> singleModel) {
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		MultivaluedMap<String, String> queryParameters =
+			uriInfo.getQueryParameters();
+
+		if (queryParameters.containsKey("embedded")) {
+			return Optional.empty();
+		}
+
+		Optional<Representor<Object>> optional =
+			_representableManager.getRepresentorOptional(
+				singleModel.getResourceName());
+
+		return optional.flatMap(
+			representor -> representor.getVersionOptional(
+				singleModel.getModel()));
+	}
+
+	private byte[] _render(
+			SingleModel<Object> singleModel,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		Class<?> clazz = singleModel.getClass();
+		Annotation[] annotations = new Annotation[0];
+		MediaType mediaType = containerResponseContext.getMediaType();
+
+		MessageBodyWriter<Object> messageBodyWriter = unsafeCast(
+			_providers.getMessageBodyWriter(
+				clazz, clazz, annotations, mediaType));
+
+		if (messageBodyWriter == null) {
+			return null;
+		}
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		messageBodyWriter.writeTo(
+			singleModel, clazz, clazz, annotations, mediaType, headers,
+			byteArrayOutputStream);
+
+		byte[] bytes = byteArrayOutputStream.toByteArray();
+
+		Object contentType = headers.getFirst(CONTENT_TYPE);
+
+		if (contentType != null) {
+			mediaType = MediaType.valueOf(String.valueOf(contentType));
+		}
+
+		MultivaluedMap<String, Object> responseHeaders =
+			containerResponseContext.getHeaders();
+
+		for (Map.Entry<String, List<Object>> entry : headers.entrySet()) {
+			responseHeaders.put(entry.getKey(), entry.getValue());
+		}
+
+		containerResponseContext.setEntity(bytes, annotations, mediaType);
+
+		return bytes;
+	}
+
+	private static final int _NOT_MODIFIED =
+		Status.NOT_MODIFIED.getStatusCode();
+
+	private static final int _OK = Status.OK.getStatusCode();
+
+	@Context
+	private Providers _providers;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	@Context
+	private Request _request;
+
+}
\ No newline at end of file
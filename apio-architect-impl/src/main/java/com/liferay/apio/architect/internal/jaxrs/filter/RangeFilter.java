@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.filter;
+
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.ByteRange;
+import com.liferay.apio.architect.internal.file.PartialBinaryFile;
+
+import io.vavr.control.Try;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response.Status;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Converts a {@code GET} response with a {@link BinaryFile} entity into a
+ * {@code 206 Partial Content} response, if the request contains a valid {@code
+ * Range} header (and its {@code If-Range} header, if any, matches the
+ * response's validators). Unsatisfiable ranges produce a {@code 416 Range Not
+ * Satisfiable} response.
+ *
+ * <p>
+ * Several ranges are only served for binary files created from a {@link
+ * com.liferay.apio.architect.file.SeekableSource}; otherwise the complete
+ * binary file is sent.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Filter.Range"
+	},
+	service = ContainerResponseFilter.class
+)
+public class RangeFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		if (!HttpMethod.GET.equals(containerRequestContext.getMethod()) ||
+			(containerResponseContext.getStatus() != _OK)) {
+
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (entity instanceof Try) {
+			Try<?> entityTry = (Try<?>)entity;
+
+			if (entityTry.isFailure()) {
+				return;
+			}
+
+			entity = entityTry.get();
+		}
+
+		if (!(entity instanceof BinaryFile)) {
+			return;
+		}
+
+		BinaryFile binaryFile = (BinaryFile)entity;
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.putSingle(_ACCEPT_RANGES, "bytes");
+
+		String range = containerRequestContext.getHeaderString(_RANGE);
+
+		if ((range == null) ||
+			!_matchesIfRange(
+				containerRequestContext.getHeaderString(_IF_RANGE),
+				containerResponseContext)) {
+
+			return;
+		}
+
+		long size = binaryFile.getSize();
+
+		Optional<List<ByteRange>> optional = ByteRange.parse(range, size);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		List<ByteRange> byteRanges = optional.get();
+
+		if (byteRanges.isEmpty()) {
+			headers.putSingle(_CONTENT_RANGE, "bytes */" + size);
+
+			containerResponseContext.setStatus(
+				Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode());
+			containerResponseContext.setEntity(null);
+
+			return;
+		}
+
+		Optional<?> seekableSourceOptional =
+			binaryFile.getSeekableSourceOptional();
+
+		if ((byteRanges.size() > 1) && !seekableSourceOptional.isPresent()) {
+			return;
+		}
+
+		containerResponseContext.setStatus(
+			Status.PARTIAL_CONTENT.getStatusCode());
+		containerResponseContext.setEntity(
+			new PartialBinaryFile(binaryFile, byteRanges));
+	}
+
+	private static boolean _matchesIfRange(
+		String ifRange, ContainerResponseContext containerResponseContext) {
+
+		if (ifRange == null) {
+			return true;
+		}
+
+		ifRange = ifRange.trim();
+
+		if (ifRange.startsWith("W/")) {
+			return false;
+		}
+
+		if (ifRange.startsWith("\"")) {
+			EntityTag entityTag = containerResponseContext.getEntityTag();
+
+			if ((entityTag == null) || entityTag.isWeak()) {
+				return false;
+			}
+
+			return ifRange.equals("\"" + entityTag.getValue() + "\"");
+		}
+
+		Date lastModified = containerResponseContext.getLastModified();
+
+		if (lastModified == null) {
+			return false;
+		}
+
+		try {
+			ZonedDateTime zonedDateTime = ZonedDateTime.parse(
+				ifRange, RFC_1123_DATE_TIME);
+
+			long seconds = zonedDateTime.toEpochSecond();
+
+			if (seconds == (lastModified.getTime() / 1000)) {
+				return true;
+			}
+
+			return false;
+		}
+		catch (DateTimeParseException dtpe) {
+			return false;
+		}
+	}
+
+	private static final String _ACCEPT_RANGES = "Accept-Ranges";
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+	private static final String _IF_RANGE = "If-Range";
+
+	private static final int _OK = Status.OK.getStatusCode();
+
+	private static final String _RANGE = "Range";
+
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.VARY;
+
+import java.io.IOException;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Compresses the response's entity with the content coding ({@code gzip} or
+ * {@code deflate}) preferred by the request's {@code Accept-Encoding} header.
+ * Entities are compressed while they're written, so streaming responses are
+ * never buffered. Entities smaller than the configured minimum size ({@code
+ * compression.min.size}) and entities whose media type isn't textual (e.g.,
+ * binary files) are sent unencoded.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Interceptor.Compression"
+	},
+	service = WriterInterceptor.class
+)
+public class CompressionInterceptor implements WriterInterceptor {
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		if (!_enabled) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		_addVary(headers);
+
+		ContentEncoding contentEncoding = ContentEncoding.negotiate(
+			_httpHeaders.getHeaderString(ACCEPT_ENCODING));
+
+		if (contentEncoding == ContentEncoding.IDENTITY) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		ContentEncodingOutputStream contentEncodingOutputStream =
+			new ContentEncodingOutputStream(
+				writerInterceptorContext.getOutputStream(), headers,
+				contentEncoding, _minSize);
+
+		writerInterceptorContext.setOutputStream(contentEncodingOutputStream);
+
+		writerInterceptorContext.proceed();
+
+		contentEncodingOutputStream.finish();
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		Object enabled = properties.get("compression.enabled");
+
+		_enabled =
+			(enabled == null) || Boolean.parseBoolean(String.valueOf(enabled));
+
+		_minSize = _getInt(properties, "compression.min.size", _MIN_SIZE);
+	}
+
+	private void _addVary(MultivaluedMap<String, Object> headers) {
+		Object vary = headers.getFirst(VARY);
+
+		if (vary == null) {
+			headers.putSingle(VARY, ACCEPT_ENCODING);
+		}
+		else if (!String.valueOf(vary).contains(ACCEPT_ENCODING)) {
+			headers.putSingle(VARY, vary + ", " + ACCEPT_ENCODING);
+		}
+	}
+
+	private int _getInt(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(String.valueOf(value).trim());
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	private static final int _MIN_SIZE = 1024;
+
+	private volatile boolean _enabled = true;
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	private volatile int _minSize = _MIN_SIZE;
+
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Represents the content codings that can be applied to a response.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public enum ContentEncoding {
+
+	DEFLATE("deflate"), GZIP("gzip"), IDENTITY("identity");
+
+	/**
+	 * Returns the content coding preferred by the client, based on the value of
+	 * an {@code Accept-Encoding} header. If the header is missing, or none of
+	 * the supported codings is acceptable, this method returns {@link
+	 * #IDENTITY}. When {@code gzip} and {@code deflate} have the same quality,
+	 * {@code gzip} is preferred.
+	 *
+	 * @param  acceptEncoding the {@code Accept-Encoding} header's value
+	 * @return the preferred content coding
+	 */
+	public static ContentEncoding negotiate(String acceptEncoding) {
+		if ((acceptEncoding == null) || acceptEncoding.isEmpty()) {
+			return IDENTITY;
+		}
+
+		float deflateQuality = -1;
+		float gzipQuality = -1;
+		float wildcardQuality = -1;
+
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+
+			String coding = parts[0].trim();
+
+			coding = coding.toLowerCase(Locale.ENGLISH);
+
+			float quality = _getQuality(parts);
+
+			if (coding.equals("deflate")) {
+				deflateQuality = quality;
+			}
+			else if (coding.equals("gzip") || coding.equals("x-gzip")) {
+				gzipQuality = quality;
+			}
+			else if (coding.equals("*")) {
+				wildcardQuality = quality;
+			}
+		}
+
+		if (gzipQuality < 0) {
+			gzipQuality = wildcardQuality;
+		}
+
+		if (deflateQuality < 0) {
+			deflateQuality = wildcardQuality;
+		}
+
+		if ((gzipQuality > 0) && (gzipQuality >= deflateQuality)) {
+			return GZIP;
+		}
+
+		if (deflateQuality > 0) {
+			return DEFLATE;
+		}
+
+		return IDENTITY;
+	}
+
+	/**
+	 * Returns the provided bytes encoded with this content coding.
+	 *
+	 * @param  bytes the bytes
+	 * @return the encoded bytes
+	 */
+	public byte[] encode(byte[] bytes) {
+		if (this == IDENTITY) {
+			return bytes;
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(
+			(bytes.length / 4) + 64);
+
+		try (OutputStream outputStream = wrap(byteArrayOutputStream)) {
+			outputStream.write(bytes);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	/**
+	 * Returns the entity tag of a representation encoded with this content
+	 * coding, given the strong entity tag of the unencoded representation. The
+	 * encoded representation has different bytes, so its tag is the unencoded
+	 * one with the coding's name as a suffix (e.g., {@code "abc-gzip"}). Weak
+	 * tags, and tags for {@link #IDENTITY}, are returned unchanged.
+	 *
+	 * @param  entityTag the entity tag of the unencoded representation
+	 * @return the entity tag of the encoded representation
+	 */
+	public EntityTag getEntityTag(EntityTag entityTag) {
+		if ((this == IDENTITY) || entityTag.isWeak()) {
+			return entityTag;
+		}
+
+		return new EntityTag(entityTag.getValue() + "-" + _name);
+	}
+
+	/**
+	 * Returns the name of this content coding, as used in the {@code
+	 * Content-Encoding} header.
+	 *
+	 * @return the content coding's name
+	 */
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * Returns an output stream that encodes everything written to it with this
+	 * content coding before writing it to the provided output stream. Flushing
+	 * the returned stream flushes the data compressed so far, so streaming
+	 * responses aren't delayed.
+	 *
+	 * @param  outputStream the output stream
+	 * @return the encoding output stream
+	 * @throws IOException if the stream couldn't be created
+	 */
+	public OutputStream wrap(OutputStream outputStream) throws IOException {
+		if (this == DEFLATE) {
+			return new DeflaterOutputStream(outputStream, true);
+		}
+
+		if (this == GZIP) {
+			return new GZIPOutputStream(outputStream, _BUFFER_SIZE, true);
+		}
+
+		return outputStream;
+	}
+
+	private static float _getQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+
+			if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+				try {
+					return Float.parseFloat(parameter.substring(2));
+				}
+				catch (NumberFormatException nfe) {
+					return 0;
+				}
+			}
+		}
+
+		return 1;
+	}
+
+	private ContentEncoding(String name) {
+		_name = name;
+	}
+
+	private static final int _BUFFER_SIZE = 8192;
+
+	private final String _name;
+
+}
\ No newline at end of file
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.Locale;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Encodes a response's entity with a content coding, without buffering the
+ * whole entity. The first bytes are kept until the minimum size is reached, so
+ * small responses are sent unencoded. Once the minimum size is reached, the
+ * response's {@code Content-Encoding} header is set, its {@code ETag} header is
+ * replaced with the tag of the encoded entity (see {@link
+ * ContentEncoding#getEntityTag(EntityTag)}), and the rest of the entity is
+ * encoded while it's written. Partial responses (those with a {@code
+ * Content-Range} header) are never encoded.
+ *
+ * <p>
+ * Writers that keep an already encoded version of an entity can bypass the
+ * encoding by calling {@link #writeEncoded(ContentEncoding, byte[])}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ContentEncodingOutputStream extends OutputStream {
+
+	public ContentEncodingOutputStream(
+		OutputStream outputStream, MultivaluedMap<String, Object> headers,
+		ContentEncoding contentEncoding, int minSize) {
+
+		_outputStream = outputStream;
+		_headers = headers;
+		_contentEncoding = contentEncoding;
+		_minSize = Math.max(minSize, 0);
+
+		_buffer = new byte[_minSize];
+	}
+
+	@Override
+	public void close() throws IOException {
+		finish();
+
+		_outputStream.close();
+	}
+
+	/**
+	 * Writes the pending bytes and completes the encoded entity, without
+	 * closing the underlying output stream.
+	 *
+	 * @throws IOException if the entity couldn't be written
+	 */
+	public void finish() throws IOException {
+		if (_finished) {
+			return;
+		}
+
+		_finished = true;
+
+		if (_delegate == null) {
+			_start(false);
+		}
+
+		if (_delegate != _outputStream) {
+			_delegate.close();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (_delegate != null) {
+			_delegate.flush();
+		}
+	}
+
+	/**
+	 * Returns the content coding that should be used for an entity of the
+	 * provided length.
+	 *
+	 * @param  length the entity's length
+	 * @return the content coding for the entity
+	 */
+	public ContentEncoding getContentEncoding(long length) {
+		if ((length < _minSize) || !_isEncodable()) {
+			return ContentEncoding.IDENTITY;
+		}
+
+		return _contentEncoding;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		if (_delegate != null) {
+			_delegate.write(bytes, offset, length);
+
+			return;
+		}
+
+		if ((_count + length) < _minSize) {
+			System.arraycopy(bytes, offset, _buffer, _count, length);
+
+			_count += length;
+
+			return;
+		}
+
+		_start(true);
+
+		_delegate.write(bytes, offset, length);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] {(byte)b}, 0, 1);
+	}
+
+	/**
+	 * Writes an entity that has already been encoded with the provided content
+	 * coding, setting the response's {@code Content-Encoding} header
+	 * accordingly. This method must be called before anything else is written
+	 * to the stream.
+	 *
+	 * @param  contentEncoding the entity's content coding
+	 * @param  bytes the encoded entity
+	 * @throws IOException if the entity couldn't be written
+	 */
+	public void writeEncoded(ContentEncoding contentEncoding, byte[] bytes)
+		throws IOException {
+
+		if ((_delegate != null) || (_count > 0)) {
+			throw new IllegalStateException(
+				"The entity has already been written");
+		}
+
+		if (contentEncoding != ContentEncoding.IDENTITY) {
+			_setContentEncoding(contentEncoding);
+		}
+
+		_delegate = _outputStream;
+
+		_outputStream.write(bytes);
+	}
+
+	private boolean _isEncodable() {
+		if ((_contentEncoding == ContentEncoding.IDENTITY) ||
+			_headers.containsKey(CONTENT_ENCODING) ||
+			_headers.containsKey(_CONTENT_RANGE)) {
+
+			return false;
+		}
+
+		Object contentType = _headers.getFirst(CONTENT_TYPE);
+
+		if (contentType == null) {
+			return false;
+		}
+
+		String mediaType = String.valueOf(contentType);
+
+		int index = mediaType.indexOf(';');
+
+		if (index != -1) {
+			mediaType = mediaType.substring(0, index);
+		}
+
+		mediaType = mediaType.trim();
+
+		mediaType = mediaType.toLowerCase(Locale.ENGLISH);
+
+		if (mediaType.startsWith("text/") || mediaType.endsWith("json") ||
+			mediaType.endsWith("xml")) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private void _setContentEncoding(ContentEncoding contentEncoding) {
+		_headers.putSingle(CONTENT_ENCODING, contentEncoding.getName());
+
+		Object entityTag = _headers.getFirst(ETAG);
+
+		if (entityTag instanceof EntityTag) {
+			_headers.putSingle(
+				ETAG, contentEncoding.getEntityTag((EntityTag)entityTag));
+		}
+	}
+
+	private void _start(boolean encode) throws IOException {
+		if (encode && _isEncodable()) {
+			_setContentEncoding(_contentEncoding);
+
+			_headers.remove(CONTENT_LENGTH);
+
+			_delegate = _contentEncoding.wrap(
+				new NonClosingOutputStream(_outputStream));
+		}
+		else {
+			_delegate = _outputStream;
+		}
+
+		if (_count > 0) {
+			_delegate.write(_buffer, 0, _count);
+
+			_count = 0;
+		}
+	}
+
+	private static class NonClosingOutputStream extends FilterOutputStream {
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			out.write(bytes, offset, length);
+		}
+
+		private NonClosingOutputStream(OutputStream outputStream) {
+			super(outputStream);
+		}
+
+	}
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+	private final byte[] _buffer;
+	private final ContentEncoding _contentEncoding;
+	private int _count;
+	private OutputStream _delegate;
+	private boolean _finished;
+	private final MultivaluedMap<String, Object> _headers;
+	private final int _minSize;
+	private final OutputStream _outputStream;
+
+}
\ No newline at end of file
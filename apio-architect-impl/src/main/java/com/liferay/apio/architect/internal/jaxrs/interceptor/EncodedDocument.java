@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import com.liferay.apio.architect.internal.jaxrs.util.EntityTagUtil;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Contains a document that is written once and served many times (e.g., the
+ * API documentation), along with its versions encoded with every supported
+ * content coding and its strong entity tag. Documents are encoded when they're
+ * created, so responses don't have to compress or hash them again.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class EncodedDocument {
+
+	public EncodedDocument(byte[] bytes) {
+		ContentEncoding[] contentEncodings = ContentEncoding.values();
+
+		_bytes = new byte[contentEncodings.length][];
+
+		for (ContentEncoding contentEncoding : contentEncodings) {
+			_bytes[contentEncoding.ordinal()] = contentEncoding.encode(bytes);
+		}
+
+		_entityTag = EntityTagUtil.getEntityTag(bytes);
+	}
+
+	/**
+	 * Returns the document encoded with the provided content coding.
+	 *
+	 * @param  contentEncoding the content coding
+	 * @return the encoded document
+	 */
+	public byte[] getBytes(ContentEncoding contentEncoding) {
+		return _bytes[contentEncoding.ordinal()];
+	}
+
+	/**
+	 * Returns the strong entity tag of the unencoded document. The tags of the
+	 * encoded versions are derived from it with {@link
+	 * ContentEncoding#getEntityTag(EntityTag)}.
+	 *
+	 * @return the document's entity tag
+	 */
+	public EntityTag getEntityTag() {
+		return _entityTag;
+	}
+
+	/**
+	 * Returns the length of the unencoded document.
+	 *
+	 * @return the document's length
+	 */
+	public int getLength() {
+		return getBytes(ContentEncoding.IDENTITY).length;
+	}
+
+	private final byte[][] _bytes;
+	private final EntityTag _entityTag;
+
+}
\ No newline at end of file
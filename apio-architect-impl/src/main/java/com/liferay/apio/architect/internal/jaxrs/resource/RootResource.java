@@ -14,6 +14,10 @@
 
 package com.liferay.apio.architect.internal.jaxrs.resource;
 
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getContextJSONObjectBuilder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 
@@ -26,16 +30,22 @@ import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.representor.Representor;
 
 import io.vavr.control.Either;
 
 import java.util.List;
+import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.core.CacheControl;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 
@@ -51,6 +61,38 @@ import org.osgi.service.component.annotations.Reference;
 @Component(service = RootResource.class)
 public class RootResource {
 
+	/**
+	 * Returns the shared JSON-LD context document of a resource type. The
+	 * document is computed once per representor and can be cached by clients.
+	 *
+	 * @review
+	 */
+	@GET
+	@Path("/doc/context/{name}")
+	public Response context(@PathParam("name") String name) {
+		Optional<Representor<Object>> optional =
+			_representableManager.getRepresentorOptional(name);
+
+		if (!optional.isPresent()) {
+			return _notFoundResponse;
+		}
+
+		Representor<Object> representor = optional.get();
+
+		byte[] bytes = ManagerCache.INSTANCE.getJSONLDContext(
+			name, __ -> _getJSONLDContext(representor));
+
+		CacheControl cacheControl = new CacheControl();
+
+		cacheControl.setMaxAge(_CONTEXT_MAX_AGE);
+
+		return Response.ok(
+			bytes, "application/ld+json"
+		).cacheControl(
+			cacheControl
+		).build();
+	}
+
 	/**
 	 * Returns the application schema.
 	 *
@@ -90,6 +132,15 @@ public class RootResource {
 		).build();
 	}
 
+	private static byte[] _getJSONLDContext(Representor<?> representor) {
+		JSONObjectBuilder jsonObjectBuilder = getContextJSONObjectBuilder(
+			representor);
+
+		String json = jsonObjectBuilder.build();
+
+		return json.getBytes(UTF_8);
+	}
+
 	private static Response _toResponse(NotAllowed notAllowed) {
 		return Response.status(
 			METHOD_NOT_ALLOWED
@@ -119,6 +170,8 @@ public class RootResource {
 		).build();
 	}
 
+	private static final int _CONTEXT_MAX_AGE = 24 * 60 * 60;
+
 	private static final Response _notFoundResponse = Response.status(
 		NOT_FOUND
 	).build();
@@ -126,6 +179,9 @@ public class RootResource {
 	@Reference
 	private ActionManager _actionManager;
 
+	@Reference
+	private RepresentableManager _representableManager;
+
 	@Context
 	private HttpServletRequest _request;
 
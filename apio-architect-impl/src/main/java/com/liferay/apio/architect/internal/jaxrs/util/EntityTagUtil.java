@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Provides utility functions for computing strong {@code ETag} values from
+ * response bodies or from any other representation-identifying content.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class EntityTagUtil {
+
+	/**
+	 * Returns a strong entity tag computed from the provided bytes.
+	 *
+	 * @param  bytes the bytes
+	 * @return the entity tag
+	 */
+	public static EntityTag getEntityTag(byte[] bytes) {
+		return new EntityTag(hash(bytes));
+	}
+
+	/**
+	 * Returns the hexadecimal representation of the first 16 bytes of the
+	 * provided bytes' SHA-256 digest.
+	 *
+	 * @param  bytes the bytes
+	 * @return the hash
+	 */
+	public static String hash(byte[] bytes) {
+		MessageDigest messageDigest;
+
+		try {
+			messageDigest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+
+		byte[] digest = messageDigest.digest(bytes);
+
+		StringBuilder sb = new StringBuilder(_HASH_LENGTH * 2);
+
+		for (int i = 0; i < _HASH_LENGTH; i++) {
+			sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(digest[i] & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+
+	private EntityTagUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _HASH_LENGTH = 16;
+
+}
\ No newline at end of file
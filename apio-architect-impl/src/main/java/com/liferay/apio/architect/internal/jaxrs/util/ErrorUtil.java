@@ -20,11 +20,17 @@ import static java.lang.String.join;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper.ExceptionMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.ErrorMessageMapperManager;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
@@ -85,7 +91,8 @@ public class ErrorUtil {
 		int statusCode = apiError.getStatusCode();
 
 		Optional<ErrorMessageMapper> errorMessageMapperOptional =
-			_errorMessageMapperManager.getErrorMessageMapperOptional(request);
+			_errorMessageMapperManager.getErrorMessageMapperOptional(
+				request, null);
 
 		return errorMessageMapperOptional.map(
 			errorMessageMapper -> Response.status(
@@ -93,7 +100,7 @@ public class ErrorUtil {
 			).type(
 				errorMessageMapper.getMediaType()
 			).entity(
-				writeError(errorMessageMapper, apiError)
+				_writeError(errorMessageMapper, apiError)
 			).build()
 		).orElseGet(
 			() -> Response.status(
@@ -114,6 +121,24 @@ public class ErrorUtil {
 		}
 	}
 
+	private byte[] _writeError(
+		ErrorMessageMapper errorMessageMapper, APIError apiError) {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (JsonGenerator jsonGenerator =
+				errorMessageMapper.createJsonGenerator(byteArrayOutputStream)) {
+
+			writeError(errorMessageMapper, apiError, jsonGenerator);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
 	private static final Response _serverError = Response.serverError().build();
 
 	@Reference
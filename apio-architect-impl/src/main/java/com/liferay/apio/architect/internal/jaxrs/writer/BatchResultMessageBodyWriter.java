@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
@@ -24,6 +26,8 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathId
 import com.liferay.apio.architect.internal.writer.BatchResultWriter;
 import com.liferay.apio.architect.internal.writer.BatchResultWriter.Builder;
 
+import java.io.IOException;
+
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
@@ -61,14 +65,15 @@ public class BatchResultMessageBodyWriter<T>
 		Request request) {
 
 		return _batchResultMessageMapperManager.
-			getBatchResultMessageMapperOptional(request);
+			getBatchResultMessageMapperOptional(request, getAccept());
 	}
 
 	@Override
-	protected String write(
-		BatchResult<T> batchResult,
-		BatchResultMessageMapper<T> batchResultMessageMapper,
-		RequestInfo requestInfo) {
+	protected void write(
+			BatchResult<T> batchResult,
+			BatchResultMessageMapper<T> batchResultMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
 
 		BatchResultWriter<T> batchResultWriter = Builder.batchResult(
 			batchResult
@@ -82,9 +87,9 @@ public class BatchResultMessageBodyWriter<T>
 			requestInfo
 		).build();
 
-		Optional<String> optional = batchResultWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
+		if (!batchResultWriter.write(jsonGenerator)) {
+			throw new NotFoundException();
+		}
 	}
 
 	@Reference
@@ -18,9 +18,9 @@ import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.BinaryFileUtil;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 
 import java.lang.annotation.Annotation;
@@ -37,7 +37,8 @@ import javax.ws.rs.ext.Provider;
 import org.osgi.service.component.annotations.Component;
 
 /**
- * Writes an input stream as a binary output stream.
+ * Writes a binary file to the response's output stream. Binary files backed by
+ * a file are transferred directly from the file; see {@link BinaryFileUtil}.
  *
  * @author Javier Gamarra
  */
@@ -79,14 +80,7 @@ public class BinaryResourceBodyWriter implements MessageBodyWriter<BinaryFile> {
 		multivaluedMap.put(
 			CONTENT_LENGTH, Collections.singletonList(binaryFile.getSize()));
 
-		byte[] bytes = new byte[1024];
-
-		InputStream inputStream = binaryFile.getInputStream();
-		int value = -1;
-
-		while ((value = inputStream.read(bytes)) != -1) {
-			outputStream.write(bytes, 0, value);
-		}
+		BinaryFileUtil.transferTo(binaryFile, outputStream);
 
 		outputStream.close();
 	}
@@ -14,17 +14,25 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.documentation.APIDescription;
+import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.internal.writer.DocumentationWriter;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 
+import java.io.IOException;
+
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
@@ -60,15 +68,55 @@ public class DocumentationMessageBodyWriter
 		Request request) {
 
 		return _documentationMessageMapperManager.
-			getDocumentationMessageMapperOptional(request);
+			getDocumentationMessageMapperOptional(request, getAccept());
 	}
 
 	@Override
-	protected String write(
-		Documentation documentation,
-		DocumentationMessageMapper documentationMessageMapper,
+	protected Optional<Supplier<Documentation>> getElementSupplierOptional(
 		RequestInfo requestInfo) {
 
+		Optional<APITitle> apiTitleOptional = providerManager.provideOptional(
+			request, APITitle.class
+		).map(
+			APITitle::get
+		).map(
+			title -> () -> title
+		);
+
+		Optional<APIDescription> apiDescriptionOptional =
+			providerManager.provideOptional(
+				request, APIDescription.class
+			).map(
+				APIDescription::get
+			).map(
+				description -> () -> description
+			);
+
+		ApplicationURL applicationURL = requestInfo.getApplicationURL();
+
+		String url = applicationURL.get();
+
+		Optional<ApplicationURL> applicationURLOptional = Optional.of(
+			() -> url);
+
+		return Optional.of(
+			() -> actionManager.getDocumentation(
+				() -> apiTitleOptional, () -> apiDescriptionOptional,
+				() -> applicationURLOptional));
+	}
+
+	@Override
+	protected boolean isCacheable() {
+		return true;
+	}
+
+	@Override
+	protected void write(
+			Documentation documentation,
+			DocumentationMessageMapper documentationMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
 		DocumentationWriter documentationWriter = DocumentationWriter.create(
 			builder -> builder.documentation(
 				documentation
@@ -86,7 +134,7 @@ public class DocumentationMessageBodyWriter
 				)
 			).build());
 
-		return documentationWriter.write();
+		documentationWriter.write(jsonGenerator);
 	}
 
 	@Reference
@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
@@ -24,7 +26,10 @@ import com.liferay.apio.architect.internal.writer.EntryPointWriter;
 import com.liferay.apio.architect.internal.writer.EntryPointWriter.Builder;
 import com.liferay.apio.architect.representor.Representor;
 
+import java.io.IOException;
+
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
@@ -61,14 +66,28 @@ public class EntryPointMessageBodyWriter
 		Request request) {
 
 		return _entryPointMessageMapperManager.
-			getEntryPointMessageMapperOptional(request);
+			getEntryPointMessageMapperOptional(request, getAccept());
 	}
 
 	@Override
-	protected String write(
-		EntryPoint entryPoint, EntryPointMessageMapper entryPointMessageMapper,
+	protected Optional<Supplier<EntryPoint>> getElementSupplierOptional(
 		RequestInfo requestInfo) {
 
+		return Optional.of(actionManager::getEntryPoint);
+	}
+
+	@Override
+	protected boolean isCacheable() {
+		return true;
+	}
+
+	@Override
+	protected void write(
+			EntryPoint entryPoint,
+			EntryPointMessageMapper entryPointMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
 		EntryPointWriter entryPointWriter = Builder.entryPoint(
 			entryPoint
 		).entryPointMessageMapper(
@@ -83,7 +102,7 @@ public class EntryPointMessageBodyWriter
 			)
 		).build();
 
-		return entryPointWriter.write();
+		entryPointWriter.write(jsonGenerator);
 	}
 
 	@Reference
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.pagination.PageIterable;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.io.IOException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.Optional;
+
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Exports every item of a collection as newline-delimited JSON, by using the
+ * {@link SingleModelMessageMapper} of the {@code application/x-ndjson} media
+ * type. If the request's content negotiation selects another media type, the
+ * collection's first page is written as a regular page instead.
+ *
+ * <p>
+ * Pages are fetched while the response is being written, and each line is
+ * flushed after its page is written, so the export uses constant memory
+ * regardless of the collection's size.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Writer.PageIterable"
+	},
+	service = MessageBodyWriter.class
+)
+@Provider
+public class PageIterableMessageBodyWriter<T>
+	extends BaseMessageBodyWriter
+		<PageIterable<T>, SingleModelMessageMapper<T>> {
+
+	@Override
+	public boolean canWrite(Class<?> clazz) {
+		return PageIterable.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public Optional<SingleModelMessageMapper<T>> getMessageMapperOptional(
+		Request request) {
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			_singleModelMessageMapperManager.
+				getSingleModelMessageMapperOptional(request, getAccept());
+
+		return optional.filter(
+			singleModelMessageMapper -> _MEDIA_TYPE.equals(
+				singleModelMessageMapper.getMediaType()));
+	}
+
+	/**
+	 * Returns {@code true} only if the request's content negotiation selects
+	 * the {@code application/x-ndjson} media type (e.g., not for {@code
+	 * application/ld+json, application/x-ndjson;q=0.1}). Otherwise, the
+	 * element is written as a regular page by the page's writer.
+	 *
+	 * @review
+	 */
+	@Override
+	public boolean isWriteable(
+		Class<?> clazz, Type genericType, Annotation[] annotations,
+		MediaType mediaType) {
+
+		if (!canWrite(clazz)) {
+			return false;
+		}
+
+		Optional<SingleModelMessageMapper<T>> optional =
+			getMessageMapperOptional(_request);
+
+		return optional.isPresent();
+	}
+
+	@Override
+	protected boolean isStreaming() {
+		return true;
+	}
+
+	@Override
+	protected void write(
+			PageIterable<T> pageIterable,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		Credentials credentials = providerManager.provideMandatory(
+			request, Credentials.class);
+
+		for (Page<T> page : pageIterable) {
+			Resource resource = page.getResource();
+
+			String resourceName = resource.getName();
+
+			for (T model : page.getItems()) {
+				SingleModelWriter<T> singleModelWriter = _getSingleModelWriter(
+					new SingleModelImpl<>(model, resourceName),
+					singleModelMessageMapper, requestInfo, credentials);
+
+				if (singleModelWriter.write(jsonGenerator)) {
+					jsonGenerator.writeRaw('\n');
+				}
+			}
+
+			jsonGenerator.flush();
+		}
+	}
+
+	private SingleModelWriter<T> _getSingleModelWriter(
+		SingleModel<T> singleModel,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo, Credentials credentials) {
+
+		return SingleModelWriter.create(
+			builder -> builder.singleModel(
+				singleModel
+			).modelMessageMapper(
+				singleModelMessageMapper
+			).pathFunction(
+				_pathIdentifierMapperManager::mapToPath
+			).resourceNameFunction(
+				nameManager::getNameOptional
+			).representorFunction(
+				name -> unsafeCast(
+					_representableManager.getRepresentorOptional(name))
+			).requestInfo(
+				requestInfo
+			).singleModelFunction(
+				this::getSingleModelOptional
+			).actionSemanticsFunction(
+				resource -> actionManager.getActionSemantics(
+					resource, credentials)
+			).build());
+	}
+
+	private static final String _MEDIA_TYPE = "application/x-ndjson";
+
+	@Reference
+	private PathIdentifierMapperManager _pathIdentifierMapperManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	@Context
+	private Request _request;
+
+	@Reference
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
+
+}
\ No newline at end of file
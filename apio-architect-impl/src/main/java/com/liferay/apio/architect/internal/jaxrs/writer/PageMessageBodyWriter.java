@@ -16,6 +16,8 @@ package com.liferay.apio.architect.internal.jaxrs.writer;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
@@ -26,19 +28,40 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathId
 import com.liferay.apio.architect.internal.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
 
+import java.io.IOException;
+
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * Writes collection pages by using the {@link PageMessageMapper} that
  * corresponds to the media type.
  *
+ * <p>
+ * Items of pages with at least {@code parallel.serialization.threshold} items
+ * are rendered concurrently, in a pool of {@code
+ * parallel.serialization.parallelism} threads (by default, the number of
+ * available processors). The threshold is {@code 0} by default, which
+ * disables parallel serialization. Embedded related models are still retrieved
+ * in the request's thread (see {@link PageWriter#write(JsonGenerator,
+ * java.util.concurrent.Executor)}). When the configuration changes, the next
+ * requests use a new pool, and the old one is shut down gracefully: it
+ * finishes the items it has accepted, and the items it rejects are rendered in
+ * the request's thread.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -63,18 +86,102 @@ public class PageMessageBodyWriter<T>
 	public Optional<PageMessageMapper<T>> getMessageMapperOptional(
 		Request request) {
 
-		return _pageMessageMapperManager.getPageMessageMapperOptional(request);
+		return _pageMessageMapperManager.getPageMessageMapperOptional(
+			request, getAccept());
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		int parallelSerializationThreshold = _getInt(
+			properties, "parallel.serialization.threshold", 0);
+
+		ForkJoinPool forkJoinPool = null;
+
+		if (parallelSerializationThreshold > 0) {
+			Runtime runtime = Runtime.getRuntime();
+
+			int parallelism = _getInt(
+				properties, "parallel.serialization.parallelism",
+				runtime.availableProcessors());
+
+			forkJoinPool = new ForkJoinPool(Math.max(parallelism, 1));
+		}
+
+		ForkJoinPool oldForkJoinPool = _forkJoinPool;
+
+		_parallelSerializationThreshold = parallelSerializationThreshold;
+		_forkJoinPool = forkJoinPool;
+
+		if (oldForkJoinPool != null) {
+			oldForkJoinPool.shutdown();
+		}
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		ForkJoinPool forkJoinPool = _forkJoinPool;
+
+		_forkJoinPool = null;
+
+		if (forkJoinPool != null) {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	@Override
+	protected boolean isStreaming() {
+		return true;
 	}
 
 	@Override
-	protected String write(
+	protected void write(
+			Page<T> page, PageMessageMapper<T> pageMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		PageWriter<T> pageWriter = _getPageWriter(
+			page, pageMessageMapper, requestInfo);
+
+		ForkJoinPool forkJoinPool = _forkJoinPool;
+
+		Collection<T> items = page.getItems();
+
+		if ((forkJoinPool != null) &&
+			(items.size() >= _parallelSerializationThreshold)) {
+
+			pageWriter.write(jsonGenerator, forkJoinPool);
+		}
+		else {
+			pageWriter.write(jsonGenerator);
+		}
+	}
+
+	private int _getInt(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(String.valueOf(value).trim());
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	private PageWriter<T> _getPageWriter(
 		Page<T> page, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		PageWriter<T> pageWriter = PageWriter.create(
+		return PageWriter.create(
 			builder -> builder.page(
 				page
 			).pageMessageMapper(
@@ -94,13 +201,15 @@ public class PageMessageBodyWriter<T>
 				resource -> actionManager.getActionSemantics(
 					resource, credentials)
 			).build());
-
-		return pageWriter.write();
 	}
 
+	private volatile ForkJoinPool _forkJoinPool;
+
 	@Reference
 	private PageMessageMapperManager _pageMessageMapperManager;
 
+	private volatile int _parallelSerializationThreshold;
+
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
 
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.BinaryFileUtil;
+import com.liferay.apio.architect.internal.file.ByteRange;
+import com.liferay.apio.architect.internal.file.PartialBinaryFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Writes the ranges of a binary file requested with a {@code Range} header. A
+ * single range is written as is, with its {@code Content-Range} header;
+ * several ranges are written as a {@code multipart/byteranges} document.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true", "osgi.jaxrs.name=Writer.PartialBinaryFile"
+	},
+	service = MessageBodyWriter.class
+)
+@Provider
+public class PartialBinaryFileBodyWriter
+	implements MessageBodyWriter<PartialBinaryFile> {
+
+	@Override
+	public long getSize(
+		PartialBinaryFile partialBinaryFile, Class<?> aClass, Type type,
+		Annotation[] annotations, MediaType mediaType) {
+
+		return -1;
+	}
+
+	@Override
+	public boolean isWriteable(
+		Class<?> clazz, Type genericType, Annotation[] annotations,
+		MediaType mediaType) {
+
+		return PartialBinaryFile.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public void writeTo(
+			PartialBinaryFile partialBinaryFile, Class<?> aClass, Type type,
+			Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> multivaluedMap,
+			OutputStream outputStream)
+		throws IOException, WebApplicationException {
+
+		BinaryFile binaryFile = partialBinaryFile.getBinaryFile();
+		List<ByteRange> byteRanges = partialBinaryFile.getByteRanges();
+
+		if (byteRanges.size() == 1) {
+			ByteRange byteRange = byteRanges.get(0);
+
+			multivaluedMap.put(
+				CONTENT_TYPE,
+				Collections.singletonList(binaryFile.getMimeType()));
+			multivaluedMap.put(
+				CONTENT_LENGTH,
+				Collections.singletonList(byteRange.getLength()));
+			multivaluedMap.put(
+				_CONTENT_RANGE,
+				Collections.singletonList(
+					byteRange.getContentRange(binaryFile.getSize())));
+
+			BinaryFileUtil.transferTo(binaryFile, byteRange, outputStream);
+
+			outputStream.close();
+
+			return;
+		}
+
+		String boundary = UUID.randomUUID().toString();
+
+		long contentLength = 0;
+
+		for (ByteRange byteRange : byteRanges) {
+			byte[] bytes = _getPartHeaderBytes(binaryFile, byteRange, boundary);
+
+			contentLength += bytes.length + byteRange.getLength();
+		}
+
+		byte[] endBytes = _getEndBytes(boundary);
+
+		contentLength += endBytes.length;
+
+		multivaluedMap.put(
+			CONTENT_TYPE,
+			Collections.singletonList(
+				"multipart/byteranges; boundary=" + boundary));
+		multivaluedMap.put(
+			CONTENT_LENGTH, Collections.singletonList(contentLength));
+
+		for (ByteRange byteRange : byteRanges) {
+			outputStream.write(
+				_getPartHeaderBytes(binaryFile, byteRange, boundary));
+
+			BinaryFileUtil.transferTo(binaryFile, byteRange, outputStream);
+		}
+
+		outputStream.write(endBytes);
+
+		outputStream.close();
+	}
+
+	private byte[] _getEndBytes(String boundary) {
+		String end = "\r\n--" + boundary + "--\r\n";
+
+		return end.getBytes(US_ASCII);
+	}
+
+	private byte[] _getPartHeaderBytes(
+		BinaryFile binaryFile, ByteRange byteRange, String boundary) {
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("\r\n--");
+		sb.append(boundary);
+		sb.append("\r\n");
+		sb.append(CONTENT_TYPE);
+		sb.append(": ");
+		sb.append(binaryFile.getMimeType());
+		sb.append("\r\n");
+		sb.append(_CONTENT_RANGE);
+		sb.append(": ");
+		sb.append(byteRange.getContentRange(binaryFile.getSize()));
+		sb.append("\r\n\r\n");
+
+		String partHeader = sb.toString();
+
+		return partHeader.getBytes(US_ASCII);
+	}
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+}
\ No newline at end of file
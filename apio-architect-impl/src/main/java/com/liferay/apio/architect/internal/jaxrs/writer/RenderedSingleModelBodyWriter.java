@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import com.liferay.apio.architect.internal.response.cache.RenderedSingleModel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.Collections;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Writes a single model that has already been rendered, as returned by the
+ * single model response cache.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true",
+		"osgi.jaxrs.name=Writer.RenderedSingleModel"
+	},
+	service = MessageBodyWriter.class
+)
+@Provider
+public class RenderedSingleModelBodyWriter
+	implements MessageBodyWriter<RenderedSingleModel> {
+
+	@Override
+	public long getSize(
+		RenderedSingleModel renderedSingleModel, Class<?> aClass, Type type,
+		Annotation[] annotations, MediaType mediaType) {
+
+		return -1;
+	}
+
+	@Override
+	public boolean isWriteable(
+		Class<?> clazz, Type genericType, Annotation[] annotations,
+		MediaType mediaType) {
+
+		return RenderedSingleModel.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public void writeTo(
+			RenderedSingleModel renderedSingleModel, Class<?> aClass,
+			Type type, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> multivaluedMap,
+			OutputStream outputStream)
+		throws IOException, WebApplicationException {
+
+		byte[] bytes = renderedSingleModel.getBytes();
+
+		multivaluedMap.put(
+			CONTENT_TYPE,
+			Collections.singletonList(renderedSingleModel.getMediaType()));
+		multivaluedMap.put(
+			CONTENT_LENGTH, Collections.singletonList(bytes.length));
+
+		outputStream.write(bytes);
+	}
+
+}
\ No newline at end of file
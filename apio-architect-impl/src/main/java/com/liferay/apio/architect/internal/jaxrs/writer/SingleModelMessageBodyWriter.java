@@ -16,16 +16,22 @@ package com.liferay.apio.architect.internal.jaxrs.writer;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.cache.SingleModelResponseCache;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
 import com.liferay.apio.architect.internal.writer.SingleModelWriter;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
@@ -65,11 +71,36 @@ public class SingleModelMessageBodyWriter<T>
 		Request request) {
 
 		return _singleModelMessageMapperManager.
-			getSingleModelMessageMapperOptional(request);
+			getSingleModelMessageMapperOptional(request, getAccept());
+	}
+
+	@Override
+	protected void afterWrite(
+		SingleModel<T> singleModel,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		ByteArrayOutputStream byteArrayOutputStream) {
+
+		_singleModelResponseCache.put(
+			request, singleModelMessageMapper.getMediaType(),
+			byteArrayOutputStream::toByteArray);
 	}
 
 	@Override
-	protected String write(
+	protected void write(
+			SingleModel<T> singleModel,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		SingleModelWriter<T> singleModelWriter = _getSingleModelWriter(
+			singleModel, singleModelMessageMapper, requestInfo);
+
+		if (!singleModelWriter.write(jsonGenerator)) {
+			throw new NotFoundException();
+		}
+	}
+
+	private SingleModelWriter<T> _getSingleModelWriter(
 		SingleModel<T> singleModel,
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
@@ -77,7 +108,7 @@ public class SingleModelMessageBodyWriter<T>
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+		return SingleModelWriter.create(
 			builder -> builder.singleModel(
 				singleModel
 			).modelMessageMapper(
@@ -97,10 +128,6 @@ public class SingleModelMessageBodyWriter<T>
 				resource -> actionManager.getActionSemantics(
 					resource, credentials)
 			).build());
-
-		Optional<String> optional = singleModelWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
 	}
 
 	@Reference
@@ -112,4 +139,7 @@ public class SingleModelMessageBodyWriter<T>
 	@Reference
 	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
 
+	@Reference
+	private SingleModelResponseCache _singleModelResponseCache;
+
 }
\ No newline at end of file
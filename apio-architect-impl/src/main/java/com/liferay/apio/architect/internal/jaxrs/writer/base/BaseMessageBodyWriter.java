@@ -14,18 +14,32 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer.base;
 
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
 import static java.util.Collections.singletonList;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding;
+import com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncodingOutputStream;
+import com.liferay.apio.architect.internal.jaxrs.interceptor.EncodedDocument;
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.cache.SingleModelIdentityMap;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.url.ServerURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
@@ -35,17 +49,17 @@ import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
-import java.nio.charset.StandardCharsets;
-
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -59,6 +73,8 @@ import javax.ws.rs.ext.MessageBodyWriter;
 
 import org.osgi.service.component.annotations.Reference;
 
+import org.slf4j.Logger;
+
 /**
  * Defines the base {@code MessageBodyWriter} for those who write using a {@link
  * MessageMapper}.
@@ -86,6 +102,27 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 */
 	public abstract Optional<S> getMessageMapperOptional(Request request);
 
+	/**
+	 * Returns the cached document of the element, if this writer is cacheable
+	 * (see {@link #isCacheable()}); returns {@code Optional#empty()} otherwise.
+	 * If the document isn't cached yet, it's written and cached, so it can be
+	 * validated (e.g., by its entity tag) before it's written to the response.
+	 *
+	 * @param  t the element
+	 * @return the cached document, if this writer is cacheable; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<EncodedDocument> getEncodedDocumentOptional(T t) {
+		if (!isCacheable()) {
+			return Optional.empty();
+		}
+
+		Optional<S> optional = getMessageMapperOptional(_request);
+
+		return optional.map(s -> _getEncodedDocument(t, s, _getRequestInfo()));
+	}
+
 	@Override
 	public long getSize(
 		T documentation, Class<?> clazz, Type type, Annotation[] annotations,
@@ -107,51 +144,105 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			T t, Class<?> aClass, Type type, Annotation[] annotations,
 			MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
 			OutputStream outputStream)
-		throws WebApplicationException {
-
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
-
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		throws IOException, WebApplicationException {
 
 		Optional<S> optional = getMessageMapperOptional(_request);
 
 		S s = optional.orElseThrow(NotSupportedException::new);
 
-		RequestInfo requestInfo = RequestInfo.create(
-			builder -> builder.httpServletRequest(
-				request
-			).serverURL(
-				providerManager.provideMandatory(request, ServerURL.class)
-			).applicationURL(
-				providerManager.provideMandatory(request, ApplicationURL.class)
-			).embedded(
-				providerManager.provideOptional(
-					request, Embedded.class
-				).orElse(
-					__ -> false
-				)
-			).fields(
-				providerManager.provideOptional(
-					request, Fields.class
-				).orElse(
-					__ -> string -> true
-				)
-			).language(
-				providerManager.provideOptional(
-					request, AcceptLanguage.class
-				).orElse(
-					Locale::getDefault
-				)
-			).build());
+		RequestInfo requestInfo = _getRequestInfo();
 
-		String result = write(t, s, requestInfo);
+		if (isCacheable()) {
+			_writeEncodedDocument(t, s, requestInfo, httpHeaders, outputStream);
 
-		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+			return;
+		}
+
+		if (isStreaming()) {
+			httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
 
-		printWriter.println(result);
+			try (JsonGenerator jsonGenerator = s.createJsonGenerator(
+					outputStream)) {
 
-		printWriter.close();
+				_write(t, s, requestInfo, jsonGenerator);
+			}
+
+			return;
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			_byteArrayOutputStreamThreadLocal.get();
+
+		try {
+			try (JsonGenerator jsonGenerator = s.createJsonGenerator(
+					byteArrayOutputStream)) {
+
+				_write(t, s, requestInfo, jsonGenerator);
+			}
+
+			afterWrite(t, s, byteArrayOutputStream);
+
+			httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+			httpHeaders.put(
+				CONTENT_LENGTH, singletonList(byteArrayOutputStream.size()));
+
+			byteArrayOutputStream.writeTo(outputStream);
+		}
+		finally {
+			if (byteArrayOutputStream.size() > _MAX_POOLED_BUFFER_SIZE) {
+				_byteArrayOutputStreamThreadLocal.remove();
+			}
+			else {
+				byteArrayOutputStream.reset();
+			}
+		}
+	}
+
+	/**
+	 * Called once the element has been written to the pooled buffer, before
+	 * the buffer is copied to the response. This method isn't called for
+	 * streaming writers (see {@link #isStreaming()}).
+	 *
+	 * @param  t the written element
+	 * @param  s the message mapper
+	 * @param  byteArrayOutputStream the buffer containing the written element
+	 * @review
+	 */
+	protected void afterWrite(
+		T t, S s, ByteArrayOutputStream byteArrayOutputStream) {
+	}
+
+	/**
+	 * Returns the current request's {@code Accept} header, so the result of
+	 * the content negotiation can be reused by requests with the same header.
+	 *
+	 * @return the {@code Accept} header; {@code null} if it's unknown
+	 * @review
+	 */
+	protected String getAccept() {
+		if (request == null) {
+			return null;
+		}
+
+		return request.getHeader(ACCEPT);
+	}
+
+	/**
+	 * Returns a function that creates the element again without the current
+	 * request, if this writer is cacheable and its element only depends on the
+	 * request's application URL and language; returns {@code Optional#empty()}
+	 * otherwise. When the cache is cleared, the documents of these elements are
+	 * rebuilt in the background, so no client has to wait for them.
+	 *
+	 * @param  requestInfo the current request info
+	 * @return the function that creates the element again, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	protected Optional<Supplier<T>> getElementSupplierOptional(
+		RequestInfo requestInfo) {
+
+		return Optional.empty();
 	}
 
 	/**
@@ -166,26 +257,70 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	protected Optional<SingleModel> getSingleModelOptional(
 		Object identifier, Class<? extends Identifier> identifierClass) {
 
-		Optional<String> nameOptional = nameManager.getNameOptional(
-			identifierClass.getName());
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(request);
 
-		return nameOptional.flatMap(
-			name -> _getItem(name, identifier)
-		).flatMap(
-			item -> actionManager.getItemSingleModel(item, request)
-		);
+		Optional<SingleModel<?>> optional = singleModelIdentityMap.get(
+			unsafeCast(identifierClass), identifier,
+			() -> {
+				Optional<String> nameOptional = nameManager.getNameOptional(
+					identifierClass.getName());
+
+				return unsafeCast(
+					nameOptional.flatMap(
+						name -> _getItem(name, identifier)
+					).flatMap(
+						item -> actionManager.getItemSingleModel(item, request)
+					));
+			});
+
+		return unsafeCast(optional);
+	}
+
+	/**
+	 * Returns {@code true} if the written element only changes when routers
+	 * change (e.g., the API documentation). Cacheable elements are written once
+	 * per writer, media type, application URL, and language, and kept in
+	 * memory already compressed with every supported content coding.
+	 *
+	 * @return {@code true} if the written element is cacheable; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	protected boolean isCacheable() {
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if this writer streams the element directly to the
+	 * response; returns {@code false} if the element is first written to a
+	 * pooled buffer, so the response's {@code Content-Length} can be set.
+	 *
+	 * @return {@code true} if this writer streams the element; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	protected boolean isStreaming() {
+		return false;
 	}
 
 	/**
-	 * Writes the element to a {@code String} by using the supplied message
-	 * mapper and the current {@link RequestInfo}.
+	 * Writes the element to the provided {@code JsonGenerator} by using the
+	 * supplied message mapper and the current {@link RequestInfo}. The
+	 * generator writes UTF-8 encoded bytes to the response's output stream or,
+	 * if this writer doesn't stream (see {@link #isStreaming()}), to a pooled
+	 * buffer.
 	 *
 	 * @param  t the element being written
 	 * @param  s the message mapper
 	 * @param  requestInfo the current request info
-	 * @return the {@code String} containing the element's representation
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the element couldn't be written
+	 * @review
 	 */
-	protected abstract String write(T t, S s, RequestInfo requestInfo);
+	protected abstract void write(
+			T t, S s, RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException;
 
 	@Reference
 	protected ActionManager actionManager;
@@ -202,6 +337,54 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	@Context
 	protected HttpServletRequest request;
 
+	private static RequestInfo _detach(RequestInfo requestInfo) {
+		ServerURL serverURL = requestInfo.getServerURL();
+		ApplicationURL applicationURL = requestInfo.getApplicationURL();
+		AcceptLanguage acceptLanguage = requestInfo.getAcceptLanguage();
+
+		String serverURLString = serverURL.get();
+		String applicationURLString = applicationURL.get();
+		Locale locale = acceptLanguage.getPreferredLocale();
+
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> serverURLString
+			).applicationURL(
+				() -> applicationURLString
+			).embedded(
+				__ -> false
+			).fields(
+				__ -> string -> true
+			).language(
+				() -> locale
+			).build());
+	}
+
+	private EncodedDocument _getEncodedDocument(
+		T t, S s, RequestInfo requestInfo) {
+
+		ApplicationURL applicationURL = requestInfo.getApplicationURL();
+		AcceptLanguage acceptLanguage = requestInfo.getAcceptLanguage();
+
+		Locale locale = acceptLanguage.getPreferredLocale();
+
+		Class<?> clazz = getClass();
+
+		String key = String.join(
+			" ", clazz.getName(), s.getMediaType(), applicationURL.get(),
+			locale.toLanguageTag());
+
+		return ManagerCache.INSTANCE.getEncodedDocument(
+			key,
+			__ -> {
+				_putEncodedDocumentSupplier(key, s, requestInfo);
+
+				return new EncodedDocument(_toBytes(t, s, requestInfo));
+			});
+	}
+
 	private Optional<Item> _getItem(String name, Object identifier) {
 		Optional<Path> optionalPath = pathIdentifierMapperManager.mapToPath(
 			name, identifier);
@@ -213,6 +396,141 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 		);
 	}
 
+	private RequestInfo _getRequestInfo() {
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				request
+			).serverURL(
+				providerManager.provideMandatory(request, ServerURL.class)
+			).applicationURL(
+				providerManager.provideMandatory(request, ApplicationURL.class)
+			).embedded(
+				providerManager.provideOptional(
+					request, Embedded.class
+				).orElse(
+					__ -> false
+				)
+			).fields(
+				providerManager.provideOptional(
+					request, Fields.class
+				).orElse(
+					__ -> string -> true
+				)
+			).language(
+				providerManager.provideOptional(
+					request, AcceptLanguage.class
+				).orElse(
+					Locale::getDefault
+				)
+			).build());
+	}
+
+	private void _putEncodedDocumentSupplier(
+		String key, S s, RequestInfo requestInfo) {
+
+		Optional<Supplier<T>> optional = getElementSupplierOptional(
+			requestInfo);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		Supplier<T> supplier = optional.get();
+
+		RequestInfo detachedRequestInfo = _detach(requestInfo);
+
+		ManagerCache.INSTANCE.putEncodedDocumentSupplier(
+			key,
+			() -> new EncodedDocument(
+				_toBytes(supplier.get(), s, detachedRequestInfo)));
+	}
+
+	private byte[] _toBytes(T t, S s, RequestInfo requestInfo) {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream(8192);
+
+		try (JsonGenerator jsonGenerator = s.createJsonGenerator(
+				byteArrayOutputStream)) {
+
+			write(t, s, requestInfo, jsonGenerator);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private void _write(
+			T t, S s, RequestInfo requestInfo, JsonGenerator jsonGenerator)
+		throws IOException {
+
+		write(t, s, requestInfo, jsonGenerator);
+
+		if (!_logger.isDebugEnabled()) {
+			return;
+		}
+
+		Optional<SingleModelIdentityMap> optional =
+			SingleModelIdentityMap.getOptional(request);
+
+		optional.ifPresent(
+			singleModelIdentityMap -> _logger.debug(
+				"Retrieved {} related models, reused them {} times",
+				singleModelIdentityMap.getSize(),
+				singleModelIdentityMap.getHitCount()));
+	}
+
+	private void _writeEncodedDocument(
+			T t, S s, RequestInfo requestInfo,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
+
+		EncodedDocument encodedDocument;
+
+		try {
+			encodedDocument = _getEncodedDocument(t, s, requestInfo);
+		}
+		catch (UncheckedIOException uioe) {
+			throw uioe.getCause();
+		}
+
+		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+		httpHeaders.put(ETAG, singletonList(encodedDocument.getEntityTag()));
+
+		if (!(outputStream instanceof ContentEncodingOutputStream)) {
+			httpHeaders.put(
+				CONTENT_LENGTH, singletonList(encodedDocument.getLength()));
+
+			outputStream.write(
+				encodedDocument.getBytes(ContentEncoding.IDENTITY));
+
+			return;
+		}
+
+		ContentEncodingOutputStream contentEncodingOutputStream =
+			(ContentEncodingOutputStream)outputStream;
+
+		ContentEncoding contentEncoding =
+			contentEncodingOutputStream.getContentEncoding(
+				encodedDocument.getLength());
+
+		byte[] bytes = encodedDocument.getBytes(contentEncoding);
+
+		httpHeaders.put(CONTENT_LENGTH, singletonList(bytes.length));
+
+		contentEncodingOutputStream.writeEncoded(contentEncoding, bytes);
+	}
+
+	private static final int _MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+	private static final ThreadLocal<ByteArrayOutputStream>
+		_byteArrayOutputStreamThreadLocal = ThreadLocal.withInitial(
+			() -> new ByteArrayOutputStream(8192));
+
+	private final Logger _logger = getLogger(getClass());
+
 	@Context
 	private Request _request;
 
@@ -17,13 +17,24 @@ package com.liferay.apio.architect.internal.message.json;
 import static com.fasterxml.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -84,6 +95,50 @@ import java.util.function.Function;
  */
 public class JSONObjectBuilder {
 
+	/**
+	 * Creates a {@code JsonGenerator} that writes UTF-8 encoded JSON to the
+	 * provided output stream, using the same format as {@link #build()}. The
+	 * output stream isn't closed when the generator is closed.
+	 *
+	 * @param  outputStream the output stream
+	 * @return the JSON generator
+	 * @throws IOException if the generator couldn't be created
+	 * @review
+	 */
+	public static JsonGenerator createJsonGenerator(OutputStream outputStream)
+		throws IOException {
+
+		return createJsonGenerator(_OBJECT_MAPPER.getFactory(), outputStream);
+	}
+
+	/**
+	 * Creates a {@code JsonGenerator} that writes to the provided output
+	 * stream in the format of the provided factory (e.g., CBOR). Textual
+	 * formats are indented, like the output of {@link #build()}. The output
+	 * stream isn't closed when the generator is closed.
+	 *
+	 * @param  jsonFactory the factory of the output's format
+	 * @param  outputStream the output stream
+	 * @return the JSON generator
+	 * @throws IOException if the generator couldn't be created
+	 * @review
+	 */
+	public static JsonGenerator createJsonGenerator(
+			JsonFactory jsonFactory, OutputStream outputStream)
+		throws IOException {
+
+		JsonGenerator jsonGenerator = jsonFactory.createGenerator(
+			outputStream, JsonEncoding.UTF8);
+
+		jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+		if (jsonFactory.canHandleBinaryNatively()) {
+			return jsonGenerator;
+		}
+
+		return jsonGenerator.useDefaultPrettyPrinter();
+	}
+
 	public JSONObjectBuilder() {
 		_objectNode = _OBJECT_MAPPER.createObjectNode();
 	}
@@ -243,6 +298,72 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to the
+	 * provided {@code JsonGenerator}.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(JsonGenerator jsonGenerator) throws IOException {
+		_OBJECT_MAPPER.writeTree(jsonGenerator, _objectNode);
+	}
+
+	/**
+	 * Writes the JSON object constructed by the JSON object builder to the
+	 * provided {@code JsonGenerator}, streaming the fragments returned by the
+	 * iterator inside it.
+	 *
+	 * <p>
+	 * Fragments are merged into this JSON object: objects are merged field by
+	 * field, and arrays are concatenated. When a fragment contains an array
+	 * nested in any number of objects (e.g., {@code {"member": [...]}}), the
+	 * path to that array is taken from the first such fragment, and the
+	 * elements of every fragment's array with that path are streamed, in
+	 * order, to the array with the same path in this JSON object. Fragments
+	 * are requested only when the generator reaches that array, so each one
+	 * can be discarded once it's written.
+	 * </p>
+	 *
+	 * <p>
+	 * The rest of the contents of a streamed fragment (e.g., an array with a
+	 * different path) is kept in memory and written once every fragment has
+	 * been requested. If that content can't be merged with the part of this
+	 * JSON object already written, an {@code IllegalStateException} is thrown,
+	 * so no content is lost silently.
+	 * </p>
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @param  iterator the iterator of fragments to stream
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(
+			JsonGenerator jsonGenerator, Iterator<JSONObjectBuilder> iterator)
+		throws IOException {
+
+		while (iterator.hasNext()) {
+			JSONObjectBuilder jsonObjectBuilder = iterator.next();
+
+			List<String> path = _getArrayPath(jsonObjectBuilder._objectNode);
+
+			if (path.isEmpty() || !_isStreamable(path)) {
+				_merge(_objectNode, jsonObjectBuilder._objectNode);
+
+				continue;
+			}
+
+			_writeObject(
+				jsonGenerator, _objectNode, path, 0, jsonObjectBuilder,
+				iterator, _OBJECT_MAPPER.createObjectNode());
+
+			return;
+		}
+
+		writeTo(jsonGenerator);
+	}
+
 	public static class ArrayValueStep {
 
 		public ArrayValueStep(ArrayNode arrayNode) {
@@ -604,6 +725,204 @@ public class JSONObjectBuilder {
 
 	}
 
+	private List<String> _getArrayPath(JsonNode jsonNode) {
+		List<String> path = new ArrayList<>();
+
+		while (jsonNode.isObject() && (jsonNode.size() == 1)) {
+			Iterator<String> iterator = jsonNode.fieldNames();
+
+			String name = iterator.next();
+
+			path.add(name);
+
+			jsonNode = jsonNode.get(name);
+
+			if (jsonNode.isArray()) {
+				return path;
+			}
+		}
+
+		return Collections.emptyList();
+	}
+
+	private boolean _isStreamable(List<String> path) {
+		JsonNode jsonNode = _objectNode;
+
+		for (int i = 0; i < path.size(); i++) {
+			jsonNode = jsonNode.path(path.get(i));
+
+			if (jsonNode.isMissingNode()) {
+				return true;
+			}
+
+			if (i < (path.size() - 1)) {
+				if (!jsonNode.isObject()) {
+					return false;
+				}
+			}
+			else if (!jsonNode.isArray()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void _merge(ObjectNode objectNode, ObjectNode fragmentObjectNode) {
+		Iterator<Map.Entry<String, JsonNode>> fields =
+			fragmentObjectNode.fields();
+
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> entry = fields.next();
+
+			JsonNode jsonNode = objectNode.get(entry.getKey());
+			JsonNode fragmentJsonNode = entry.getValue();
+
+			if ((jsonNode != null) && jsonNode.isObject() &&
+				fragmentJsonNode.isObject()) {
+
+				_merge((ObjectNode)jsonNode, (ObjectNode)fragmentJsonNode);
+			}
+			else if ((jsonNode != null) && jsonNode.isArray() &&
+					 fragmentJsonNode.isArray()) {
+
+				ArrayNode arrayNode = (ArrayNode)jsonNode;
+
+				arrayNode.addAll((ArrayNode)fragmentJsonNode);
+			}
+			else {
+				objectNode.set(entry.getKey(), fragmentJsonNode);
+			}
+		}
+	}
+
+	private void _writeArrayElements(
+			JsonGenerator jsonGenerator, JSONObjectBuilder jsonObjectBuilder,
+			List<String> path, ObjectNode remainingObjectNode)
+		throws IOException {
+
+		ObjectNode objectNode = jsonObjectBuilder._objectNode;
+
+		JsonNode jsonNode = objectNode;
+
+		for (int i = 0; i < (path.size() - 1); i++) {
+			jsonNode = jsonNode.path(path.get(i));
+		}
+
+		String name = path.get(path.size() - 1);
+
+		JsonNode arrayJsonNode = jsonNode.path(name);
+
+		if (arrayJsonNode.isArray()) {
+			for (JsonNode element : arrayJsonNode) {
+				_OBJECT_MAPPER.writeTree(jsonGenerator, element);
+			}
+
+			((ObjectNode)jsonNode).remove(name);
+		}
+
+		_merge(remainingObjectNode, objectNode);
+	}
+
+	private void _writeObject(
+			JsonGenerator jsonGenerator, JsonNode jsonNode, List<String> path,
+			int index, JSONObjectBuilder firstJSONObjectBuilder,
+			Iterator<JSONObjectBuilder> iterator,
+			ObjectNode remainingObjectNode)
+		throws IOException {
+
+		String name = path.get(index);
+
+		jsonGenerator.writeStartObject();
+
+		Iterator<Map.Entry<String, JsonNode>> fields = jsonNode.fields();
+
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> entry = fields.next();
+
+			if (!name.equals(entry.getKey())) {
+				jsonGenerator.writeFieldName(entry.getKey());
+
+				_OBJECT_MAPPER.writeTree(jsonGenerator, entry.getValue());
+			}
+		}
+
+		jsonGenerator.writeFieldName(name);
+
+		JsonNode childJsonNode = jsonNode.path(name);
+
+		if (index < (path.size() - 1)) {
+			_writeObject(
+				jsonGenerator, childJsonNode, path, index + 1,
+				firstJSONObjectBuilder, iterator, remainingObjectNode);
+		}
+		else {
+			jsonGenerator.writeStartArray();
+
+			for (JsonNode element : childJsonNode) {
+				_OBJECT_MAPPER.writeTree(jsonGenerator, element);
+			}
+
+			_writeArrayElements(
+				jsonGenerator, firstJSONObjectBuilder, path,
+				remainingObjectNode);
+
+			while (iterator.hasNext()) {
+				_writeArrayElements(
+					jsonGenerator, iterator.next(), path, remainingObjectNode);
+			}
+
+			jsonGenerator.writeEndArray();
+		}
+
+		_writeRemainingFields(
+			jsonGenerator, jsonNode, path, index, remainingObjectNode);
+
+		jsonGenerator.writeEndObject();
+	}
+
+	private void _writeRemainingFields(
+			JsonGenerator jsonGenerator, JsonNode jsonNode, List<String> path,
+			int index, ObjectNode remainingObjectNode)
+		throws IOException {
+
+		JsonNode remainingJsonNode = remainingObjectNode;
+
+		for (int i = 0; i < index; i++) {
+			remainingJsonNode = remainingJsonNode.path(path.get(i));
+		}
+
+		String name = path.get(index);
+
+		Iterator<Map.Entry<String, JsonNode>> fields =
+			remainingJsonNode.fields();
+
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> entry = fields.next();
+
+			JsonNode fieldJsonNode = entry.getValue();
+
+			if (name.equals(entry.getKey())) {
+				if ((index < (path.size() - 1)) && fieldJsonNode.isObject()) {
+					continue;
+				}
+
+				throw new IllegalStateException(
+					"Unable to stream field " + name + " of a fragment");
+			}
+
+			if (jsonNode.has(entry.getKey())) {
+				throw new IllegalStateException(
+					"Unable to stream field " + entry.getKey() +
+						" of a fragment, because it's already written");
+			}
+
+			jsonGenerator.writeFieldName(entry.getKey());
+
+			_OBJECT_MAPPER.writeTree(jsonGenerator, fieldJsonNode);
+		}
+	}
+
 	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper() {
 		{
 			configure(SORT_PROPERTIES_ALPHABETICALLY, true);
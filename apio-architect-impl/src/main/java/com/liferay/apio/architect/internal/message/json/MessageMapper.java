@@ -14,6 +14,11 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * Maps message data to its representation in a JSON object. Instances of this
  * interface work like events. The message's {@code
@@ -27,6 +32,23 @@ package com.liferay.apio.architect.internal.message.json;
  */
 public interface MessageMapper<T> {
 
+	/**
+	 * Creates the {@code JsonGenerator} used to encode the JSON objects built
+	 * by this mapper to the output stream. By default, JSON objects are
+	 * encoded as UTF-8 JSON text. Mappers for binary formats (e.g., CBOR)
+	 * should override this method.
+	 *
+	 * @param  outputStream the output stream
+	 * @return the JSON generator
+	 * @throws IOException if the generator couldn't be created
+	 * @review
+	 */
+	public default JsonGenerator createJsonGenerator(OutputStream outputStream)
+		throws IOException {
+
+		return JSONObjectBuilder.createJsonGenerator(outputStream);
+	}
+
 	/**
 	 * Returns the media type the mapper represents.
 	 *
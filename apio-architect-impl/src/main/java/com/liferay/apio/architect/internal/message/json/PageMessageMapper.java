@@ -37,6 +37,19 @@ import java.util.Optional;
  * </p>
  *
  * <p>
+ * Pages can also be streamed (see {@link
+ * com.liferay.apio.architect.internal.writer.PageWriter#write(
+ * com.fasterxml.jackson.core.JsonGenerator)}). In that case, {@link #onFinish}
+ * is called once the page's own fields are mapped, but before its items are
+ * mapped. The item methods then receive a JSON object builder for a fragment
+ * of the page rather than the page's JSON object builder, and each fragment
+ * is merged into the page as it's written (see {@link
+ * JSONObjectBuilder#writeTo(com.fasterxml.jackson.core.JsonGenerator,
+ * java.util.Iterator)}). Therefore, {@link #onFinish} must not add item data
+ * or depend on the items being mapped.
+ * </p>
+ *
+ * <p>
  * By default, each item method calls {@link
  * #getSingleModelMessageMapperOptional()} to get a {@link
  * SingleModelMessageMapper}.
@@ -85,6 +98,19 @@ public interface PageMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder, String url) {
 	}
 
+	/**
+	 * Maps the URL of the page items' shared context to its JSON object
+	 * representation (e.g., the URL of a JSON-LD context document). Mappers
+	 * that don't reference shared contexts can ignore this method.
+	 *
+	 * @param  jsonObjectBuilder the JSON object builder for the page
+	 * @param  url the URL of the page items' shared context
+	 * @review
+	 */
+	public default void mapContextURL(
+		JSONObjectBuilder jsonObjectBuilder, String url) {
+	}
+
 	/**
 	 * Maps the current page's URL to its JSON object representation.
 	 *
@@ -65,6 +65,19 @@ public interface SingleModelMessageMapper<T>
 		List<Boolean> value) {
 	}
 
+	/**
+	 * Maps the URL of the model's shared context to its JSON object
+	 * representation (e.g., the URL of a JSON-LD context document). Mappers
+	 * that don't reference shared contexts can ignore this method.
+	 *
+	 * @param  jsonObjectBuilder the JSON object builder for the model
+	 * @param  url the URL of the model's shared context
+	 * @review
+	 */
+	public default void mapContextURL(
+		JSONObjectBuilder jsonObjectBuilder, String url) {
+	}
+
 	/**
 	 * Maps an embedded resource action's method to its JSON object
 	 * representation.
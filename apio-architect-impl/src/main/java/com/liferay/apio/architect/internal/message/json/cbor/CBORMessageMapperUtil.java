@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.cbor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Provides utility functions for CBOR message mappers.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class CBORMessageMapperUtil {
+
+	/**
+	 * Creates a {@code JsonGenerator} that encodes JSON objects as CBOR to
+	 * the provided output stream.
+	 *
+	 * @param  outputStream the output stream
+	 * @return the CBOR generator
+	 * @throws IOException if the generator couldn't be created
+	 */
+	public static JsonGenerator createJsonGenerator(OutputStream outputStream)
+		throws IOException {
+
+		return JSONObjectBuilder.createJsonGenerator(
+			_cborFactory, outputStream);
+	}
+
+	private CBORMessageMapperUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final CBORFactory _cborFactory = new CBORFactory();
+
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.cbor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents single models in CBOR, with the same structure as the JSON-LD +
+ * Hydra format.
+ *
+ * <p>
+ * For more information, see <a
+ * href="https://tools.ietf.org/html/rfc7049">CBOR</a>.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = SingleModelMessageMapper.class)
+public class CBORSingleModelMessageMapper<T>
+	extends JSONLDSingleModelMessageMapper<T> {
+
+	@Override
+	public JsonGenerator createJsonGenerator(OutputStream outputStream)
+		throws IOException {
+
+		return CBORMessageMapperUtil.createJsonGenerator(outputStream);
+	}
+
+	@Override
+	public String getMediaType() {
+		return "application/cbor";
+	}
+
+}
\ No newline at end of file
@@ -19,12 +19,17 @@ import static java.lang.String.join;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.GenericParent;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.resource.Resource.Nested;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Provides utility functions for JSON-LD message mappers.
@@ -89,6 +94,59 @@ public class JSONLDMessageMapperUtil {
 		}
 	}
 
+	/**
+	 * Returns the shared JSON-LD context document of a resource type. The
+	 * document contains the vocabularies used by the JSON-LD mappers and the
+	 * type coercions of the representor's linked models and related
+	 * collections.
+	 *
+	 * @param  baseRepresentor the resource type's representor
+	 * @return the JSON object builder of the context document
+	 * @review
+	 */
+	public static <T> JSONObjectBuilder getContextJSONObjectBuilder(
+		BaseRepresentor<T> baseRepresentor) {
+
+		JSONObjectBuilder termsJSONObjectBuilder = new JSONObjectBuilder();
+
+		List<RelatedModel<T, ?>> relatedModels =
+			baseRepresentor.getRelatedModels();
+
+		Stream<RelatedModel<T, ?>> relatedModelsStream = relatedModels.stream();
+
+		Stream<RelatedCollection<T, ?>> relatedCollectionsStream =
+			baseRepresentor.getRelatedCollections();
+
+		Stream.concat(
+			relatedModelsStream.map(RelatedModel::getKey),
+			relatedCollectionsStream.map(RelatedCollection::getKey)
+		).forEach(
+			key -> termsJSONObjectBuilder.nestedField(
+				key, "@type"
+			).stringValue(
+				"@id"
+			)
+		);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		jsonObjectBuilder.field(
+			"@context"
+		).arrayValue(
+			arrayBuilder -> arrayBuilder.add(
+				builder -> builder.field(
+					"@vocab"
+				).stringValue(
+					"http://schema.org/"
+				)),
+			arrayBuilder -> arrayBuilder.addString(
+				"https://www.w3.org/ns/hydra/core#"),
+			arrayBuilder -> arrayBuilder.add(termsJSONObjectBuilder)
+		);
+
+		return jsonObjectBuilder;
+	}
+
 	private JSONLDMessageMapperUtil() {
 		throw new UnsupportedOperationException();
 	}
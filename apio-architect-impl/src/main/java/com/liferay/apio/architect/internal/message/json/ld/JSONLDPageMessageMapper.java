@@ -22,10 +22,13 @@ import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 
 /**
  * Represents collection pages in JSON-LD + Hydra format.
@@ -35,6 +38,12 @@ import org.osgi.service.component.annotations.Component;
  * href="https://www.hydra-cg.com/">Hydra </a> .
  * </p>
  *
+ * <p>
+ * If the {@code shared.context} property is {@code true}, the page's JSON-LD
+ * context isn't inlined. Instead, the page references the shared context
+ * document of its items' resource type, which can be cached by clients.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -61,6 +70,19 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		_singleModelMessageMapper.mapSelfURL(jsonObjectBuilder, url);
 	}
 
+	@Override
+	public void mapContextURL(JSONObjectBuilder jsonObjectBuilder, String url) {
+		if (!_sharedContext) {
+			return;
+		}
+
+		jsonObjectBuilder.field(
+			"@context"
+		).stringValue(
+			url
+		);
+	}
+
 	@Override
 	public void mapCurrentPageURL(
 		JSONObjectBuilder jsonObjectBuilder, String url) {
@@ -154,18 +176,20 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
 	@Override
 	public void onFinish(JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
-		jsonObjectBuilder.field(
-			"@context"
-		).arrayValue(
-			arrayBuilder -> arrayBuilder.add(
-				builder -> builder.field(
-					"@vocab"
-				).stringValue(
-					"http://schema.org/"
-				)),
-			arrayBuilder -> arrayBuilder.addString(
-				"https://www.w3.org/ns/hydra/core#")
-		);
+		if (!_sharedContext) {
+			jsonObjectBuilder.field(
+				"@context"
+			).arrayValue(
+				arrayBuilder -> arrayBuilder.add(
+					builder -> builder.field(
+						"@vocab"
+					).stringValue(
+						"http://schema.org/"
+					)),
+				arrayBuilder -> arrayBuilder.addString(
+					"https://www.w3.org/ns/hydra/core#")
+			);
+		}
 
 		jsonObjectBuilder.nestedField(
 			"view", "@type"
@@ -228,13 +252,24 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_sharedContext = Boolean.parseBoolean(
+			String.valueOf(properties.get("shared.context")));
+
+		_singleModelMessageMapper = new JSONLDSingleModelMessageMapper<>(
+			_sharedContext);
+	}
+
 	private String[] _getTail(FunctionalList<String> embeddedPathElements) {
 		Stream<String> stream = embeddedPathElements.tailStream();
 
 		return stream.toArray(String[]::new);
 	}
 
-	private final SingleModelMessageMapper<T> _singleModelMessageMapper =
+	private volatile boolean _sharedContext;
+	private volatile SingleModelMessageMapper<T> _singleModelMessageMapper =
 		new JSONLDSingleModelMessageMapper<>();
 
 }
\ No newline at end of file
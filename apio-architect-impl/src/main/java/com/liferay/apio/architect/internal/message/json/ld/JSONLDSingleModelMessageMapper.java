@@ -24,10 +24,13 @@ import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 
 /**
  * Represents single models in JSON-LD + Hydra format.
@@ -37,6 +40,12 @@ import org.osgi.service.component.annotations.Component;
  * href="https://www.hydra-cg.com/">Hydra </a> .
  * </p>
  *
+ * <p>
+ * If the {@code shared.context} property is {@code true}, the model's JSON-LD
+ * context isn't inlined. Instead, the model references the resource type's
+ * shared context document, which can be cached by clients.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -45,6 +54,21 @@ import org.osgi.service.component.annotations.Component;
 public class JSONLDSingleModelMessageMapper<T>
 	implements SingleModelMessageMapper<T> {
 
+	public JSONLDSingleModelMessageMapper() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param  sharedContext whether the mapper should reference the shared
+	 *         context document, instead of inlining the model's context
+	 * @review
+	 */
+	public JSONLDSingleModelMessageMapper(boolean sharedContext) {
+		_sharedContext = sharedContext;
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/ld+json";
@@ -85,6 +109,19 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Override
+	public void mapContextURL(JSONObjectBuilder jsonObjectBuilder, String url) {
+		if (!_sharedContext) {
+			return;
+		}
+
+		jsonObjectBuilder.field(
+			"@context"
+		).stringValue(
+			url
+		);
+	}
+
 	@Override
 	public void mapEmbeddedActionMethod(
 		JSONObjectBuilder singleModelJSONObjectBuilder,
@@ -272,6 +309,10 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
+		if (_sharedContext && !optional.isPresent()) {
+			return;
+		}
+
 		jsonObjectBuilder.ifElseCondition(
 			optional.isPresent(),
 			builder -> builder.nestedField(
@@ -420,6 +461,10 @@ public class JSONLDSingleModelMessageMapper<T>
 	public void onFinish(
 		JSONObjectBuilder jsonObjectBuilder, SingleModel<T> singleModel) {
 
+		if (_sharedContext) {
+			return;
+		}
+
 		jsonObjectBuilder.field(
 			"@context"
 		).arrayValue(
@@ -501,6 +546,13 @@ public class JSONLDSingleModelMessageMapper<T>
 		);
 	}
 
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		_sharedContext = Boolean.parseBoolean(
+			String.valueOf(properties.get("shared.context")));
+	}
+
 	private String[] _getMiddle(FunctionalList<String> embeddedPathElements) {
 		Stream<String> stream = embeddedPathElements.middleStream();
 
@@ -513,4 +565,6 @@ public class JSONLDSingleModelMessageMapper<T>
 		return stream.toArray(String[]::new);
 	}
 
+	private volatile boolean _sharedContext;
+
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.ndjson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Represents single models in plain JSON, written in a single line so they can
+ * be used as lines of a newline-delimited JSON export.
+ *
+ * <p>
+ * For more information, see <a href="http://ndjson.org">NDJSON</a>.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = SingleModelMessageMapper.class)
+public class NDJSONSingleModelMessageMapper<T>
+	extends PlainJSONSingleModelMessageMapper<T> {
+
+	@Override
+	public JsonGenerator createJsonGenerator(OutputStream outputStream)
+		throws IOException {
+
+		JsonGenerator jsonGenerator = super.createJsonGenerator(outputStream);
+
+		jsonGenerator.setPrettyPrinter(null);
+		jsonGenerator.setRootValueSeparator(null);
+
+		return jsonGenerator;
+	}
+
+	@Override
+	public String getMediaType() {
+		return "application/x-ndjson";
+	}
+
+}
\ No newline at end of file
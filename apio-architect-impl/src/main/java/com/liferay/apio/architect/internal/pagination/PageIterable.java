@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.pagination;
+
+import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Represents every page of a collection, starting from a first page. The
+ * following pages are only fetched when the iterator reaches them, so writers
+ * can export the whole collection while only keeping one page in memory.
+ *
+ * <p>
+ * An instance is also the collection's first page, so it's written as a
+ * regular page when the request's content negotiation doesn't select an
+ * export format.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @review
+ */
+public class PageIterable<T> implements Iterable<Page<T>>, Page<T> {
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param  page the collection's first page
+	 * @param  pageFunction the function that fetches a page from its number
+	 * @review
+	 */
+	public PageIterable(Page<T> page, IntFunction<Page<T>> pageFunction) {
+		_page = page;
+		_pageFunction = pageFunction;
+	}
+
+	/**
+	 * Returns the collection's first page.
+	 *
+	 * @return the first page
+	 * @review
+	 */
+	public Page<T> getFirstPage() {
+		return _page;
+	}
+
+	@Override
+	public Collection<T> getItems() {
+		return _page.getItems();
+	}
+
+	@Override
+	public int getItemsPerPage() {
+		return _page.getItemsPerPage();
+	}
+
+	@Override
+	public int getLastPageNumber() {
+		return _page.getLastPageNumber();
+	}
+
+	@Deprecated
+	@Override
+	public List<Operation> getOperations() {
+		return _page.getOperations();
+	}
+
+	@Override
+	public int getPageNumber() {
+		return _page.getPageNumber();
+	}
+
+	@Deprecated
+	@Override
+	public Optional<Path> getPathOptional() {
+		return _page.getPathOptional();
+	}
+
+	@Override
+	public Resource getResource() {
+		return _page.getResource();
+	}
+
+	@Deprecated
+	@Override
+	public String getResourceName() {
+		return _page.getResourceName();
+	}
+
+	@Override
+	public int getTotalCount() {
+		return _page.getTotalCount();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return _page.hasNext();
+	}
+
+	@Override
+	public boolean hasPrevious() {
+		return _page.hasPrevious();
+	}
+
+	@Override
+	public Iterator<Page<T>> iterator() {
+		return new Iterator<Page<T>>() {
+
+			@Override
+			public boolean hasNext() {
+				if ((_nextPage == null) && (_lastPage != null) &&
+					_lastPage.hasNext()) {
+
+					_nextPage = _pageFunction.apply(
+						_lastPage.getPageNumber() + 1);
+
+					_lastPage = null;
+				}
+
+				if ((_nextPage == null) || _nextPage.getItems().isEmpty()) {
+					return false;
+				}
+
+				return true;
+			}
+
+			@Override
+			public Page<T> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				_lastPage = _nextPage;
+
+				_nextPage = null;
+
+				return _lastPage;
+			}
+
+			private Page<T> _lastPage;
+			private Page<T> _nextPage = _page;
+
+		};
+	}
+
+	private final Page<T> _page;
+	private final IntFunction<Page<T>> _pageFunction;
+
+}
\ No newline at end of file
@@ -17,10 +17,9 @@ package com.liferay.apio.architect.internal.provider;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.provider.Provider;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
@@ -44,28 +43,30 @@ public class EmbeddedProvider implements Provider<Embedded> {
 		).map(
 			_pattern::split
 		).map(
-			Arrays::asList
-		).map(
-			EmbeddedProvider::_isEmbedded
+			EmbeddedProvider::_getEmbeddedPaths
+		).<Embedded>map(
+			embeddedPaths -> embeddedPaths::contains
 		).orElse(
 			__ -> false
 		);
 	}
 
-	private static Embedded _isEmbedded(List<String> strings) {
-		return field -> {
-			for (String string : strings) {
-				if (Objects.equals(string, field)) {
-					return true;
-				}
+	private static Set<String> _getEmbeddedPaths(String[] strings) {
+		Set<String> embeddedPaths = new HashSet<>();
+
+		for (String string : strings) {
+			int index = string.indexOf('.');
 
-				if (string.startsWith(field + ".")) {
-					return true;
-				}
+			while (index != -1) {
+				embeddedPaths.add(string.substring(0, index));
+
+				index = string.indexOf('.', index + 1);
 			}
 
-			return false;
-		};
+			embeddedPaths.add(string);
+		}
+
+		return embeddedPaths;
 	}
 
 	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
@@ -18,13 +18,15 @@ import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.provider.Provider;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -42,57 +44,64 @@ import org.osgi.service.component.annotations.Component;
 public class FieldsProvider implements Provider<Fields> {
 
 	public Fields createContext(HttpServletRequest httpServletRequest) {
-		Map<String, String[]> parameterMap =
-			httpServletRequest.getParameterMap();
+		Map<String, Set<String>> fieldsMap = _getFieldsMap(
+			httpServletRequest.getParameterMap());
 
-		Set<Map.Entry<String, String[]>> set = parameterMap.entrySet();
+		if (fieldsMap.isEmpty()) {
+			return types -> field -> true;
+		}
 
-		Stream<Map.Entry<String, String[]>> stream = set.stream();
+		Map<List<String>, Predicate<String>> predicates =
+			new ConcurrentHashMap<>();
 
-		Map<String, List<String>> fieldsMap = stream.filter(
-			entry -> {
-				String key = entry.getKey();
+		return types -> predicates.computeIfAbsent(
+			types, __ -> _getPredicate(fieldsMap, types));
+	}
 
-				return key.matches(_REGEXP);
-			}
-		).filter(
-			entry -> {
-				String[] value = entry.getValue();
+	private static Map<String, Set<String>> _getFieldsMap(
+		Map<String, String[]> parameterMap) {
 
-				if (value.length == 1) {
-					return true;
+		Map<String, Set<String>> fieldsMap = new HashMap<>();
+
+		parameterMap.forEach(
+			(key, value) -> {
+				if ((value.length != 1) || value[0].isEmpty()) {
+					return;
 				}
 
-				return false;
-			}
-		).filter(
-			entry -> !entry.getValue()[0].isEmpty()
-		).collect(
-			Collectors.toMap(
-				entry -> _getTypeFunction.apply(entry.getKey()),
-				entry -> Arrays.asList(entry.getValue()[0].split(",")))
-		);
-
-		return types -> field -> {
-			Stream<String> typesStream = types.stream();
-
-			List<String> fields = typesStream.map(
-				fieldsMap::get
-			).filter(
-				Objects::nonNull
-			).flatMap(
-				List::stream
-			).collect(
-				Collectors.toList()
-			);
-
-			return fields.isEmpty() || fields.contains(field);
-		};
+				Matcher matcher = _pattern.matcher(key);
+
+				if (matcher.matches()) {
+					List<String> fields = Arrays.asList(value[0].split(","));
+
+					fieldsMap.put(matcher.group(1), new HashSet<>(fields));
+				}
+			});
+
+		return fieldsMap;
 	}
 
-	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
+	private static Predicate<String> _getPredicate(
+		Map<String, Set<String>> fieldsMap, List<String> types) {
+
+		Set<String> fields = new HashSet<>();
+
+		for (String type : types) {
+			Set<String> typeFields = fieldsMap.get(type);
+
+			if (typeFields != null) {
+				fields.addAll(typeFields);
+			}
+		}
+
+		if (fields.isEmpty()) {
+			return field -> true;
+		}
+
+		return fields::contains;
+	}
 
-	private static final Function<String, String> _getTypeFunction =
-		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
+	private static final Pattern _pattern = Pattern.compile(
+		"fields\\[([A-Z|a-z]+)]");
 
 }
\ No newline at end of file
@@ -190,6 +190,19 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 		);
 	}
 
+	/**
+	 * Returns this representor's serialization plan, compiled when the
+	 * representor is built; returns {@code null} if the representor hasn't
+	 * been built yet.
+	 *
+	 * @return the serialization plan, if the representor has been built;
+	 *         {@code null} otherwise
+	 * @review
+	 */
+	public SerializationPlan<T> getSerializationPlan() {
+		return _serializationPlan;
+	}
+
 	@Override
 	public List<FieldFunction<T, String>> getStringFunctions() {
 		return Optional.ofNullable(
@@ -674,6 +687,11 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 			@Override
 			public U build() {
+				BaseRepresentorImpl<T> baseRepresentorImpl = baseRepresentor;
+
+				baseRepresentorImpl._serializationPlan =
+					new SerializationPlan<>(baseRepresentor);
+
 				return (U)baseRepresentor;
 			}
 
@@ -729,5 +747,6 @@ public abstract class BaseRepresentorImpl<T> implements BaseRepresentor<T> {
 
 	private final Function<Class<? extends Identifier<?>>, String>
 		_nameFunction;
+	private SerializationPlan<T> _serializationPlan;
 
 }
\ No newline at end of file
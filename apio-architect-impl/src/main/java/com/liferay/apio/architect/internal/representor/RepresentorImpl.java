@@ -20,7 +20,9 @@ import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.representor.Representor;
 
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,6 +38,27 @@ public class RepresentorImpl<T>
 		return _modelToIdentifierFunction.apply(model);
 	}
 
+	@Override
+	public Optional<String> getVersionOptional(T model) {
+		if (_versionFunction == null) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(
+			_versionFunction.apply(model)
+		).map(
+			version -> {
+				if (version instanceof Date) {
+					Date date = (Date)version;
+
+					return String.valueOf(date.getTime());
+				}
+
+				return String.valueOf(version);
+			}
+		);
+	}
+
 	@Override
 	public boolean isNested() {
 		return false;
@@ -111,6 +134,13 @@ public class RepresentorImpl<T>
 				return this;
 			}
 
+			@Override
+			public FirstStep<T> version(Function<T, ?> versionFunction) {
+				baseRepresentor._setVersionFunction(versionFunction);
+
+				return this;
+			}
+
 		}
 
 		public class IdentifierStepImpl implements IdentifierStep<T, S> {
@@ -148,6 +178,11 @@ public class RepresentorImpl<T>
 		_modelToIdentifierFunction = modelToIdentifierFunction;
 	}
 
+	private void _setVersionFunction(Function<T, ?> versionFunction) {
+		_versionFunction = versionFunction;
+	}
+
 	private Function<T, ?> _modelToIdentifierFunction;
+	private Function<T, ?> _versionFunction;
 
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.representor;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Contains the field functions of a {@link BaseRepresentor}, flattened into
+ * arrays of typed accessors and field names. A plan is compiled once per
+ * representor, so writers can run it for every model without walking the
+ * representor's lists.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @review
+ */
+public class SerializationPlan<T> {
+
+	/**
+	 * Returns the serialization plan of the {@code BaseRepresentor}. If the
+	 * representor didn't compile its plan when it was built, a new plan is
+	 * compiled.
+	 *
+	 * @param  baseRepresentor the representor
+	 * @return the representor's serialization plan
+	 */
+	public static <T> SerializationPlan<T> of(
+		BaseRepresentor<T> baseRepresentor) {
+
+		if (baseRepresentor instanceof BaseRepresentorImpl) {
+			BaseRepresentorImpl<T> baseRepresentorImpl =
+				(BaseRepresentorImpl<T>)baseRepresentor;
+
+			SerializationPlan<T> serializationPlan =
+				baseRepresentorImpl.getSerializationPlan();
+
+			if (serializationPlan != null) {
+				return serializationPlan;
+			}
+		}
+
+		return new SerializationPlan<>(baseRepresentor);
+	}
+
+	public SerializationPlan(BaseRepresentor<T> baseRepresentor) {
+		_applicationRelativeURLFieldPlan = new FieldPlan<>(
+			baseRepresentor.getApplicationRelativeURLFunctions());
+		_binaryFieldPlan = new FieldPlan<>(
+			baseRepresentor.getBinaryFunctions());
+		_booleanFieldPlan = new FieldPlan<>(
+			baseRepresentor.getBooleanFunctions());
+		_booleanListFieldPlan = new FieldPlan<>(
+			baseRepresentor.getBooleanListFunctions());
+		_linkFieldPlan = new FieldPlan<>(baseRepresentor.getLinkFunctions());
+		_localizedStringFieldPlan = new FieldPlan<>(
+			baseRepresentor.getLocalizedStringFunctions());
+		_numberFieldPlan = new FieldPlan<>(
+			baseRepresentor.getNumberFunctions());
+		_numberListFieldPlan = new FieldPlan<>(
+			baseRepresentor.getNumberListFunctions());
+		_relativeURLFieldPlan = new FieldPlan<>(
+			baseRepresentor.getRelativeURLFunctions());
+		_stringFieldPlan = new FieldPlan<>(
+			baseRepresentor.getStringFunctions());
+		_stringListFieldPlan = new FieldPlan<>(
+			baseRepresentor.getStringListFunctions());
+	}
+
+	public FieldPlan<T, String> getApplicationRelativeURLFieldPlan() {
+		return _applicationRelativeURLFieldPlan;
+	}
+
+	public FieldPlan<T, BinaryFile> getBinaryFieldPlan() {
+		return _binaryFieldPlan;
+	}
+
+	public FieldPlan<T, Boolean> getBooleanFieldPlan() {
+		return _booleanFieldPlan;
+	}
+
+	public FieldPlan<T, List<Boolean>> getBooleanListFieldPlan() {
+		return _booleanListFieldPlan;
+	}
+
+	public FieldPlan<T, String> getLinkFieldPlan() {
+		return _linkFieldPlan;
+	}
+
+	public FieldPlan<T, Function<AcceptLanguage, String>>
+		getLocalizedStringFieldPlan() {
+
+		return _localizedStringFieldPlan;
+	}
+
+	public FieldPlan<T, Number> getNumberFieldPlan() {
+		return _numberFieldPlan;
+	}
+
+	public FieldPlan<T, List<Number>> getNumberListFieldPlan() {
+		return _numberListFieldPlan;
+	}
+
+	public FieldPlan<T, String> getRelativeURLFieldPlan() {
+		return _relativeURLFieldPlan;
+	}
+
+	public FieldPlan<T, String> getStringFieldPlan() {
+		return _stringFieldPlan;
+	}
+
+	public FieldPlan<T, List<String>> getStringListFieldPlan() {
+		return _stringListFieldPlan;
+	}
+
+	/**
+	 * Contains the field functions of one kind of field (e.g., string fields),
+	 * along with their field names, in declaration order.
+	 *
+	 * @param <T> the model's type
+	 * @param <S> the field's type
+	 */
+	public static class FieldPlan<T, S> {
+
+		public FieldPlan(List<FieldFunction<T, S>> fieldFunctions) {
+			int size = fieldFunctions.size();
+
+			_fieldFunctions = unsafeCast(
+				fieldFunctions.toArray(new FieldFunction<?, ?>[size]));
+			_keys = new String[size];
+
+			for (int i = 0; i < size; i++) {
+				_keys[i] = _fieldFunctions[i].getKey();
+			}
+		}
+
+		/**
+		 * Returns the field function at the provided position.
+		 *
+		 * @param  index the field's position
+		 * @return the field function
+		 */
+		public FieldFunction<T, S> getFieldFunction(int index) {
+			return _fieldFunctions[index];
+		}
+
+		/**
+		 * Returns the name of the field at the provided position.
+		 *
+		 * @param  index the field's position
+		 * @return the field's name
+		 */
+		public String getKey(int index) {
+			return _keys[index];
+		}
+
+		/**
+		 * Returns the number of fields in this plan.
+		 *
+		 * @return the number of fields
+		 */
+		public int size() {
+			return _keys.length;
+		}
+
+		private final FieldFunction<T, S>[] _fieldFunctions;
+		private final String[] _keys;
+
+	}
+
+	private final FieldPlan<T, String> _applicationRelativeURLFieldPlan;
+	private final FieldPlan<T, BinaryFile> _binaryFieldPlan;
+	private final FieldPlan<T, Boolean> _booleanFieldPlan;
+	private final FieldPlan<T, List<Boolean>> _booleanListFieldPlan;
+	private final FieldPlan<T, String> _linkFieldPlan;
+	private final FieldPlan<T, Function<AcceptLanguage, String>>
+		_localizedStringFieldPlan;
+	private final FieldPlan<T, Number> _numberFieldPlan;
+	private final FieldPlan<T, List<Number>> _numberListFieldPlan;
+	private final FieldPlan<T, String> _relativeURLFieldPlan;
+	private final FieldPlan<T, String> _stringFieldPlan;
+	private final FieldPlan<T, List<String>> _stringListFieldPlan;
+
+}
\ No newline at end of file
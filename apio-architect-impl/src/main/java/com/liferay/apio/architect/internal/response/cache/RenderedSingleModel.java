@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.cache;
+
+/**
+ * Represents a single model that has already been rendered with a media type,
+ * as kept by the {@link SingleModelResponseCache}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RenderedSingleModel {
+
+	public RenderedSingleModel(byte[] bytes, String mediaType) {
+		_bytes = bytes;
+		_mediaType = mediaType;
+	}
+
+	/**
+	 * Returns the rendered single model.
+	 *
+	 * @return the rendered single model
+	 */
+	public byte[] getBytes() {
+		return _bytes;
+	}
+
+	/**
+	 * Returns the media type the single model was rendered with.
+	 *
+	 * @return the media type
+	 */
+	public String getMediaType() {
+		return _mediaType;
+	}
+
+	private final byte[] _bytes;
+	private final String _mediaType;
+
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.cache;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Stores the related models retrieved while a request is written, keyed by
+ * their identifier class and identifier. Writers use it so a related model
+ * shared by many items (e.g., the creator of most blog postings in a page) is
+ * only retrieved once per request. The map is kept as a request attribute, so
+ * it's shared by every writer that handles the request.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class SingleModelIdentityMap {
+
+	/**
+	 * Returns the identity map of the provided request, if one has been
+	 * created; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's identity map, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<SingleModelIdentityMap> getOptional(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (attribute instanceof SingleModelIdentityMap) {
+			return Optional.of((SingleModelIdentityMap)attribute);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the identity map of the provided request, creating it if needed.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's identity map
+	 */
+	public static SingleModelIdentityMap of(
+		HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (attribute instanceof SingleModelIdentityMap) {
+			return (SingleModelIdentityMap)attribute;
+		}
+
+		SingleModelIdentityMap singleModelIdentityMap =
+			new SingleModelIdentityMap();
+
+		httpServletRequest.setAttribute(
+			_ATTRIBUTE_NAME, singleModelIdentityMap);
+
+		return singleModelIdentityMap;
+	}
+
+	/**
+	 * Returns the single model stored for the identifier. If there isn't one,
+	 * it's retrieved with the provided function and stored, even if it isn't
+	 * found.
+	 *
+	 * @param  identifierClass the resource's identifier class
+	 * @param  identifier the model's identifier
+	 * @param  supplier the function that retrieves the single model
+	 * @return the single model, if present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<SingleModel<?>> get(
+		Class<? extends Identifier<?>> identifierClass, Object identifier,
+		Supplier<Optional<SingleModel<?>>> supplier) {
+
+		if (identifier == null) {
+			return supplier.get();
+		}
+
+		Map<Object, Optional<SingleModel<?>>> singleModels =
+			_singleModels.computeIfAbsent(
+				identifierClass, __ -> new ConcurrentHashMap<>());
+
+		Optional<SingleModel<?>> optional = singleModels.get(identifier);
+
+		if (optional != null) {
+			_hitCount.incrementAndGet();
+
+			return optional;
+		}
+
+		optional = supplier.get();
+
+		Optional<SingleModel<?>> previousOptional = singleModels.putIfAbsent(
+			identifier, optional);
+
+		if (previousOptional != null) {
+			return previousOptional;
+		}
+
+		return optional;
+	}
+
+	/**
+	 * Returns the number of lookups answered with an already retrieved model.
+	 *
+	 * @return the number of hits
+	 */
+	public int getHitCount() {
+		return _hitCount.get();
+	}
+
+	/**
+	 * Returns the number of models retrieved, including those that weren't
+	 * found.
+	 *
+	 * @return the number of retrieved models
+	 */
+	public int getSize() {
+		int size = 0;
+
+		for (Map<Object, Optional<SingleModel<?>>> singleModels :
+				_singleModels.values()) {
+
+			size += singleModels.size();
+		}
+
+		return size;
+	}
+
+	private SingleModelIdentityMap() {
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		SingleModelIdentityMap.class.getName();
+
+	private final AtomicInteger _hitCount = new AtomicInteger();
+	private final Map<Class<?>, Map<Object, Optional<SingleModel<?>>>>
+		_singleModels = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,416 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.cache;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Keeps a bounded number of rendered single models in memory, so reads of hot
+ * items don't have to retrieve and render them again. The cache is disabled by
+ * default; it's enabled with the {@code enabled} configuration property, and
+ * bounded with the {@code max.entries} and {@code ttl.seconds} properties.
+ *
+ * <p>
+ * Entries are keyed by the item, the request's URL (which contains the {@code
+ * fields} and {@code embedded} parameters), its {@code Accept} and {@code
+ * Accept-Language} headers, and the object returned by its {@link
+ * Credentials}. Requests whose credentials can't be provided aren't cached, so
+ * a single model rendered for one user is never served to another. Since
+ * requests share an entry when their credentials' objects are equal, those
+ * objects must implement {@code equals} and {@code hashCode} consistently. The
+ * least recently used entry is evicted when the cache is full.
+ * </p>
+ *
+ * <p>
+ * An entry is invalidated when an action that modifies its item succeeds, or
+ * when one of the items embedded while rendering it is modified.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = SingleModelResponseCache.class)
+public class SingleModelResponseCache {
+
+	/**
+	 * Records that the item is embedded in the single model being rendered for
+	 * the current request, so the rendered single model is invalidated when the
+	 * item changes.
+	 *
+	 * @param item the embedded item
+	 * @param httpServletRequest the current request
+	 */
+	public void addDependency(
+		Item item, HttpServletRequest httpServletRequest) {
+
+		Object attribute = httpServletRequest.getAttribute(_PENDING_ATTRIBUTE);
+
+		if (attribute == null) {
+			return;
+		}
+
+		String itemKey = _getItemKey(item);
+
+		if (itemKey != null) {
+			Pending pending = (Pending)attribute;
+
+			pending._itemKeys.add(itemKey);
+		}
+	}
+
+	/**
+	 * Returns the rendered single model of the item for the current request, if
+	 * it's cached; returns {@code Optional#empty()} otherwise. On a miss, the
+	 * request is marked so that the single model rendered for it is cached.
+	 *
+	 * @param  item the item
+	 * @param  httpServletRequest the current request
+	 * @return the rendered single model, if cached; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<RenderedSingleModel> get(
+		Item item, HttpServletRequest httpServletRequest) {
+
+		if (!_enabled) {
+			return Optional.empty();
+		}
+
+		String itemKey = _getItemKey(item);
+
+		if (itemKey == null) {
+			return Optional.empty();
+		}
+
+		CacheKey key = _getKey(itemKey, httpServletRequest);
+
+		if (key == null) {
+			return Optional.empty();
+		}
+
+		synchronized (this) {
+			CacheEntry entry = _entries.get(key);
+
+			if (entry != null) {
+				if (entry._expirationTime > System.nanoTime()) {
+					return Optional.of(entry._renderedSingleModel);
+				}
+
+				_remove(key);
+			}
+
+			httpServletRequest.setAttribute(
+				_PENDING_ATTRIBUTE,
+				new Pending(key, itemKey, _invalidationCount));
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Invalidates the rendered single models of the item, and those in which
+	 * the item was embedded.
+	 *
+	 * @param item the modified item
+	 */
+	public void invalidate(Item item) {
+		String itemKey = _getItemKey(item);
+
+		if (itemKey == null) {
+			return;
+		}
+
+		synchronized (this) {
+			_invalidationCount++;
+
+			Set<CacheKey> keys = _keys.remove(itemKey);
+
+			if (keys != null) {
+				keys.forEach(this::_remove);
+			}
+		}
+	}
+
+	/**
+	 * Caches the single model rendered for the current request, if the request
+	 * was marked by {@link #get(Item, HttpServletRequest)}. Single models
+	 * rendered while one of their items was being modified aren't cached.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param mediaType the media type of the rendered single model
+	 * @param supplier the supplier of the rendered single model
+	 */
+	public void put(
+		HttpServletRequest httpServletRequest, String mediaType,
+		Supplier<byte[]> supplier) {
+
+		Object attribute = httpServletRequest.getAttribute(_PENDING_ATTRIBUTE);
+
+		if (attribute == null) {
+			return;
+		}
+
+		httpServletRequest.removeAttribute(_PENDING_ATTRIBUTE);
+
+		Pending pending = (Pending)attribute;
+
+		RenderedSingleModel renderedSingleModel = new RenderedSingleModel(
+			supplier.get(), mediaType);
+
+		CacheEntry entry = new CacheEntry(
+			pending._itemKeys, renderedSingleModel, System.nanoTime() + _ttl);
+
+		synchronized (this) {
+			if ((pending._invalidationCount != _invalidationCount) ||
+				!_enabled) {
+
+				return;
+			}
+
+			_remove(pending._key);
+
+			_entries.put(pending._key, entry);
+
+			for (String itemKey : entry._itemKeys) {
+				Set<CacheKey> keys = _keys.computeIfAbsent(
+					itemKey, __ -> new HashSet<>());
+
+				keys.add(pending._key);
+			}
+		}
+	}
+
+	@Activate
+	@Modified
+	protected void activate(Map<String, Object> properties) {
+		Object enabled = properties.get("enabled");
+
+		int maxEntries = _getInt(properties, "max.entries", _MAX_ENTRIES);
+		int ttlSeconds = _getInt(properties, "ttl.seconds", _TTL_SECONDS);
+
+		synchronized (this) {
+			_enabled = Boolean.parseBoolean(String.valueOf(enabled));
+			_maxEntries = Math.max(maxEntries, 1);
+			_ttl = TimeUnit.SECONDS.toNanos(Math.max(ttlSeconds, 0));
+
+			_entries.clear();
+			_keys.clear();
+		}
+	}
+
+	@Reference
+	protected ProviderManager providerManager;
+
+	private String _getItemKey(Item item) {
+		Optional<Id> optional = item.getIdOptional();
+
+		return optional.map(
+			id -> item.getName() + "/" + id.asString()
+		).orElse(
+			null
+		);
+	}
+
+	private int _getInt(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(String.valueOf(value).trim());
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	private CacheKey _getKey(
+		String itemKey, HttpServletRequest httpServletRequest) {
+
+		Optional<Credentials> optional = providerManager.provideOptional(
+			httpServletRequest, Credentials.class);
+
+		if (!optional.isPresent()) {
+			return null;
+		}
+
+		Credentials credentials = optional.get();
+
+		StringBuffer sb = httpServletRequest.getRequestURL();
+
+		String queryString = httpServletRequest.getQueryString();
+
+		if (queryString != null) {
+			sb.append('?');
+			sb.append(queryString);
+		}
+
+		String request = String.join(
+			"\n", itemKey, sb.toString(),
+			String.valueOf(httpServletRequest.getHeader(ACCEPT)),
+			String.valueOf(httpServletRequest.getHeader(ACCEPT_LANGUAGE)));
+
+		return new CacheKey(request, credentials.get());
+	}
+
+	private void _remove(CacheKey key) {
+		CacheEntry entry = _entries.remove(key);
+
+		if (entry != null) {
+			_unindex(key, entry);
+		}
+	}
+
+	private void _unindex(CacheKey key, CacheEntry entry) {
+		for (String itemKey : entry._itemKeys) {
+			Set<CacheKey> keys = _keys.get(itemKey);
+
+			if (keys != null) {
+				keys.remove(key);
+
+				if (keys.isEmpty()) {
+					_keys.remove(itemKey);
+				}
+			}
+		}
+	}
+
+	private static class CacheEntry {
+
+		private CacheEntry(
+			Set<String> itemKeys, RenderedSingleModel renderedSingleModel,
+			long expirationTime) {
+
+			_itemKeys = itemKeys;
+			_renderedSingleModel = renderedSingleModel;
+			_expirationTime = expirationTime;
+		}
+
+		private final long _expirationTime;
+		private final Set<String> _itemKeys;
+		private final RenderedSingleModel _renderedSingleModel;
+
+	}
+
+	private static class CacheKey {
+
+		private CacheKey(String request, Object credentials) {
+			_request = request;
+			_credentials = credentials;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (object == this) {
+				return true;
+			}
+
+			if (!(object instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey cacheKey = (CacheKey)object;
+
+			if (Objects.equals(_request, cacheKey._request) &&
+				Objects.equals(_credentials, cacheKey._credentials)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_request, _credentials);
+		}
+
+		private final Object _credentials;
+		private final String _request;
+
+	}
+
+	private static class Pending {
+
+		private Pending(CacheKey key, String itemKey, long invalidationCount) {
+			_key = key;
+			_invalidationCount = invalidationCount;
+
+			_itemKeys.add(itemKey);
+		}
+
+		private final long _invalidationCount;
+		private final Set<String> _itemKeys = new HashSet<>();
+		private final CacheKey _key;
+
+	}
+
+	private static final int _MAX_ENTRIES = 1000;
+
+	private static final String _PENDING_ATTRIBUTE =
+		SingleModelResponseCache.class.getName() + "#PENDING";
+
+	private static final int _TTL_SECONDS = 60;
+
+	private volatile boolean _enabled;
+	private final Map<CacheKey, CacheEntry> _entries =
+		new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(
+				Map.Entry<CacheKey, CacheEntry> eldest) {
+
+				if (size() <= _maxEntries) {
+					return false;
+				}
+
+				_unindex(eldest.getKey(), eldest.getValue());
+
+				return true;
+			}
+
+		};
+	private long _invalidationCount;
+	private final Map<String, Set<CacheKey>> _keys = new HashMap<>();
+	private int _maxEntries = _MAX_ENTRIES;
+	private long _ttl = TimeUnit.SECONDS.toNanos(_TTL_SECONDS);
+
+}
\ No newline at end of file
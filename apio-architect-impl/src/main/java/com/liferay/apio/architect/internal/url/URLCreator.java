@@ -28,7 +28,7 @@ import com.liferay.apio.architect.resource.Resource.Nested;
 import com.liferay.apio.architect.resource.Resource.Paged;
 import com.liferay.apio.architect.uri.Path;
 
-import java.net.URI;
+import java.lang.ref.WeakReference;
 
 import java.util.List;
 import java.util.Optional;
@@ -58,7 +58,20 @@ public final class URLCreator {
 	public static String createAbsoluteURL(
 		ApplicationURL applicationURL, String relativeURL) {
 
-		return _buildURL(applicationURL.get(), relativeURL);
+		if ((relativeURL == null) || relativeURL.isEmpty()) {
+			return null;
+		}
+
+		StringBuilder stringBuilder = _getStringBuilder(applicationURL);
+
+		if (relativeURL.startsWith("/")) {
+			stringBuilder.append(relativeURL, 1, relativeURL.length());
+		}
+		else {
+			stringBuilder.append(relativeURL);
+		}
+
+		return stringBuilder.toString();
 	}
 
 	/**
@@ -86,16 +99,17 @@ public final class URLCreator {
 	public static Optional<String> createActionURL(
 		ApplicationURL applicationURL, Resource resource, String actionName) {
 
-		Optional<String> optional = createResourceURL(applicationURL, resource);
+		StringBuilder stringBuilder = _getStringBuilder(applicationURL);
 
-		return optional.map(
-			url -> {
-				if (_resourceActions.contains(actionName)) {
-					return url;
-				}
+		if (!_appendResourcePath(stringBuilder, resource)) {
+			return Optional.empty();
+		}
 
-				return url + "/" + actionName;
-			});
+		if (!_resourceActions.contains(actionName)) {
+			_actionURLTemplate.appendTo(stringBuilder, actionName);
+		}
+
+		return Optional.of(stringBuilder.toString());
 	}
 
 	/**
@@ -109,17 +123,12 @@ public final class URLCreator {
 	public static String createBinaryURL(
 		ApplicationURL applicationURL, String binaryId, Path path) {
 
-		URI uri = UriBuilder.fromPath(
-			"{name}"
-		).path(
-			"{id}"
-		).path(
-			"{binaryId}"
-		).build(
-			path.getName(), path.getId(), binaryId
-		);
+		StringBuilder stringBuilder = _getStringBuilder(applicationURL);
+
+		_binaryURLTemplate.appendTo(
+			stringBuilder, path.getName(), path.getId(), binaryId);
 
-		return createAbsoluteURL(applicationURL, uri.toString());
+		return stringBuilder.toString();
 	}
 
 	/**
@@ -142,6 +151,24 @@ public final class URLCreator {
 		).toString();
 	}
 
+	/**
+	 * Returns the URL of the shared JSON-LD context of a resource type.
+	 *
+	 * @param  applicationURL the application URL
+	 * @param  name the resource's name
+	 * @return the URL of the resource's JSON-LD context
+	 * @review
+	 */
+	public static String createContextURL(
+		ApplicationURL applicationURL, String name) {
+
+		StringBuilder stringBuilder = _getStringBuilder(applicationURL);
+
+		_contextURLTemplate.appendTo(stringBuilder, name);
+
+		return stringBuilder.toString();
+	}
+
 	/**
 	 * Returns the URL for a generic parent resource, if an ID for the generic
 	 * parent is present. Returns {@code Optional#empty()} otherwise.
@@ -155,22 +182,7 @@ public final class URLCreator {
 	public static Optional<String> createGenericParentResourceURL(
 		ApplicationURL applicationURL, GenericParent genericParent) {
 
-		Optional<Id> optional = genericParent.getParentIdOptional();
-
-		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{name}"
-			).path(
-				"{parentName}"
-			).path(
-				"{parentId}"
-			).build(
-				genericParent.getName(), genericParent.getParentName(),
-				id.asString()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+		return createResourceURL(applicationURL, genericParent);
 	}
 
 	/**
@@ -186,19 +198,7 @@ public final class URLCreator {
 	public static Optional<String> createItemResourceURL(
 		ApplicationURL applicationURL, Item item) {
 
-		Optional<Id> optional = item.getIdOptional();
-
-		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{name}"
-			).path(
-				"{id}"
-			).build(
-				item.getName(), id.asString()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+		return createResourceURL(applicationURL, item);
 	}
 
 	/**
@@ -214,23 +214,7 @@ public final class URLCreator {
 	public static Optional<String> createNestedResourceURL(
 		ApplicationURL applicationURL, Nested nested) {
 
-		Item parent = nested.getParentItem();
-
-		Optional<Id> optional = parent.getIdOptional();
-
-		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{parentName}"
-			).path(
-				"{id}"
-			).path(
-				"{name}"
-			).build(
-				parent.getName(), id.asString(), nested.getName()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+		return createResourceURL(applicationURL, nested);
 	}
 
 	/**
@@ -244,13 +228,11 @@ public final class URLCreator {
 	public static String createPagedResourceURL(
 		ApplicationURL applicationURL, Paged paged) {
 
-		URI uri = UriBuilder.fromPath(
-			"{name}"
-		).build(
-			paged.getName()
-		);
+		StringBuilder stringBuilder = _getStringBuilder(applicationURL);
+
+		_pagedURLTemplate.appendTo(stringBuilder, paged.getName());
 
-		return createAbsoluteURL(applicationURL, uri.toString());
+		return stringBuilder.toString();
 	}
 
 	/**
@@ -264,32 +246,13 @@ public final class URLCreator {
 	public static Optional<String> createResourceURL(
 		ApplicationURL applicationURL, Resource resource) {
 
-		if (resource instanceof Paged) {
-			Paged paged = (Paged)resource;
-
-			return Optional.of(createPagedResourceURL(applicationURL, paged));
-		}
-
-		if (resource instanceof Nested) {
-			Nested nested = (Nested)resource;
-
-			return createNestedResourceURL(applicationURL, nested);
-		}
-
-		if (resource instanceof GenericParent) {
-			GenericParent genericParent = (GenericParent)resource;
-
-			return createGenericParentResourceURL(
-				applicationURL, genericParent);
-		}
-
-		if (resource instanceof Item) {
-			Item item = (Item)resource;
+		StringBuilder stringBuilder = _getStringBuilder(applicationURL);
 
-			return createItemResourceURL(applicationURL, item);
+		if (!_appendResourcePath(stringBuilder, resource)) {
+			return Optional.empty();
 		}
 
-		return Optional.empty();
+		return Optional.of(stringBuilder.toString());
 	}
 
 	/**
@@ -322,6 +285,73 @@ public final class URLCreator {
 		);
 	}
 
+	private static boolean _appendResourcePath(
+		StringBuilder stringBuilder, Resource resource) {
+
+		if (resource instanceof Paged) {
+			_pagedURLTemplate.appendTo(stringBuilder, resource.getName());
+
+			return true;
+		}
+
+		if (resource instanceof Nested) {
+			Nested nested = (Nested)resource;
+
+			Item parent = nested.getParentItem();
+
+			Optional<Id> optional = parent.getIdOptional();
+
+			if (!optional.isPresent()) {
+				return false;
+			}
+
+			Id id = optional.get();
+
+			_nestedURLTemplate.appendTo(
+				stringBuilder, parent.getName(), id.asString(),
+				nested.getName());
+
+			return true;
+		}
+
+		if (resource instanceof GenericParent) {
+			GenericParent genericParent = (GenericParent)resource;
+
+			Optional<Id> optional = genericParent.getParentIdOptional();
+
+			if (!optional.isPresent()) {
+				return false;
+			}
+
+			Id id = optional.get();
+
+			_genericParentURLTemplate.appendTo(
+				stringBuilder, genericParent.getName(),
+				genericParent.getParentName(), id.asString());
+
+			return true;
+		}
+
+		if (resource instanceof Item) {
+			Item item = (Item)resource;
+
+			Optional<Id> optional = item.getIdOptional();
+
+			if (!optional.isPresent()) {
+				return false;
+			}
+
+			Id id = optional.get();
+
+			_itemURLTemplate.appendTo(
+				stringBuilder, item.getName(), id.asString());
+
+			return true;
+		}
+
+		return false;
+	}
+
 	private static String _buildURL(String baseUrl, String relativeURL) {
 		if ((relativeURL == null) || relativeURL.isEmpty()) {
 			return null;
@@ -338,6 +368,14 @@ public final class URLCreator {
 		return join("/", baseUrl, relativeURL);
 	}
 
+	private static StringBuilder _getStringBuilder(
+		ApplicationURL applicationURL) {
+
+		URLBuffer urlBuffer = _urlBufferThreadLocal.get();
+
+		return urlBuffer.reset(applicationURL);
+	}
+
 	private static Predicate<Path> _isNotEmpty(
 		Function<Path, String> function) {
 
@@ -352,7 +390,51 @@ public final class URLCreator {
 		throw new UnsupportedOperationException();
 	}
 
+	private static class URLBuffer {
+
+		public StringBuilder reset(ApplicationURL applicationURL) {
+			if (_applicationURLReference.get() != applicationURL) {
+				String prefix = applicationURL.get();
+
+				if (prefix.endsWith("/")) {
+					prefix = prefix.substring(0, prefix.length() - 1);
+				}
+
+				_applicationURLReference = new WeakReference<>(applicationURL);
+				_prefix = prefix + "/";
+			}
+
+			_stringBuilder.setLength(0);
+
+			_stringBuilder.append(_prefix);
+
+			return _stringBuilder;
+		}
+
+		private WeakReference<ApplicationURL> _applicationURLReference =
+			new WeakReference<>(null);
+		private String _prefix;
+		private final StringBuilder _stringBuilder = new StringBuilder(256);
+
+	}
+
+	private static final URLTemplate _actionURLTemplate = URLTemplate.compile(
+		"/{actionName}");
+	private static final URLTemplate _binaryURLTemplate = URLTemplate.compile(
+		"{name}/{id}/{binaryId}");
+	private static final URLTemplate _contextURLTemplate = URLTemplate.compile(
+		"doc/context/{name}");
+	private static final URLTemplate _genericParentURLTemplate =
+		URLTemplate.compile("{name}/{parentName}/{parentId}");
+	private static final URLTemplate _itemURLTemplate = URLTemplate.compile(
+		"{name}/{id}");
+	private static final URLTemplate _nestedURLTemplate = URLTemplate.compile(
+		"{parentName}/{id}/{name}");
+	private static final URLTemplate _pagedURLTemplate = URLTemplate.compile(
+		"{name}");
 	private static final List<String> _resourceActions = asList(
 		"create", "remove", "replace", "retrieve");
+	private static final ThreadLocal<URLBuffer> _urlBufferThreadLocal =
+		ThreadLocal.withInitial(URLBuffer::new);
 
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.url;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a precompiled URL template, like {@code {name}/{id}}. Templates
+ * are parsed once, and are filled by appending their literal parts and their
+ * encoded variables to a {@code StringBuilder}, without creating intermediate
+ * {@code java.net.URI} objects.
+ *
+ * <p>
+ * Variables are encoded as URI path segments, so a variable's value can't add
+ * new segments to the URL.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+final class URLTemplate {
+
+	/**
+	 * Compiles a URL template. Variables are identified by curly braces, and
+	 * are filled in the order they appear in the template.
+	 *
+	 * @param  template the URL template
+	 * @return the compiled template
+	 */
+	public static URLTemplate compile(String template) {
+		List<String> literals = new ArrayList<>();
+
+		int start = 0;
+
+		int index = template.indexOf('{');
+
+		while (index != -1) {
+			int end = template.indexOf('}', index);
+
+			if (end == -1) {
+				throw new IllegalArgumentException(
+					"Unclosed variable in URL template " + template);
+			}
+
+			literals.add(template.substring(start, index));
+
+			start = end + 1;
+
+			index = template.indexOf('{', start);
+		}
+
+		literals.add(template.substring(start));
+
+		return new URLTemplate(literals.toArray(new String[0]));
+	}
+
+	/**
+	 * Appends the template to the {@code StringBuilder}, filling its variables
+	 * with the provided values.
+	 *
+	 * @param stringBuilder the string builder
+	 * @param values the variables' values, in the order they appear in the
+	 *        template
+	 */
+	public void appendTo(StringBuilder stringBuilder, String... values) {
+		if (values.length != _literals.length - 1) {
+			throw new IllegalArgumentException(
+				"Expected " + (_literals.length - 1) + " values, but got " +
+					values.length);
+		}
+
+		stringBuilder.append(_literals[0]);
+
+		for (int i = 0; i < values.length; i++) {
+			_appendEncoded(stringBuilder, values[i]);
+
+			stringBuilder.append(_literals[i + 1]);
+		}
+	}
+
+	private static void _appendEncoded(
+		StringBuilder stringBuilder, String value) {
+
+		int length = value.length();
+
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+
+			if ((c < 128) && _allowedCharacters[c]) {
+				stringBuilder.append(c);
+
+				continue;
+			}
+
+			int codePoint = value.codePointAt(i);
+
+			String string = new String(Character.toChars(codePoint));
+
+			for (byte b : string.getBytes(UTF_8)) {
+				stringBuilder.append('%');
+				stringBuilder.append(_HEX_DIGITS[(b >> 4) & 0xF]);
+				stringBuilder.append(_HEX_DIGITS[b & 0xF]);
+			}
+
+			i += Character.charCount(codePoint) - 1;
+		}
+	}
+
+	private URLTemplate(String[] literals) {
+		_literals = literals;
+	}
+
+	private static final char[] _HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private static final boolean[] _allowedCharacters = new boolean[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			_allowedCharacters[c] = true;
+		}
+
+		for (char c = 'A'; c <= 'Z'; c++) {
+			_allowedCharacters[c] = true;
+		}
+
+		for (char c = '0'; c <= '9'; c++) {
+			_allowedCharacters[c] = true;
+		}
+
+		for (char c : "-._~!$&'()*+,=:@".toCharArray()) {
+			_allowedCharacters[c] = true;
+		}
+	}
+
+	private final String[] _literals;
+
+}
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.base;
 
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection;
 import com.liferay.apio.architect.internal.wiring.osgi.tracker.map.listener.ClearCacheServiceTrackerMapListener;
 import com.liferay.osgi.service.tracker.collections.internal.DefaultServiceTrackerCustomizer;
 import com.liferay.osgi.service.tracker.collections.internal.map.ServiceTrackerMapImpl;
@@ -38,8 +39,9 @@ import org.osgi.service.component.annotations.Deactivate;
  */
 public abstract class BaseManager<T, U> {
 
-	public BaseManager(Class<T> managedClass) {
+	public BaseManager(Class<T> managedClass, CacheSection cacheSection) {
 		_managedClass = managedClass;
+		_cacheSection = cacheSection;
 	}
 
 	@Activate
@@ -50,15 +52,15 @@ public abstract class BaseManager<T, U> {
 			bundleContext, _managedClass, null, this::emit,
 			new DefaultServiceTrackerCustomizer<>(bundleContext),
 			new SingleValueServiceTrackerBucketFactory<>(),
-			new ClearCacheServiceTrackerMapListener<>());
+			new ClearCacheServiceTrackerMapListener<>(_cacheSection));
 
-		INSTANCE.clear();
+		INSTANCE.clear(_cacheSection);
 	}
 
 	@Deactivate
 	public void deactivate() {
 		serviceTrackerMap.close();
-		INSTANCE.clear();
+		INSTANCE.clear(_cacheSection);
 	}
 
 	public void forEachService(BiConsumer<U, T> biConsumer) {
@@ -80,6 +82,7 @@ public abstract class BaseManager<T, U> {
 	protected BundleContext bundleContext;
 	protected ServiceTrackerMap<U, T> serviceTrackerMap;
 
+	private final CacheSection _cacheSection;
 	private final Class<T> _managedClass;
 
 }
\ No newline at end of file
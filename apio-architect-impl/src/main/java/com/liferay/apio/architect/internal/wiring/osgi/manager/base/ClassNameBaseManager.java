@@ -21,6 +21,7 @@ import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.Manag
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection;
 import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper.Emitter;
 
 import java.util.Optional;
@@ -38,9 +39,10 @@ import org.slf4j.Logger;
 public abstract class ClassNameBaseManager<T> extends BaseManager<T, String> {
 
 	public ClassNameBaseManager(
-		Class<T> managedClass, int principalTypeParamPosition) {
+		Class<T> managedClass, int principalTypeParamPosition,
+		CacheSection cacheSection) {
 
-		super(managedClass);
+		super(managedClass, cacheSection);
 
 		_managedClass = managedClass;
 		_principalTypeParamPosition = principalTypeParamPosition;
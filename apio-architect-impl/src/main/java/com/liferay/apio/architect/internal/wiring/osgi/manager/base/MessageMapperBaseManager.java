@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.base;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection;
 import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper;
 
 import java.util.function.BiConsumer;
@@ -37,9 +38,10 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 	extends BaseManager<T, String> {
 
 	public MessageMapperBaseManager(
-		Class<T> managedClass, BiConsumer<MediaType, T> storeBiConsumer) {
+		Class<T> managedClass, BiConsumer<MediaType, T> storeBiConsumer,
+		CacheSection cacheSection) {
 
-		super(managedClass);
+		super(managedClass, cacheSection);
 
 		_storeBiConsumer = storeBiConsumer;
 	}
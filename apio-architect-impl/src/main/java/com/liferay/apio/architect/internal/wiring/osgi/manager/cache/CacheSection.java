@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+/**
+ * Represents the sections of the {@link ManagerCache} that can be cleared on
+ * their own. Clearing a section also clears the sections computed from it
+ * (e.g., clearing the parsed types also clears the representors and the
+ * routes), so only the affected data is computed again.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public enum CacheSection {
+
+	ACTION_SEMANTICS, BATCH_RESULT_MESSAGE_MAPPERS, COLLECTION_ROUTES,
+	CUSTOM_DOCUMENTATION, DOCUMENTATION_MESSAGE_MAPPERS,
+	ENTRY_POINT_MESSAGE_MAPPERS, ERROR_MESSAGE_MAPPERS, EXCEPTION_MAPPERS,
+	ITEM_ROUTES, NESTED_COLLECTION_ROUTES, PAGE_MESSAGE_MAPPERS, PARSED_TYPES,
+	PATH_IDENTIFIER_MAPPERS, PROVIDERS, REPRESENTABLES,
+	REUSABLE_NESTED_COLLECTION_ROUTES, SINGLE_MODEL_MESSAGE_MAPPERS
+
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Rebuilds the cacheable documents (e.g., the API documentation and entry
+ * point) in the background every time the {@link ManagerCache} is cleared, so
+ * clients don't have to wait for them to be written again.
+ *
+ * <p>
+ * The cache is usually cleared many times in a row while routers are being
+ * registered, so documents are only rebuilt once the cache hasn't been cleared
+ * for the configured delay.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(immediate = true, service = EncodedDocumentRebuilder.class)
+public class EncodedDocumentRebuilder {
+
+	@Activate
+	@Modified
+	protected synchronized void activate(Map<String, Object> properties) {
+		deactivate();
+
+		_delay = _getInt(properties, "rebuild.delay", 500);
+
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			runnable -> {
+				Thread thread = new Thread(
+					runnable, "Apio Architect Document Rebuilder");
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+		INSTANCE.setInvalidationListener(this::_scheduleRebuild);
+
+		_scheduleRebuild();
+	}
+
+	@Deactivate
+	protected synchronized void deactivate() {
+		if (_scheduledExecutorService != null) {
+			INSTANCE.setInvalidationListener(null);
+
+			_scheduledExecutorService.shutdownNow();
+
+			_scheduledExecutorService = null;
+			_scheduledFuture = null;
+		}
+	}
+
+	private int _getInt(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(String.valueOf(value).trim());
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	private synchronized void _scheduleRebuild() {
+		if (_scheduledExecutorService == null) {
+			return;
+		}
+
+		if (_scheduledFuture != null) {
+			_scheduledFuture.cancel(false);
+		}
+
+		_scheduledFuture = _scheduledExecutorService.schedule(
+			INSTANCE::rebuildEncodedDocuments, Math.max(_delay, 0),
+			TimeUnit.MILLISECONDS);
+	}
+
+	private int _delay;
+	private ScheduledExecutorService _scheduledExecutorService;
+	private ScheduledFuture<?> _scheduledFuture;
+
+}
\ No newline at end of file
@@ -16,10 +16,14 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
 
 import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
 
+import static org.apache.commons.lang3.StringUtils.deleteWhitespace;
+
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.action.ActionSemanticsIndex;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
+import com.liferay.apio.architect.internal.jaxrs.interceptor.EncodedDocument;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
@@ -28,6 +32,7 @@ import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.ResolvedPathIdentifierMapper;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes;
@@ -35,11 +40,20 @@ import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -54,6 +68,14 @@ import javax.ws.rs.core.Variant.VariantListBuilder;
  * #INSTANCE}.
  * </p>
  *
+ * <p>
+ * The cached data is kept in a snapshot that's never modified once it's
+ * published, so readers never block or see half-built data. When some data
+ * is missing, only one thread computes it into a copy of the snapshot, which
+ * is then published atomically. A snapshot whose computation started before
+ * the cache was cleared is never published.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ManagerCache {
@@ -69,44 +91,55 @@ public class ManagerCache {
 	 * @param actionSemantics the action semantics
 	 */
 	public void addActionSemantics(ActionSemantics actionSemantics) {
-		if (_actionSemantics == null) {
-			_actionSemantics = new ArrayList<>();
-		}
-
-		_actionSemantics.add(actionSemantics);
+		_update(
+			snapshot -> snapshot._actionSemantics = snapshot._add(
+				snapshot._actionSemantics, actionSemantics));
 	}
 
 	/**
 	 * Clears the cache.
 	 */
 	public void clear() {
-		_actionSemantics = null;
-		_collectionRoutes = null;
-		_documentationMessageMappers = null;
-		_entryPointMessageMappers = null;
-		_errorMessageMappers = null;
-		_identifierClasses = null;
-		_reusableIdentifierClasses = null;
-		_itemRoutes = null;
-		_names = null;
-		_nestedCollectionRoutes = null;
-		_pageMessageMappers = null;
-		_parsedTypes = null;
-		_batchResultMessageMappers = null;
-		_representors = null;
-		_reusableNestedCollectionRoutes = null;
-		_rootResourceNameSdks = null;
-		_singleModelMessageMappers = null;
+		_snapshot.set(new Snapshot());
+
+		_notifyInvalidationListener();
+	}
+
+	/**
+	 * Clears a section of the cache, along with the sections computed from it.
+	 * The rest of the cache is kept, so only the cleared sections are computed
+	 * again.
+	 *
+	 * @param  cacheSection the section to clear
+	 * @review
+	 */
+	public void clear(CacheSection cacheSection) {
+		_publish(snapshot -> snapshot._clear(cacheSection));
+
+		_notifyInvalidationListener();
 	}
 
 	public List<ActionSemantics> getActionSemantics(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_actionSemantics == null) {
-			computeEmptyFunction.invoke();
-		}
+		return _get(
+			snapshot -> snapshot._actionSemantics, computeEmptyFunction);
+	}
 
-		return _actionSemantics;
+	/**
+	 * Returns the index of the action semantics provided by every router. If
+	 * the index isn't cached, it's computed with the provided function.
+	 *
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @return the action semantics index
+	 * @review
+	 */
+	public ActionSemanticsIndex getActionSemanticsIndex(
+		EmptyFunction computeEmptyFunction) {
+
+		return _get(
+			snapshot -> snapshot._actionSemanticsIndex, computeEmptyFunction);
 	}
 
 	/**
@@ -114,6 +147,8 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header, used to reuse the
+	 *         result of previous negotiations; {@code null} if it's unknown
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the batch result message mapper, if present; {@code
@@ -121,14 +156,13 @@ public class ManagerCache {
 	 */
 	public <T> Optional<BatchResultMessageMapper<T>>
 		getBatchResultMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_batchResultMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, String accept,
+			EmptyFunction computeEmptyFunction) {
 
 		Optional<BatchResultMessageMapper> optional = _getMessageMapperOptional(
-			request, _batchResultMessageMappers);
+			request, accept, BatchResultMessageMapper.class,
+			snapshot -> snapshot._batchResultMessageMappers,
+			computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -136,21 +170,15 @@ public class ManagerCache {
 	public Map<String, CollectionRoutes> getCollectionRoutes(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _collectionRoutes;
+		return _get(
+			snapshot -> snapshot._collectionRoutes, computeEmptyFunction);
 	}
 
 	public CustomDocumentation getDocumentationContribution(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_customDocumentation == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _customDocumentation;
+		return _get(
+			snapshot -> snapshot._customDocumentation, computeEmptyFunction);
 	}
 
 	/**
@@ -158,6 +186,8 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header, used to reuse the
+	 *         result of previous negotiations; {@code null} if it's unknown
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the documentation message mapper, if present; {@code
@@ -165,37 +195,66 @@ public class ManagerCache {
 	 */
 	public Optional<DocumentationMessageMapper>
 		getDocumentationMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_documentationMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, String accept,
+			EmptyFunction computeEmptyFunction) {
 
 		Optional<DocumentationMessageMapper> optional =
-			_getMessageMapperOptional(request, _documentationMessageMappers);
+			_getMessageMapperOptional(
+				request, accept, DocumentationMessageMapper.class,
+				snapshot -> snapshot._documentationMessageMappers,
+				computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Returns a document that only changes when routers change (e.g., the API
+	 * documentation), already encoded with every supported content coding. If
+	 * the document isn't cached, it's computed with the provided function. Once
+	 * the cache holds its maximum number of documents, documents that aren't
+	 * cached are computed every time.
+	 *
+	 * @param  key the document's key
+	 * @param  function the function that computes the document from its key
+	 * @return the encoded document
+	 * @review
+	 */
+	public EncodedDocument getEncodedDocument(
+		String key, Function<String, EncodedDocument> function) {
+
+		Snapshot snapshot = _getSnapshot();
+
+		Map<String, EncodedDocument> encodedDocuments =
+			snapshot._encodedDocuments;
+
+		if ((encodedDocuments.size() >= _MAX_ENCODED_DOCUMENTS) &&
+			!encodedDocuments.containsKey(key)) {
+
+			return function.apply(key);
+		}
+
+		return _computeIfAbsent(encodedDocuments, key, function);
+	}
+
 	/**
 	 * Returns the entry point message mapper, if present, for the current
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header, used to reuse the
+	 *         result of previous negotiations; {@code null} if it's unknown
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the entry point message mapper, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<EntryPointMessageMapper> getEntryPointMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_entryPointMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, String accept, EmptyFunction computeEmptyFunction) {
 
 		Optional<EntryPointMessageMapper> optional = _getMessageMapperOptional(
-			request, _entryPointMessageMappers);
+			request, accept, EntryPointMessageMapper.class,
+			snapshot -> snapshot._entryPointMessageMappers,
+			computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -205,20 +264,19 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header, used to reuse the
+	 *         result of previous negotiations; {@code null} if it's unknown
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the error message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_errorMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, String accept, EmptyFunction computeEmptyFunction) {
 
 		Optional<ErrorMessageMapper> optional = _getMessageMapperOptional(
-			request, _errorMessageMappers);
+			request, accept, ErrorMessageMapper.class,
+			snapshot -> snapshot._errorMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -234,12 +292,8 @@ public class ManagerCache {
 	public <T extends Identifier> Optional<Class<T>> getIdentifierClassOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_identifierClasses == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_identifierClasses
+			_get(snapshot -> snapshot._identifierClasses, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -250,11 +304,25 @@ public class ManagerCache {
 	public Map<String, ItemRoutes> getItemRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
+		return _get(snapshot -> snapshot._itemRoutes, computeEmptyFunction);
+	}
 
-		return _itemRoutes;
+	/**
+	 * Returns the shared JSON-LD context document of a resource type. If the
+	 * document isn't cached, it's computed with the provided function.
+	 *
+	 * @param  name the resource's name
+	 * @param  function the function that computes the document from the
+	 *         resource's name
+	 * @return the JSON-LD context document, encoded as UTF-8
+	 * @review
+	 */
+	public byte[] getJSONLDContext(
+		String name, Function<String, byte[]> function) {
+
+		Snapshot snapshot = _getSnapshot();
+
+		return _computeIfAbsent(snapshot._jsonLDContexts, name, function);
 	}
 
 	/**
@@ -269,13 +337,11 @@ public class ManagerCache {
 	public Optional<String> getNameOptional(
 		String className, EmptyFunction computeEmptyFunction) {
 
-		if (_names == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		Optional<Map<String, String>> optional = getNamesOptional();
-
-		return optional.map(map -> map.get(className));
+		return Optional.ofNullable(
+			_get(snapshot -> snapshot._names, computeEmptyFunction)
+		).map(
+			map -> map.get(className)
+		);
 	}
 
 	/**
@@ -288,17 +354,16 @@ public class ManagerCache {
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<Map<String, String>> getNamesOptional() {
-		return Optional.ofNullable(_names);
+		Snapshot snapshot = _getSnapshot();
+
+		return Optional.ofNullable(snapshot._names);
 	}
 
 	public Map<String, NestedCollectionRoutes> getNestedCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _nestedCollectionRoutes;
+		return _get(
+			snapshot -> snapshot._nestedCollectionRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -306,20 +371,19 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header, used to reuse the
+	 *         result of previous negotiations; {@code null} if it's unknown
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the page message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_pageMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, String accept, EmptyFunction computeEmptyFunction) {
 
 		Optional<PageMessageMapper> optional = _getMessageMapperOptional(
-			request, _pageMessageMappers);
+			request, accept, PageMessageMapper.class,
+			snapshot -> snapshot._pageMessageMappers, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -335,21 +399,13 @@ public class ManagerCache {
 	public Map<String, ParsedType> getParsedTypesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_parsedTypes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _parsedTypes;
+		return _get(snapshot -> snapshot._parsedTypes, computeEmptyFunction);
 	}
 
 	public Map<String, Representor> getRepresentorMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _representors;
+		return _get(snapshot -> snapshot._representors, computeEmptyFunction);
 	}
 
 	/**
@@ -364,12 +420,8 @@ public class ManagerCache {
 	public <T> Optional<Representor<T>> getRepresentorOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_representors
+			_get(snapshot -> snapshot._representors, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -377,19 +429,38 @@ public class ManagerCache {
 		);
 	}
 
+	/**
+	 * Returns the path identifier mappers resolved for a resource name. If
+	 * they aren't cached, they're resolved with the provided function.
+	 *
+	 * @param  name the resource's name
+	 * @param  function the function that resolves the mappers from the
+	 *         resource's name
+	 * @return the resolved path identifier mappers
+	 * @review
+	 */
+	public ResolvedPathIdentifierMapper getResolvedPathIdentifierMapper(
+		String name, Function<String, ResolvedPathIdentifierMapper> function) {
+
+		Snapshot snapshot = _getSnapshot();
+
+		return _computeIfAbsent(
+			snapshot._resolvedPathIdentifierMappers, name, function);
+	}
+
 	public Map<String, NestedCollectionRoutes> getReusableCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _reusableNestedCollectionRoutes;
+		return _get(
+			snapshot -> snapshot._reusableNestedCollectionRoutes,
+			computeEmptyFunction);
 	}
 
 	public Optional<Class<?>> getReusableIdentifierClassOptional(String name) {
+		Snapshot snapshot = _getSnapshot();
+
 		return Optional.ofNullable(
-			_reusableIdentifierClasses
+			snapshot._reusableIdentifierClasses
 		).map(
 			map -> map.get(name)
 		).map(
@@ -402,6 +473,8 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header, used to reuse the
+	 *         result of previous negotiations; {@code null} if it's unknown
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the single model message mapper, if present; {@code
@@ -409,18 +482,30 @@ public class ManagerCache {
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_singleModelMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, String accept,
+			EmptyFunction computeEmptyFunction) {
 
 		Optional<SingleModelMessageMapper> optional = _getMessageMapperOptional(
-			request, _singleModelMessageMappers);
+			request, accept, SingleModelMessageMapper.class,
+			snapshot -> snapshot._singleModelMessageMappers,
+			computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Sets the index of the action semantics provided by every router.
+	 *
+	 * @param  actionSemanticsIndex the action semantics index
+	 * @review
+	 */
+	public void putActionSemanticsIndex(
+		ActionSemanticsIndex actionSemanticsIndex) {
+
+		_update(
+			snapshot -> snapshot._actionSemanticsIndex = actionSemanticsIndex);
+	}
+
 	/**
 	 * Adds a batch result message mapper.
 	 *
@@ -431,11 +516,10 @@ public class ManagerCache {
 		MediaType mediaType,
 		BatchResultMessageMapper batchResultMessageMapper) {
 
-		if (_batchResultMessageMappers == null) {
-			_batchResultMessageMappers = new HashMap<>();
-		}
-
-		_batchResultMessageMappers.put(mediaType, batchResultMessageMapper);
+		_update(
+			snapshot -> snapshot._batchResultMessageMappers = snapshot._put(
+				snapshot._batchResultMessageMappers, mediaType,
+				batchResultMessageMapper));
 	}
 
 	/**
@@ -447,17 +531,16 @@ public class ManagerCache {
 	public void putCollectionRoutes(
 		String key, CollectionRoutes collectionRoutes) {
 
-		if (_collectionRoutes == null) {
-			_collectionRoutes = new HashMap<>();
-		}
-
-		_collectionRoutes.put(key, collectionRoutes);
+		_update(
+			snapshot -> snapshot._collectionRoutes = snapshot._put(
+				snapshot._collectionRoutes, key, collectionRoutes));
 	}
 
 	public void putDocumentationContribution(
 		CustomDocumentation customDocumentation) {
 
-		_customDocumentation = customDocumentation;
+		_update(
+			snapshot -> snapshot._customDocumentation = customDocumentation);
 	}
 
 	/**
@@ -470,11 +553,31 @@ public class ManagerCache {
 		MediaType mediaType,
 		DocumentationMessageMapper documentationMessageMapper) {
 
-		if (_documentationMessageMappers == null) {
-			_documentationMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> snapshot._documentationMessageMappers = snapshot._put(
+				snapshot._documentationMessageMappers, mediaType,
+				documentationMessageMapper));
+	}
+
+	/**
+	 * Registers the function that computes a cacheable document again, without
+	 * the request that created it. Registered functions survive {@link
+	 * #clear()}, so their documents can be rebuilt (see {@link
+	 * #rebuildEncodedDocuments()}) before any client asks for them.
+	 *
+	 * @param  key the document's key
+	 * @param  supplier the function that computes the document
+	 * @review
+	 */
+	public void putEncodedDocumentSupplier(
+		String key, Supplier<EncodedDocument> supplier) {
+
+		if (_encodedDocumentSuppliers.containsKey(key) ||
+			(_encodedDocumentSuppliers.size() <
+				_MAX_ENCODED_DOCUMENT_SUPPLIERS)) {
 
-		_documentationMessageMappers.put(mediaType, documentationMessageMapper);
+			_encodedDocumentSuppliers.put(key, supplier);
+		}
 	}
 
 	/**
@@ -486,11 +589,10 @@ public class ManagerCache {
 	public void putEntryPointMessageMapper(
 		MediaType mediaType, EntryPointMessageMapper entryPointMessageMapper) {
 
-		if (_entryPointMessageMappers == null) {
-			_entryPointMessageMappers = new HashMap<>();
-		}
-
-		_entryPointMessageMappers.put(mediaType, entryPointMessageMapper);
+		_update(
+			snapshot -> snapshot._entryPointMessageMappers = snapshot._put(
+				snapshot._entryPointMessageMappers, mediaType,
+				entryPointMessageMapper));
 	}
 
 	/**
@@ -502,11 +604,9 @@ public class ManagerCache {
 	public void putErrorMessageMapper(
 		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
 
-		if (_errorMessageMappers == null) {
-			_errorMessageMappers = new HashMap<>();
-		}
-
-		_errorMessageMappers.put(mediaType, errorMessageMapper);
+		_update(
+			snapshot -> snapshot._errorMessageMappers = snapshot._put(
+				snapshot._errorMessageMappers, mediaType, errorMessageMapper));
 	}
 
 	/**
@@ -518,11 +618,9 @@ public class ManagerCache {
 	public void putIdentifierClass(
 		String key, Class<Identifier> identifierClass) {
 
-		if (_identifierClasses == null) {
-			_identifierClasses = new HashMap<>();
-		}
-
-		_identifierClasses.put(key, identifierClass);
+		_update(
+			snapshot -> snapshot._identifierClasses = snapshot._put(
+				snapshot._identifierClasses, key, identifierClass));
 	}
 
 	/**
@@ -532,11 +630,9 @@ public class ManagerCache {
 	 * @param itemRoutes the item routes
 	 */
 	public void putItemRoutes(String key, ItemRoutes itemRoutes) {
-		if (_itemRoutes == null) {
-			_itemRoutes = new HashMap<>();
-		}
-
-		_itemRoutes.put(key, itemRoutes);
+		_update(
+			snapshot -> snapshot._itemRoutes = snapshot._put(
+				snapshot._itemRoutes, key, itemRoutes));
 	}
 
 	/**
@@ -546,11 +642,9 @@ public class ManagerCache {
 	 * @param name the resource name
 	 */
 	public void putName(String key, String name) {
-		if (_names == null) {
-			_names = new HashMap<>();
-		}
-
-		_names.put(key, name);
+		_update(
+			snapshot -> snapshot._names = snapshot._put(
+				snapshot._names, key, name));
 	}
 
 	/**
@@ -562,11 +656,10 @@ public class ManagerCache {
 	public void putNestedCollectionRoutes(
 		String key, NestedCollectionRoutes nestedCollectionRoutes) {
 
-		if (_nestedCollectionRoutes == null) {
-			_nestedCollectionRoutes = new HashMap<>();
-		}
-
-		_nestedCollectionRoutes.put(key, nestedCollectionRoutes);
+		_update(
+			snapshot -> snapshot._nestedCollectionRoutes = snapshot._put(
+				snapshot._nestedCollectionRoutes, key,
+				nestedCollectionRoutes));
 	}
 
 	/**
@@ -578,11 +671,9 @@ public class ManagerCache {
 	public void putPageMessageMapper(
 		MediaType mediaType, PageMessageMapper pageMessageMapper) {
 
-		if (_pageMessageMappers == null) {
-			_pageMessageMappers = new HashMap<>();
-		}
-
-		_pageMessageMappers.put(mediaType, pageMessageMapper);
+		_update(
+			snapshot -> snapshot._pageMessageMappers = snapshot._put(
+				snapshot._pageMessageMappers, mediaType, pageMessageMapper));
 	}
 
 	/**
@@ -593,11 +684,9 @@ public class ManagerCache {
 	 * @review
 	 */
 	public void putParsedType(String key, ParsedType parsedType) {
-		if (_parsedTypes == null) {
-			_parsedTypes = new HashMap<>();
-		}
-
-		_parsedTypes.put(key, parsedType);
+		_update(
+			snapshot -> snapshot._parsedTypes = snapshot._put(
+				snapshot._parsedTypes, key, parsedType));
 	}
 
 	/**
@@ -607,21 +696,17 @@ public class ManagerCache {
 	 * @param representor the representor
 	 */
 	public void putRepresentor(String key, Representor representor) {
-		if (_representors == null) {
-			_representors = new HashMap<>();
-		}
-
-		_representors.put(key, representor);
+		_update(
+			snapshot -> snapshot._representors = snapshot._put(
+				snapshot._representors, key, representor));
 	}
 
 	public void putReusableIdentifierClass(
 		String key, Class<?> identifierClass) {
 
-		if (_reusableIdentifierClasses == null) {
-			_reusableIdentifierClasses = new HashMap<>();
-		}
-
-		_reusableIdentifierClasses.put(key, identifierClass);
+		_update(
+			snapshot -> snapshot._reusableIdentifierClasses = snapshot._put(
+				snapshot._reusableIdentifierClasses, key, identifierClass));
 	}
 
 	/**
@@ -634,12 +719,11 @@ public class ManagerCache {
 	public void putReusableNestedCollectionRoutes(
 		String key, NestedCollectionRoutes reusableNestedCollectionRoutes) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			_reusableNestedCollectionRoutes = new HashMap<>();
-		}
-
-		_reusableNestedCollectionRoutes.put(
-			key, reusableNestedCollectionRoutes);
+		_update(
+			snapshot -> snapshot._reusableNestedCollectionRoutes =
+				snapshot._put(
+					snapshot._reusableNestedCollectionRoutes, key,
+					reusableNestedCollectionRoutes));
 	}
 
 	/**
@@ -649,11 +733,9 @@ public class ManagerCache {
 	 * @review
 	 */
 	public void putRootResourceNameSdk(String rootResourceNameSdk) {
-		if (_rootResourceNameSdks == null) {
-			_rootResourceNameSdks = new ArrayList<>();
-		}
-
-		_rootResourceNameSdks.add(rootResourceNameSdk);
+		_update(
+			snapshot -> snapshot._rootResourceNameSdks = snapshot._add(
+				snapshot._rootResourceNameSdks, rootResourceNameSdk));
 	}
 
 	/**
@@ -666,17 +748,219 @@ public class ManagerCache {
 		MediaType mediaType,
 		SingleModelMessageMapper singleModelMessageMapper) {
 
-		if (_singleModelMessageMappers == null) {
-			_singleModelMessageMappers = new HashMap<>();
+		_update(
+			snapshot -> snapshot._singleModelMessageMappers = snapshot._put(
+				snapshot._singleModelMessageMappers, mediaType,
+				singleModelMessageMapper));
+	}
+
+	/**
+	 * Computes again every document registered with {@link
+	 * #putEncodedDocumentSupplier(String, Supplier)} that isn't cached. A
+	 * document that can't be computed is no longer rebuilt.
+	 *
+	 * @review
+	 */
+	public void rebuildEncodedDocuments() {
+		for (Map.Entry<String, Supplier<EncodedDocument>> entry :
+				_encodedDocumentSuppliers.entrySet()) {
+
+			Supplier<EncodedDocument> supplier = entry.getValue();
+
+			try {
+				getEncodedDocument(entry.getKey(), __ -> supplier.get());
+			}
+			catch (RuntimeException re) {
+				_encodedDocumentSuppliers.remove(entry.getKey(), supplier);
+			}
 		}
+	}
 
-		_singleModelMessageMappers.put(mediaType, singleModelMessageMapper);
+	/**
+	 * Sets the function called every time the cache is cleared.
+	 *
+	 * @param  invalidationListener the function, or {@code null} to remove it
+	 * @review
+	 */
+	public void setInvalidationListener(Runnable invalidationListener) {
+		_invalidationListener = invalidationListener;
+	}
+
+	/**
+	 * Computes the value outside of the map, so the function can take its
+	 * time (or read the managers) without holding a lock of the map. If two
+	 * threads compute the same value, the first one stored wins.
+	 */
+	private static <K, V> V _computeIfAbsent(
+		Map<K, V> map, K key, Function<K, V> function) {
+
+		V value = map.get(key);
+
+		if (value != null) {
+			return value;
+		}
+
+		value = function.apply(key);
+
+		if (value == null) {
+			return null;
+		}
+
+		V previousValue = map.putIfAbsent(key, value);
+
+		if (previousValue != null) {
+			return previousValue;
+		}
+
+		return value;
 	}
 
 	private ManagerCache() {
 	}
 
+	private Snapshot _compute(
+		Function<Snapshot, ?> function, EmptyFunction computeEmptyFunction) {
+
+		boolean locked = _tryLock();
+
+		try {
+			Snapshot snapshot = _snapshot.get();
+
+			if (function.apply(snapshot) != null) {
+				return snapshot;
+			}
+
+			Snapshot pendingSnapshot = new Snapshot(snapshot);
+
+			_pendingSnapshotThreadLocal.set(pendingSnapshot);
+
+			try {
+				computeEmptyFunction.invoke();
+			}
+			finally {
+				_pendingSnapshotThreadLocal.remove();
+			}
+
+			_snapshot.compareAndSet(snapshot, pendingSnapshot);
+
+			return pendingSnapshot;
+		}
+		finally {
+			if (locked) {
+				_lock.unlock();
+			}
+		}
+	}
+
+	private <T> T _get(
+		Function<Snapshot, T> function, EmptyFunction computeEmptyFunction) {
+
+		return function.apply(_getSnapshot(function, computeEmptyFunction));
+	}
+
 	private <T> Optional<T> _getMessageMapperOptional(
+		Request request, String accept, Class<?> messageMapperClass,
+		Function<Snapshot, Map<MediaType, T>> function,
+		EmptyFunction computeEmptyFunction) {
+
+		Snapshot snapshot = _getSnapshot(function, computeEmptyFunction);
+
+		Map<MediaType, T> messageMappers = function.apply(snapshot);
+
+		if (accept == null) {
+			return _selectMessageMapperOptional(request, messageMappers);
+		}
+
+		String key = String.join(
+			" ", messageMapperClass.getName(), deleteWhitespace(accept));
+
+		Optional<?> optional = snapshot._negotiatedMessageMappers.get(key);
+
+		if (optional == null) {
+			optional = _selectMessageMapperOptional(request, messageMappers);
+
+			if (snapshot._negotiatedMessageMappers.size() <
+					_MAX_NEGOTIATED_MESSAGE_MAPPERS) {
+
+				snapshot._negotiatedMessageMappers.put(key, optional);
+			}
+		}
+
+		return Unsafe.unsafeCast(optional);
+	}
+
+	private Snapshot _getSnapshot() {
+		Snapshot pendingSnapshot = _pendingSnapshotThreadLocal.get();
+
+		if (pendingSnapshot != null) {
+			return pendingSnapshot;
+		}
+
+		return _snapshot.get();
+	}
+
+	private Snapshot _getSnapshot(
+		Function<Snapshot, ?> function, EmptyFunction computeEmptyFunction) {
+
+		Snapshot pendingSnapshot = _pendingSnapshotThreadLocal.get();
+
+		if (pendingSnapshot != null) {
+			if (function.apply(pendingSnapshot) == null) {
+				computeEmptyFunction.invoke();
+			}
+
+			return pendingSnapshot;
+		}
+
+		Snapshot snapshot = _snapshot.get();
+
+		if (function.apply(snapshot) != null) {
+			return snapshot;
+		}
+
+		return _compute(function, computeEmptyFunction);
+	}
+
+	private VariantListBuilder _getVariantListBuilder(MediaType[] mediaTypes) {
+		VariantListBuilder variantListBuilder = newInstance();
+
+		List<MediaType> list = Arrays.asList(mediaTypes);
+
+		if (list.contains(_MEDIA_TYPE)) {
+			return variantListBuilder.mediaTypes(
+				_MEDIA_TYPE
+			).add(
+			).mediaTypes(
+				mediaTypes
+			);
+		}
+
+		return variantListBuilder.mediaTypes(mediaTypes);
+	}
+
+	private void _notifyInvalidationListener() {
+		Runnable invalidationListener = _invalidationListener;
+
+		if (invalidationListener != null) {
+			invalidationListener.run();
+		}
+	}
+
+	private void _publish(Consumer<Snapshot> consumer) {
+		Snapshot snapshot;
+		Snapshot updatedSnapshot;
+
+		do {
+			snapshot = _snapshot.get();
+
+			updatedSnapshot = new Snapshot(snapshot);
+
+			consumer.accept(updatedSnapshot);
+		}
+		while (!_snapshot.compareAndSet(snapshot, updatedSnapshot));
+	}
+
+	private <T> Optional<T> _selectMessageMapperOptional(
 		Request request, Map<MediaType, T> messageMappers) {
 
 		return Optional.ofNullable(
@@ -704,44 +988,270 @@ public class ManagerCache {
 		);
 	}
 
-	private VariantListBuilder _getVariantListBuilder(MediaType[] mediaTypes) {
-		VariantListBuilder variantListBuilder = newInstance();
+	private boolean _tryLock() {
+		try {
+			return _lock.tryLock(_LOCK_TIMEOUT, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
 
-		List<MediaType> list = Arrays.asList(mediaTypes);
+			currentThread.interrupt();
 
-		if (list.contains(_MEDIA_TYPE)) {
-			return variantListBuilder.mediaTypes(
-				_MEDIA_TYPE
-			).add(
-			).mediaTypes(
-				mediaTypes
-			);
+			return false;
 		}
+	}
 
-		return variantListBuilder.mediaTypes(mediaTypes);
+	private void _update(Consumer<Snapshot> consumer) {
+		Snapshot pendingSnapshot = _pendingSnapshotThreadLocal.get();
+
+		if (pendingSnapshot != null) {
+			consumer.accept(pendingSnapshot);
+
+			return;
+		}
+
+		_publish(consumer);
 	}
 
+	/**
+	 * Contains the cached data. A snapshot is only modified by the thread that
+	 * computes it, before it's published; the memoized documents and results
+	 * are shared by every snapshot computed from the same snapshot, until
+	 * their section is cleared.
+	 *
+	 * <p>
+	 * A snapshot also shares the rest of the collections of the snapshot it's
+	 * copied from. A shared collection is copied the first time the snapshot
+	 * changes it, and modified in place after that, so publishing a change
+	 * only copies the collection that changes.
+	 * </p>
+	 */
+	private static class Snapshot {
+
+		public Snapshot() {
+			_encodedDocuments = new ConcurrentHashMap<>();
+			_jsonLDContexts = new ConcurrentHashMap<>();
+			_negotiatedMessageMappers = new ConcurrentHashMap<>();
+			_resolvedPathIdentifierMappers = new ConcurrentHashMap<>();
+		}
+
+		public Snapshot(Snapshot snapshot) {
+			_actionSemantics = snapshot._actionSemantics;
+			_actionSemanticsIndex = snapshot._actionSemanticsIndex;
+			_batchResultMessageMappers = snapshot._batchResultMessageMappers;
+			_collectionRoutes = snapshot._collectionRoutes;
+			_customDocumentation = snapshot._customDocumentation;
+			_documentationMessageMappers =
+				snapshot._documentationMessageMappers;
+			_encodedDocuments = snapshot._encodedDocuments;
+			_entryPointMessageMappers = snapshot._entryPointMessageMappers;
+			_errorMessageMappers = snapshot._errorMessageMappers;
+			_identifierClasses = snapshot._identifierClasses;
+			_itemRoutes = snapshot._itemRoutes;
+			_jsonLDContexts = snapshot._jsonLDContexts;
+			_names = snapshot._names;
+			_negotiatedMessageMappers = snapshot._negotiatedMessageMappers;
+			_nestedCollectionRoutes = snapshot._nestedCollectionRoutes;
+			_pageMessageMappers = snapshot._pageMessageMappers;
+			_parsedTypes = snapshot._parsedTypes;
+			_representors = snapshot._representors;
+			_resolvedPathIdentifierMappers =
+				snapshot._resolvedPathIdentifierMappers;
+			_reusableIdentifierClasses = snapshot._reusableIdentifierClasses;
+			_reusableNestedCollectionRoutes =
+				snapshot._reusableNestedCollectionRoutes;
+			_rootResourceNameSdks = snapshot._rootResourceNameSdks;
+			_singleModelMessageMappers = snapshot._singleModelMessageMappers;
+		}
+
+		private void _clear(CacheSection cacheSection) {
+			_encodedDocuments = new ConcurrentHashMap<>();
+
+			switch (cacheSection) {
+				case ACTION_SEMANTICS:
+					_actionSemantics = null;
+					_actionSemanticsIndex = null;
+
+					break;
+				case BATCH_RESULT_MESSAGE_MAPPERS:
+					_batchResultMessageMappers = null;
+					_negotiatedMessageMappers = new ConcurrentHashMap<>();
+
+					break;
+				case COLLECTION_ROUTES:
+					_actionSemanticsIndex = null;
+					_collectionRoutes = null;
+					_rootResourceNameSdks = null;
+
+					break;
+				case CUSTOM_DOCUMENTATION:
+					_customDocumentation = null;
+
+					break;
+				case DOCUMENTATION_MESSAGE_MAPPERS:
+					_documentationMessageMappers = null;
+					_negotiatedMessageMappers = new ConcurrentHashMap<>();
+
+					break;
+				case ENTRY_POINT_MESSAGE_MAPPERS:
+					_entryPointMessageMappers = null;
+					_negotiatedMessageMappers = new ConcurrentHashMap<>();
+
+					break;
+				case ERROR_MESSAGE_MAPPERS:
+					_errorMessageMappers = null;
+					_negotiatedMessageMappers = new ConcurrentHashMap<>();
+
+					break;
+				case EXCEPTION_MAPPERS:
+					break;
+				case ITEM_ROUTES:
+					_actionSemanticsIndex = null;
+					_itemRoutes = null;
+
+					break;
+				case NESTED_COLLECTION_ROUTES:
+					_actionSemanticsIndex = null;
+					_nestedCollectionRoutes = null;
+
+					break;
+				case PAGE_MESSAGE_MAPPERS:
+					_pageMessageMappers = null;
+					_negotiatedMessageMappers = new ConcurrentHashMap<>();
+
+					break;
+				case PARSED_TYPES:
+					_parsedTypes = null;
+
+					_clear(CacheSection.REPRESENTABLES);
+
+					break;
+				case PATH_IDENTIFIER_MAPPERS:
+					_resolvedPathIdentifierMappers = new ConcurrentHashMap<>();
+
+					break;
+				case PROVIDERS:
+					_clear(CacheSection.ACTION_SEMANTICS);
+
+					break;
+				case REPRESENTABLES:
+				case REUSABLE_NESTED_COLLECTION_ROUTES:
+					_identifierClasses = null;
+					_jsonLDContexts = new ConcurrentHashMap<>();
+					_names = null;
+					_representors = null;
+					_reusableIdentifierClasses = null;
+					_reusableNestedCollectionRoutes = null;
+
+					_clear(CacheSection.ACTION_SEMANTICS);
+					_clear(CacheSection.COLLECTION_ROUTES);
+					_clear(CacheSection.ITEM_ROUTES);
+					_clear(CacheSection.NESTED_COLLECTION_ROUTES);
+					_clear(CacheSection.PATH_IDENTIFIER_MAPPERS);
+
+					break;
+				case SINGLE_MODEL_MESSAGE_MAPPERS:
+					_singleModelMessageMappers = null;
+					_negotiatedMessageMappers = new ConcurrentHashMap<>();
+
+					break;
+			}
+		}
+
+		private <T> List<T> _add(List<T> list, T value) {
+			if ((list == null) || !_ownedCollections.contains(list)) {
+				list = _own(_copy(list));
+			}
+
+			list.add(value);
+
+			return list;
+		}
+
+		private static <T> List<T> _copy(List<T> list) {
+			if (list == null) {
+				return new ArrayList<>();
+			}
+
+			return new ArrayList<>(list);
+		}
+
+		private static <K, V> Map<K, V> _copy(Map<K, V> map) {
+			if (map == null) {
+				return new HashMap<>();
+			}
+
+			return new HashMap<>(map);
+		}
+
+		private <T> T _own(T collection) {
+			_ownedCollections.add(collection);
+
+			return collection;
+		}
+
+		private <K, V> Map<K, V> _put(Map<K, V> map, K key, V value) {
+			if ((map == null) || !_ownedCollections.contains(map)) {
+				map = _own(_copy(map));
+			}
+
+			map.put(key, value);
+
+			return map;
+		}
+
+		private List<ActionSemantics> _actionSemantics;
+		private ActionSemanticsIndex _actionSemanticsIndex;
+		private Map<MediaType, BatchResultMessageMapper>
+			_batchResultMessageMappers;
+		private Map<String, CollectionRoutes> _collectionRoutes;
+		private CustomDocumentation _customDocumentation;
+		private Map<MediaType, DocumentationMessageMapper>
+			_documentationMessageMappers;
+		private Map<String, EncodedDocument> _encodedDocuments;
+		private Map<MediaType, EntryPointMessageMapper>
+			_entryPointMessageMappers;
+		private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
+		private Map<String, Class<Identifier>> _identifierClasses;
+		private Map<String, ItemRoutes> _itemRoutes;
+		private Map<String, byte[]> _jsonLDContexts;
+		private Map<String, String> _names;
+		private Map<String, Optional<?>> _negotiatedMessageMappers;
+		private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
+		private Map<MediaType, PageMessageMapper> _pageMessageMappers;
+		private Map<String, ParsedType> _parsedTypes;
+		private Map<String, Representor> _representors;
+		private Map<String, ResolvedPathIdentifierMapper>
+			_resolvedPathIdentifierMappers;
+		private Map<String, Class<?>> _reusableIdentifierClasses;
+		private Map<String, NestedCollectionRoutes>
+			_reusableNestedCollectionRoutes;
+		private final Set<Object> _ownedCollections = Collections.newSetFromMap(
+			new IdentityHashMap<>());
+		private List<String> _rootResourceNameSdks;
+		private Map<MediaType, SingleModelMessageMapper>
+			_singleModelMessageMappers;
+
+	}
+
+	private static final long _LOCK_TIMEOUT = 10;
+
+	private static final int _MAX_ENCODED_DOCUMENT_SUPPLIERS = 64;
+
+	private static final int _MAX_ENCODED_DOCUMENTS = 64;
+
+	private static final int _MAX_NEGOTIATED_MESSAGE_MAPPERS = 256;
+
 	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
 		"application/ld+json");
 
-	private List<ActionSemantics> _actionSemantics;
-	private Map<MediaType, BatchResultMessageMapper> _batchResultMessageMappers;
-	private Map<String, CollectionRoutes> _collectionRoutes;
-	private CustomDocumentation _customDocumentation;
-	private Map<MediaType, DocumentationMessageMapper>
-		_documentationMessageMappers;
-	private Map<MediaType, EntryPointMessageMapper> _entryPointMessageMappers;
-	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
-	private Map<String, Class<Identifier>> _identifierClasses;
-	private Map<String, ItemRoutes> _itemRoutes;
-	private Map<String, String> _names;
-	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
-	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
-	private Map<String, ParsedType> _parsedTypes;
-	private Map<String, Representor> _representors;
-	private Map<String, Class<?>> _reusableIdentifierClasses;
-	private Map<String, NestedCollectionRoutes> _reusableNestedCollectionRoutes;
-	private List<String> _rootResourceNameSdks;
-	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+	private final Map<String, Supplier<EncodedDocument>>
+		_encodedDocumentSuppliers = new ConcurrentHashMap<>();
+	private volatile Runnable _invalidationListener;
+	private final ReentrantLock _lock = new ReentrantLock();
+	private final ThreadLocal<Snapshot> _pendingSnapshotThreadLocal =
+		new ThreadLocal<>();
+	private final AtomicReference<Snapshot> _snapshot = new AtomicReference<>(
+		new Snapshot());
 
 }
\ No newline at end of file
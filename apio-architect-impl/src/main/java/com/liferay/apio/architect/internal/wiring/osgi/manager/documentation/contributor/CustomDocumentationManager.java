@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor;
 
 import static com.liferay.apio.architect.documentation.contributor.CustomDocumentation.Builder;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.CUSTOM_DOCUMENTATION;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
@@ -46,14 +47,14 @@ public class CustomDocumentationManager {
 	public void activate(BundleContext bundleContext) {
 		_serviceTrackerList = _openServiceTrackerList(bundleContext);
 
-		INSTANCE.clear();
+		INSTANCE.clear(CUSTOM_DOCUMENTATION);
 	}
 
 	@Deactivate
 	public void deactivate() {
 		_serviceTrackerList.close();
 
-		INSTANCE.clear();
+		INSTANCE.clear(CUSTOM_DOCUMENTATION);
 	}
 
 	public CustomDocumentation getCustomDocumentation() {
@@ -93,7 +94,7 @@ public class CustomDocumentationManager {
 					ServiceReference<CustomDocumentationContributor>
 						serviceReference) {
 
-					INSTANCE.clear();
+					INSTANCE.clear(CUSTOM_DOCUMENTATION);
 
 					return super.addingService(serviceReference);
 				}
@@ -105,7 +106,7 @@ public class CustomDocumentationManager {
 					CustomDocumentationContributor
 						customDocumentationContributor) {
 
-					INSTANCE.clear();
+					INSTANCE.clear(CUSTOM_DOCUMENTATION);
 
 					super.removedService(
 						serviceReference, customDocumentationContributor);
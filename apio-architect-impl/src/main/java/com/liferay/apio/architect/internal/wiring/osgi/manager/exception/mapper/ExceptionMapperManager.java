@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.exception.mapper;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.EXCEPTION_MAPPERS;
 
 import com.liferay.apio.architect.error.APIError;
 import com.liferay.apio.architect.exception.mapper.ExceptionMapper;
@@ -35,7 +36,7 @@ public class ExceptionMapperManager
 	extends ClassNameBaseManager<ExceptionMapper> {
 
 	public ExceptionMapperManager() {
-		super(ExceptionMapper.class, 0);
+		super(ExceptionMapper.class, 0, EXCEPTION_MAPPERS);
 	}
 
 	/**
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.message.json;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.BATCH_RESULT_MESSAGE_MAPPERS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
@@ -38,7 +39,8 @@ public class BatchResultMessageMapperManager
 	public BatchResultMessageMapperManager() {
 		super(
 			BatchResultMessageMapper.class,
-			INSTANCE::putBatchResultMessageMapper);
+			INSTANCE::putBatchResultMessageMapper,
+			BATCH_RESULT_MESSAGE_MAPPERS);
 	}
 
 	/**
@@ -46,14 +48,17 @@ public class BatchResultMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header; {@code null} if
+	 *         it's unknown
 	 * @return the {@code BatchResultMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<BatchResultMessageMapper<T>>
-		getBatchResultMessageMapperOptional(Request request) {
+		getBatchResultMessageMapperOptional(
+			Request request, String accept) {
 
 		return INSTANCE.getBatchResultMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, accept, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.message.json;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.DOCUMENTATION_MESSAGE_MAPPERS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
@@ -38,7 +39,8 @@ public class DocumentationMessageMapperManager
 	public DocumentationMessageMapperManager() {
 		super(
 			DocumentationMessageMapper.class,
-			INSTANCE::putDocumentationMessageMapper);
+			INSTANCE::putDocumentationMessageMapper,
+			DOCUMENTATION_MESSAGE_MAPPERS);
 	}
 
 	/**
@@ -46,14 +48,17 @@ public class DocumentationMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header; {@code null} if
+	 *         it's unknown
 	 * @return the {@code DocumentationMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<DocumentationMessageMapper>
-		getDocumentationMessageMapperOptional(Request request) {
+		getDocumentationMessageMapperOptional(
+			Request request, String accept) {
 
 		return INSTANCE.getDocumentationMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, accept, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
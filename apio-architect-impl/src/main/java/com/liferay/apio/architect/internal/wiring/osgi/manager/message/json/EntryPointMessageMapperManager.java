@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.message.json;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.ENTRY_POINT_MESSAGE_MAPPERS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
@@ -38,7 +39,8 @@ public class EntryPointMessageMapperManager
 	public EntryPointMessageMapperManager() {
 		super(
 			EntryPointMessageMapper.class,
-			INSTANCE::putEntryPointMessageMapper);
+			INSTANCE::putEntryPointMessageMapper,
+			ENTRY_POINT_MESSAGE_MAPPERS);
 	}
 
 	/**
@@ -46,14 +48,16 @@ public class EntryPointMessageMapperManager
 	 * to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header; {@code null} if
+	 *         it's unknown
 	 * @return the {@code EntryPointMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<EntryPointMessageMapper> getEntryPointMessageMapperOptional(
-		Request request) {
+		Request request, String accept) {
 
 		return INSTANCE.getEntryPointMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, accept, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
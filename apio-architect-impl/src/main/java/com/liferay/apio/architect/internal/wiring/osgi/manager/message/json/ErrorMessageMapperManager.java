@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.message.json;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.ERROR_MESSAGE_MAPPERS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
@@ -36,7 +37,9 @@ public class ErrorMessageMapperManager
 	extends MessageMapperBaseManager<ErrorMessageMapper> {
 
 	public ErrorMessageMapperManager() {
-		super(ErrorMessageMapper.class, INSTANCE::putErrorMessageMapper);
+		super(
+			ErrorMessageMapper.class, INSTANCE::putErrorMessageMapper,
+			ERROR_MESSAGE_MAPPERS);
 	}
 
 	/**
@@ -44,14 +47,16 @@ public class ErrorMessageMapperManager
 	 * the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header; {@code null} if
+	 *         it's unknown
 	 * @return the {@code ErrorMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request) {
+		Request request, String accept) {
 
 		return INSTANCE.getErrorMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, accept, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.message.json;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.PAGE_MESSAGE_MAPPERS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
@@ -36,7 +37,9 @@ public class PageMessageMapperManager
 	extends MessageMapperBaseManager<PageMessageMapper> {
 
 	public PageMessageMapperManager() {
-		super(PageMessageMapper.class, INSTANCE::putPageMessageMapper);
+		super(
+			PageMessageMapper.class, INSTANCE::putPageMessageMapper,
+			PAGE_MESSAGE_MAPPERS);
 	}
 
 	/**
@@ -44,14 +47,16 @@ public class PageMessageMapperManager
 	 * the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header; {@code null} if
+	 *         it's unknown
 	 * @return the {@code PageMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
-		Request request) {
+		Request request, String accept) {
 
 		return INSTANCE.getPageMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, accept, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.message.json;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.SINGLE_MODEL_MESSAGE_MAPPERS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
@@ -38,7 +39,8 @@ public class SingleModelMessageMapperManager
 	public SingleModelMessageMapperManager() {
 		super(
 			SingleModelMessageMapper.class,
-			INSTANCE::putSingleModelMessageMapper);
+			INSTANCE::putSingleModelMessageMapper,
+			SINGLE_MODEL_MESSAGE_MAPPERS);
 	}
 
 	/**
@@ -46,14 +48,17 @@ public class SingleModelMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  accept the request's {@code Accept} header; {@code null} if
+	 *         it's unknown
 	 * @return the {@code SingleModelMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
-		getSingleModelMessageMapperOptional(Request request) {
+		getSingleModelMessageMapperOptional(
+			Request request, String accept) {
 
 		return INSTANCE.getSingleModelMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, accept, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
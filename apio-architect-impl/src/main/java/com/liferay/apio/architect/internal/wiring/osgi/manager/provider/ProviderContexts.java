@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.provider;
+
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Stores the instances created by cacheable providers during a request, so
+ * each type is provided at most once per request. The store is kept as a
+ * request attribute, so it's shared by every component that handles the
+ * request.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ProviderContexts {
+
+	/**
+	 * Returns the store of the provided request, creating it if needed.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the request's store
+	 */
+	public static ProviderContexts of(HttpServletRequest httpServletRequest) {
+		Object attribute = httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (attribute instanceof ProviderContexts) {
+			return (ProviderContexts)attribute;
+		}
+
+		ProviderContexts providerContexts = new ProviderContexts();
+
+		httpServletRequest.setAttribute(_ATTRIBUTE_NAME, providerContexts);
+
+		return providerContexts;
+	}
+
+	/**
+	 * Returns the instance of the class stored for this request. If there
+	 * isn't one, it's created with the provided function and stored.
+	 *
+	 * @param  clazz the class of the instance
+	 * @param  supplier the function that creates the instance
+	 * @return the instance, if present; {@code Optional#empty()} otherwise
+	 */
+	public <T> Optional<T> get(Class<T> clazz, Supplier<Optional<T>> supplier) {
+		Optional<?> optional = _contexts.get(clazz);
+
+		if (optional == null) {
+			optional = supplier.get();
+
+			Optional<?> previousOptional = _contexts.putIfAbsent(
+				clazz, optional);
+
+			if (previousOptional != null) {
+				optional = previousOptional;
+			}
+		}
+
+		return unsafeCast(optional);
+	}
+
+	private ProviderContexts() {
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		ProviderContexts.class.getName();
+
+	private final Map<Class<?>, Optional<?>> _contexts =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.provider;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.PROVIDERS;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -47,7 +48,7 @@ import org.slf4j.Logger;
 public class ProviderManager extends ClassNameBaseManager<Provider> {
 
 	public ProviderManager() {
-		super(Provider.class, 0);
+		super(Provider.class, 0, PROVIDERS);
 	}
 
 	/**
@@ -107,6 +108,11 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 	 * Returns the instance of type {@code T} if a valid {@code Provider} can be
 	 * found. Returns {@code Optional#empty()} otherwise.
 	 *
+	 * <p>
+	 * If the provider is cacheable (see {@link Provider#isCacheable()}), the
+	 * instance is only created the first time it's provided for the request.
+	 * </p>
+	 *
 	 * @param  httpServletRequest the current request
 	 * @param  clazz the class type {@code T}
 	 * @return the instance of {@code T}, if a valid {@code Provider} is
@@ -117,8 +123,24 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
-		return optional.map(
-			provider -> provider.createContext(httpServletRequest));
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Provider<T> provider = optional.get();
+
+		if ((httpServletRequest == null) || !provider.isCacheable()) {
+			return Optional.ofNullable(
+				provider.createContext(httpServletRequest));
+		}
+
+		ProviderContexts providerContexts = ProviderContexts.of(
+			httpServletRequest);
+
+		return providerContexts.get(
+			clazz,
+			() -> Optional.ofNullable(
+				provider.createContext(httpServletRequest)));
 	}
 
 	private Logger _logger = getLogger(getClass());
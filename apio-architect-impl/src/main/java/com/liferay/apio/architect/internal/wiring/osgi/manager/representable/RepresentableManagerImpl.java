@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.representable;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.TypeArgumentProperties.KEY_PRINCIPAL_TYPE_ARGUMENT;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.REPRESENTABLES;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getGenericClassFromProperty;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getTypeParamTry;
@@ -68,7 +69,7 @@ public class RepresentableManagerImpl
 	implements NameManager, IdentifierClassManager, RepresentableManager {
 
 	public RepresentableManagerImpl() {
-		super(Representable.class);
+		super(Representable.class, REPRESENTABLES);
 	}
 
 	@Override
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.router;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.COLLECTION_ROUTES;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -54,7 +55,7 @@ public class CollectionRouterManager
 	extends ClassNameBaseManager<CollectionRouter> {
 
 	public CollectionRouterManager() {
-		super(CollectionRouter.class, 2);
+		super(CollectionRouter.class, 2, COLLECTION_ROUTES);
 	}
 
 	/**
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.router;
 
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.ITEM_ROUTES;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -51,7 +52,7 @@ import org.slf4j.Logger;
 public class ItemRouterManager extends ClassNameBaseManager<ItemRouter> {
 
 	public ItemRouterManager() {
-		super(ItemRouter.class, 2);
+		super(ItemRouter.class, 2, ITEM_ROUTES);
 	}
 
 	/**
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.router;
 
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.TypeArgumentProperties.KEY_PARENT_IDENTIFIER_CLASS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.TypeArgumentProperties.KEY_PRINCIPAL_TYPE_ARGUMENT;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.NESTED_COLLECTION_ROUTES;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getGenericClassFromProperty;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getTypeParamTry;
@@ -62,7 +63,7 @@ public class NestedCollectionRouterManager
 	extends ClassNameBaseManager<NestedCollectionRouter> {
 
 	public NestedCollectionRouterManager() {
-		super(NestedCollectionRouter.class, 2);
+		super(NestedCollectionRouter.class, 2, NESTED_COLLECTION_ROUTES);
 	}
 
 	/**
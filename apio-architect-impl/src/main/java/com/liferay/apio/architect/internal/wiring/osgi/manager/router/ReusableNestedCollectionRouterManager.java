@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.router;
 
 import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.REUSABLE_NESTED_COLLECTION_ROUTES;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -59,7 +60,9 @@ public class ReusableNestedCollectionRouterManager
 	extends ClassNameBaseManager<ReusableNestedCollectionRouter> {
 
 	public ReusableNestedCollectionRouterManager() {
-		super(ReusableNestedCollectionRouter.class, 2);
+		super(
+			ReusableNestedCollectionRouter.class, 2,
+			REUSABLE_NESTED_COLLECTION_ROUTES);
 	}
 
 	/**
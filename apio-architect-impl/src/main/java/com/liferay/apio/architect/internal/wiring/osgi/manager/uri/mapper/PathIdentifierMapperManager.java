@@ -15,19 +15,18 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper;
 
 import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.PATH_IDENTIFIER_MAPPERS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.leangen.geantyref.GenericTypeReflector.getTypeParameter;
 
 import com.liferay.apio.architect.identifier.Identifier;
-import com.liferay.apio.architect.internal.wiring.osgi.error.ApioDeveloperError.MustHavePathIdentifierMapper;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.IdentifierClassManager;
 import com.liferay.apio.architect.uri.Path;
 import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
 
-import io.vavr.control.Try;
-
 import java.util.Optional;
 
 import org.osgi.service.component.annotations.Component;
@@ -35,6 +34,8 @@ import org.osgi.service.component.annotations.Reference;
 
 /**
  * Provides methods to map a {@code Path} to an identifier, and vice versa.
+ * The mappers of every resource name are resolved once, the first time the
+ * name is mapped, and cached until the {@code ManagerCache} is cleared.
  *
  * @author Alejandro Hernández
  */
@@ -43,7 +44,7 @@ public class PathIdentifierMapperManager
 	extends ClassNameBaseManager<PathIdentifierMapper> {
 
 	public PathIdentifierMapperManager() {
-		super(PathIdentifierMapper.class, 0);
+		super(PathIdentifierMapper.class, 0, PATH_IDENTIFIER_MAPPERS);
 	}
 
 	/**
@@ -55,29 +56,12 @@ public class PathIdentifierMapperManager
 	 * @return the identifier
 	 */
 	public <T> T mapToIdentifierOrFail(Path path) {
-		Optional<Class<Identifier>> identifierClassOptional =
-			_identifierClassManager.getIdentifierClassOptional(path.getName());
-
-		Optional<PathIdentifierMapper<T>> pathIdentifierMapperOptional =
-			identifierClassOptional.map(
-				clazz -> getTypeParameter(
-					clazz, Identifier.class.getTypeParameters()[0])
-			).filter(
-				Class.class::isInstance
-			).map(
-				type -> (Class)type
-			).flatMap(
-				clazz -> getServiceOptional(clazz)
-			);
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			INSTANCE.getResolvedPathIdentifierMapper(
+				path.getName(), this::_resolve);
 
-		return Try.of(
-			pathIdentifierMapperOptional::get
-		).map(
-			pathIdentifierMapper -> pathIdentifierMapper.map(path)
-		).toJavaOptional(
-		).orElseGet(
-			() -> _getGenericParentIdentifierOptional(path)
-		);
+		return unsafeCast(
+			resolvedPathIdentifierMapper.mapToIdentifierOrFail(path));
 	}
 
 	/**
@@ -90,81 +74,47 @@ public class PathIdentifierMapperManager
 	 * @return the {@code Path}, if a valid {@code PathIdentifierMapper} is
 	 *         present; {@code Optional#empty()} otherwise
 	 */
-	@SuppressWarnings("unchecked")
 	public <T> Optional<Path> mapToPath(String name, T identifier) {
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			INSTANCE.getResolvedPathIdentifierMapper(name, this::_resolve);
+
+		return resolvedPathIdentifierMapper.mapToPath(name, identifier);
+	}
+
+	private ResolvedPathIdentifierMapper _resolve(String name) {
 		Optional<Class<Identifier>> identifierClassOptional =
 			_identifierClassManager.getIdentifierClassOptional(name);
 
-		Optional<PathIdentifierMapper<T>> pathIdentifierMapperOptional =
+		PathIdentifierMapper<?> pathIdentifierMapper =
 			identifierClassOptional.map(
 				clazz -> getTypeParameter(
 					clazz, Identifier.class.getTypeParameters()[0])
 			).filter(
 				Class.class::isInstance
 			).map(
-				type -> (Class)type
+				type -> (Class<?>)type
 			).flatMap(
-				clazz -> getServiceOptional(clazz)
+				this::getServiceOptional
+			).orElse(
+				null
 			);
 
-		return Try.of(
-			pathIdentifierMapperOptional::get
-		).map(
-			pathIdentifierMapper -> pathIdentifierMapper.map(name, identifier)
-		).map(
-			Optional::of
-		).toJavaOptional(
-		).orElseGet(
-			() -> _getGenericParentPathOptional(name, identifier)
-		);
-	}
-
-	private <T> T _getGenericParentIdentifierOptional(Path path) {
-		Optional<Class<?>> genericParentClassOptional =
-			INSTANCE.getReusableIdentifierClassOptional(path.getName());
-
-		if (!genericParentClassOptional.isPresent()) {
-			throw new MustHavePathIdentifierMapper(path);
-		}
-
-		Class<?> genericParentClass = genericParentClassOptional.get();
-
-		Optional<PathIdentifierMapper> pathIdentifierMapperOptional =
-			getServiceOptional(genericParentClass);
-
-		return pathIdentifierMapperOptional.map(
-			service -> (PathIdentifierMapper<T>)service
-		).map(
-			pathIdentifierMapper -> pathIdentifierMapper.map(path)
-		).orElseThrow(
-			() -> new MustHavePathIdentifierMapper(path)
-		);
-	}
-
-	private <T> Optional<Path> _getGenericParentPathOptional(
-		String name, T identifier) {
-
 		Optional<Class<?>> genericParentClassOptional =
 			INSTANCE.getReusableIdentifierClassOptional(name);
 
 		if (!genericParentClassOptional.isPresent()) {
-			return Optional.empty();
+			return new ResolvedPathIdentifierMapper(
+				pathIdentifierMapper, null, null);
 		}
 
 		Class<?> genericParentClass = genericParentClassOptional.get();
 
-		Optional<PathIdentifierMapper> pathIdentifierMapperOptional =
+		Optional<PathIdentifierMapper> genericParentOptional =
 			getServiceOptional(genericParentClass);
 
-		return pathIdentifierMapperOptional.map(
-			service -> (PathIdentifierMapper<T>)service
-		).map(
-			pathIdentifierMapper -> pathIdentifierMapper.map(name, identifier)
-		).map(
-			path -> new Path(
-				toLowercaseSlug(genericParentClass.getSimpleName()),
-				path.getId())
-		);
+		return new ResolvedPathIdentifierMapper(
+			pathIdentifierMapper, genericParentOptional.orElse(null),
+			toLowercaseSlug(genericParentClass.getSimpleName()));
 	}
 
 	@Reference
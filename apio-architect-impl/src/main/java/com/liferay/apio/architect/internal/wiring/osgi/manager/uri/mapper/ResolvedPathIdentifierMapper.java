@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.internal.wiring.osgi.error.ApioDeveloperError.MustHavePathIdentifierMapper;
+import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+
+/**
+ * Contains the {@link PathIdentifierMapper} instances resolved for a resource
+ * name: the one registered for the resource's identifier type, and the one
+ * registered for its generic parent, if any. Instances are resolved once per
+ * name, so mapping a path or an identifier doesn't have to resolve them again.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ResolvedPathIdentifierMapper {
+
+	public ResolvedPathIdentifierMapper(
+		PathIdentifierMapper<?> pathIdentifierMapper,
+		PathIdentifierMapper<?> genericParentPathIdentifierMapper,
+		String genericParentName) {
+
+		_pathIdentifierMapper = _cast(pathIdentifierMapper);
+		_genericParentPathIdentifierMapper = _cast(
+			genericParentPathIdentifierMapper);
+		_genericParentName = genericParentName;
+	}
+
+	/**
+	 * Converts a {@code Path} to its equivalent identifier. If the resource's
+	 * mapper fails, the generic parent's mapper is used.
+	 *
+	 * @param  path the {@code Path}
+	 * @return the identifier
+	 * @throws MustHavePathIdentifierMapper if the path couldn't be mapped
+	 */
+	public Object mapToIdentifierOrFail(Path path) {
+		if (_pathIdentifierMapper != null) {
+			try {
+				Object identifier = _pathIdentifierMapper.map(path);
+
+				if (identifier != null) {
+					return identifier;
+				}
+			}
+			catch (RuntimeException re) {
+				if (_logger.isDebugEnabled()) {
+					_logger.debug(
+						"Unable to map with the resource's mapper, using the " +
+							"generic parent's mapper",
+						re);
+				}
+			}
+		}
+
+		if (_genericParentPathIdentifierMapper == null) {
+			throw new MustHavePathIdentifierMapper(path);
+		}
+
+		Object identifier = _genericParentPathIdentifierMapper.map(path);
+
+		if (identifier == null) {
+			throw new MustHavePathIdentifierMapper(path);
+		}
+
+		return identifier;
+	}
+
+	/**
+	 * Converts an identifier to its equivalent {@code Path}. If the resource's
+	 * mapper fails, the generic parent's mapper is used.
+	 *
+	 * @param  name the resource's name
+	 * @param  identifier the identifier
+	 * @return the {@code Path}, if it could be mapped; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<Path> mapToPath(String name, Object identifier) {
+		if (_pathIdentifierMapper != null) {
+			try {
+				Path path = _pathIdentifierMapper.map(name, identifier);
+
+				if (path != null) {
+					return Optional.of(path);
+				}
+			}
+			catch (RuntimeException re) {
+				if (_logger.isDebugEnabled()) {
+					_logger.debug(
+						"Unable to map with the resource's mapper, using the " +
+							"generic parent's mapper",
+						re);
+				}
+			}
+		}
+
+		if (_genericParentPathIdentifierMapper == null) {
+			return Optional.empty();
+		}
+
+		Path path = _genericParentPathIdentifierMapper.map(name, identifier);
+
+		if (path == null) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new Path(_genericParentName, path.getId()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PathIdentifierMapper<Object> _cast(
+		PathIdentifierMapper<?> pathIdentifierMapper) {
+
+		return (PathIdentifierMapper<Object>)pathIdentifierMapper;
+	}
+
+	private static final Logger _logger = getLogger(
+		ResolvedPathIdentifierMapper.class);
+
+	private final String _genericParentName;
+	private final PathIdentifierMapper<Object>
+		_genericParentPathIdentifierMapper;
+	private final PathIdentifierMapper<Object> _pathIdentifierMapper;
+
+}
\ No newline at end of file
@@ -16,32 +16,39 @@ package com.liferay.apio.architect.internal.wiring.osgi.tracker.map.listener;
 
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection;
 import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
 import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMapListener;
 
 /**
  * Provides an implementation of a {@link ServiceTrackerMapListener} that clears
- * the {@link
+ * a {@link CacheSection} of the {@link
  * com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache}
- * on every change.
+ * on every change, along with the sections that depend on it.
  *
  * @author Alejandro Hernández
  */
 public class ClearCacheServiceTrackerMapListener<T, U>
 	implements ServiceTrackerMapListener<U, T, T> {
 
+	public ClearCacheServiceTrackerMapListener(CacheSection cacheSection) {
+		_cacheSection = cacheSection;
+	}
+
 	@Override
 	public void keyEmitted(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		INSTANCE.clear(_cacheSection);
 	}
 
 	@Override
 	public void keyRemoved(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		INSTANCE.clear(_cacheSection);
 	}
 
+	private final CacheSection _cacheSection;
+
 }
\ No newline at end of file
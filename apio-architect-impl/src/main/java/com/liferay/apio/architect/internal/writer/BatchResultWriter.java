@@ -16,6 +16,8 @@ package com.liferay.apio.architect.internal.writer;
 
 import static com.liferay.apio.architect.internal.url.URLCreator.createItemResourceURL;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
@@ -26,6 +28,8 @@ import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.resource.Resource.Id;
 import com.liferay.apio.architect.resource.Resource.Item;
 
+import java.io.IOException;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -49,52 +53,35 @@ public class BatchResultWriter<T> {
 	 *         otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Representor<Object>> optional = _representorFunction.apply(
-			_batchResult.resourceName);
-
-		if (!optional.isPresent()) {
-			return Optional.empty();
-		}
-
-		Representor<Object> representor = optional.get();
-
-		Collection<T> identifiers = _batchResult.getIdentifiers();
-
-		_batchResultMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, identifiers.size());
-
-		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
-
-		List<String> types = representor.getTypes();
-
-		for (T identifier : identifiers) {
-			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
-
-			_pathFunction.apply(
-				_batchResult.resourceName, identifier
-			).map(
-				path -> Item.of(path.getName(), Id.of("", path.getId()))
-			).ifPresent(
-				item -> {
-					Optional<String> optionalURL = createItemResourceURL(
-						applicationURL, item);
+		Optional<JSONObjectBuilder> optional = _write();
 
-					optionalURL.ifPresent(
-						url -> _batchResultMessageMapper.mapItemSelfURL(
-							_jsonObjectBuilder, itemJsonObjectBuilder, url));
+		return optional.map(JSONObjectBuilder::build);
+	}
 
-					_batchResultMessageMapper.mapItemTypes(
-						_jsonObjectBuilder, itemJsonObjectBuilder, types);
+	/**
+	 * Writes the handled batch result to the provided {@code JsonGenerator},
+	 * without creating an intermediate string. If no {@code Representor}
+	 * exists for the resource, nothing is written and this method returns
+	 * {@code false}.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @return {@code true} if the batch result was written; {@code false}
+	 *         otherwise
+	 * @throws IOException if the batch result couldn't be written
+	 * @review
+	 */
+	public boolean write(JsonGenerator jsonGenerator) throws IOException {
+		Optional<JSONObjectBuilder> optional = _write();
 
-					_batchResultMessageMapper.onFinishItem(
-						_jsonObjectBuilder, itemJsonObjectBuilder);
-				}
-			);
+		if (!optional.isPresent()) {
+			return false;
 		}
 
-		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
+
+		jsonObjectBuilder.writeTo(jsonGenerator);
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return true;
 	}
 
 	/**
@@ -207,6 +194,55 @@ public class BatchResultWriter<T> {
 		_jsonObjectBuilder = new JSONObjectBuilder();
 	}
 
+	private Optional<JSONObjectBuilder> _write() {
+		Optional<Representor<Object>> optional = _representorFunction.apply(
+			_batchResult.resourceName);
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Representor<Object> representor = optional.get();
+
+		Collection<T> identifiers = _batchResult.getIdentifiers();
+
+		_batchResultMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, identifiers.size());
+
+		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
+
+		List<String> types = representor.getTypes();
+
+		for (T identifier : identifiers) {
+			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+			_pathFunction.apply(
+				_batchResult.resourceName, identifier
+			).map(
+				path -> Item.of(path.getName(), Id.of("", path.getId()))
+			).ifPresent(
+				item -> {
+					Optional<String> optionalURL = createItemResourceURL(
+						applicationURL, item);
+
+					optionalURL.ifPresent(
+						url -> _batchResultMessageMapper.mapItemSelfURL(
+							_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
+					_batchResultMessageMapper.mapItemTypes(
+						_jsonObjectBuilder, itemJsonObjectBuilder, types);
+
+					_batchResultMessageMapper.onFinishItem(
+						_jsonObjectBuilder, itemJsonObjectBuilder);
+				}
+			);
+		}
+
+		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private final BatchResult<T> _batchResult;
 	private final BatchResultMessageMapper<T> _batchResultMessageMapper;
 	private final JSONObjectBuilder _jsonObjectBuilder;
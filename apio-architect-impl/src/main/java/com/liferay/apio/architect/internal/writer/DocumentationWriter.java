@@ -27,6 +27,8 @@ import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.js
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationField.FieldType.STRING;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationField.FieldType.STRING_LIST;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.alias.representor.FieldFunction;
 import com.liferay.apio.architect.alias.representor.NestedFieldFunction;
 import com.liferay.apio.architect.consumer.TriConsumer;
@@ -48,6 +50,8 @@ import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
+import java.io.IOException;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -92,35 +96,23 @@ public class DocumentationWriter {
 	 * @return the JSON representation of the {@code Documentation}
 	 */
 	public String write() {
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
-
-		_writeDocumentationMetadata(jsonObjectBuilder);
-
-		Map<String, Representor> representors =
-			_documentation.getRepresentors();
-
-		Stream<Resource> stream = _documentation.getResourceStream();
-
-		stream.filter(
-			resource -> resource instanceof Item || resource instanceof Paged
-		).forEach(
-			resource -> {
-				String name = resource.getName();
+		JSONObjectBuilder jsonObjectBuilder = _write();
 
-				Representor representor = representors.get(name);
-
-				_writeRoute(
-					jsonObjectBuilder, representor,
-					_getResourceMapperTriConsumer(resource),
-					(type, resourceJsonObjectBuilder) -> _writeOperations(
-						name, type, resource, resourceJsonObjectBuilder),
-					_getWriteFieldsRepresentorConsumer(resource, representor));
-			}
-		);
+		return jsonObjectBuilder.build();
+	}
 
-		_documentationMessageMapper.onFinish(jsonObjectBuilder, _documentation);
+	/**
+	 * Writes the {@link Documentation} to the provided {@code JsonGenerator},
+	 * without creating an intermediate string.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the {@code Documentation} couldn't be written
+	 * @review
+	 */
+	public void write(JsonGenerator jsonGenerator) throws IOException {
+		JSONObjectBuilder jsonObjectBuilder = _write();
 
-		return jsonObjectBuilder.build();
+		jsonObjectBuilder.writeTo(jsonGenerator);
 	}
 
 	/**
@@ -359,6 +351,38 @@ public class DocumentationWriter {
 			representor, resourceJsonObjectBuilder);
 	}
 
+	private JSONObjectBuilder _write() {
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		_writeDocumentationMetadata(jsonObjectBuilder);
+
+		Map<String, Representor> representors =
+			_documentation.getRepresentors();
+
+		Stream<Resource> stream = _documentation.getResourceStream();
+
+		stream.filter(
+			resource -> resource instanceof Item || resource instanceof Paged
+		).forEach(
+			resource -> {
+				String name = resource.getName();
+
+				Representor representor = representors.get(name);
+
+				_writeRoute(
+					jsonObjectBuilder, representor,
+					_getResourceMapperTriConsumer(resource),
+					(type, resourceJsonObjectBuilder) -> _writeOperations(
+						name, type, resource, resourceJsonObjectBuilder),
+					_getWriteFieldsRepresentorConsumer(resource, representor));
+			}
+		);
+
+		_documentationMessageMapper.onFinish(jsonObjectBuilder, _documentation);
+
+		return jsonObjectBuilder;
+	}
+
 	private void _writeActionSemantics(
 		ActionSemantics actionSemantics, JSONObjectBuilder jsonObjectBuilder,
 		String name, String type) {
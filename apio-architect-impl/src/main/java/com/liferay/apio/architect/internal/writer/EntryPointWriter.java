@@ -16,6 +16,8 @@ package com.liferay.apio.architect.internal.writer;
 
 import static com.liferay.apio.architect.internal.url.URLCreator.createPagedResourceURL;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
 import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
 import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
@@ -23,6 +25,8 @@ import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
+import java.io.IOException;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -41,32 +45,23 @@ public class EntryPointWriter {
 	 * @return the entry point's representation
 	 */
 	public String write() {
-		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
-
-		_entryPointMessageMapper.mapSelfURL(
-			_jsonObjectBuilder, applicationURL.get());
-
-		List<String> resourceNames = _entryPoint.getResourceNames();
-
-		for (String resourceName : resourceNames) {
-			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
-
-			Paged paged = Paged.of(resourceName);
-
-			String url = createPagedResourceURL(applicationURL, paged);
-
-			_entryPointMessageMapper.mapItemSelfURL(
-				_jsonObjectBuilder, itemJsonObjectBuilder, resourceName, url);
+		JSONObjectBuilder jsonObjectBuilder = _write();
 
-			_getCollectionItemType(resourceName, itemJsonObjectBuilder);
-
-			_entryPointMessageMapper.onFinishItem(
-				_jsonObjectBuilder, itemJsonObjectBuilder);
-		}
+		return jsonObjectBuilder.build();
+	}
 
-		_entryPointMessageMapper.onFinish(_jsonObjectBuilder, _entryPoint);
+	/**
+	 * Writes the handled {@link EntryPoint} to the provided {@code
+	 * JsonGenerator}, without creating an intermediate string.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the entry point couldn't be written
+	 * @review
+	 */
+	public void write(JsonGenerator jsonGenerator) throws IOException {
+		JSONObjectBuilder jsonObjectBuilder = _write();
 
-		return _jsonObjectBuilder.build();
+		jsonObjectBuilder.writeTo(jsonGenerator);
 	}
 
 	/**
@@ -169,6 +164,35 @@ public class EntryPointWriter {
 		);
 	}
 
+	private JSONObjectBuilder _write() {
+		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
+
+		_entryPointMessageMapper.mapSelfURL(
+			_jsonObjectBuilder, applicationURL.get());
+
+		List<String> resourceNames = _entryPoint.getResourceNames();
+
+		for (String resourceName : resourceNames) {
+			JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+
+			Paged paged = Paged.of(resourceName);
+
+			String url = createPagedResourceURL(applicationURL, paged);
+
+			_entryPointMessageMapper.mapItemSelfURL(
+				_jsonObjectBuilder, itemJsonObjectBuilder, resourceName, url);
+
+			_getCollectionItemType(resourceName, itemJsonObjectBuilder);
+
+			_entryPointMessageMapper.onFinishItem(
+				_jsonObjectBuilder, itemJsonObjectBuilder);
+		}
+
+		_entryPointMessageMapper.onFinish(_jsonObjectBuilder, _entryPoint);
+
+		return _jsonObjectBuilder;
+	}
+
 	private final EntryPoint _entryPoint;
 	private final EntryPointMessageMapper _entryPointMessageMapper;
 	private final JSONObjectBuilder _jsonObjectBuilder;
@@ -31,6 +31,8 @@ import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.representor.SerializationPlan;
+import com.liferay.apio.architect.internal.representor.SerializationPlan.FieldPlan;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
@@ -103,6 +105,8 @@ public class FieldsWriter<T> {
 		_path = path;
 		_embeddedPathElements = embeddedPathElements;
 		_singleModelFunction = singleModelFunction;
+
+		_serializationPlan = SerializationPlan.of(baseRepresentor);
 	}
 
 	/**
@@ -114,9 +118,13 @@ public class FieldsWriter<T> {
 	 *         exists; an always-successful predicate otherwise
 	 */
 	public Predicate<String> getFieldsPredicate() {
-		Fields fields = _requestInfo.getFields();
+		if (_fieldsPredicate == null) {
+			Fields fields = _requestInfo.getFields();
+
+			_fieldsPredicate = fields.apply(_baseRepresentor.getTypes());
+		}
 
-		return fields.apply(_baseRepresentor.getTypes());
+		return _fieldsPredicate;
 	}
 
 	/**
@@ -152,7 +160,7 @@ public class FieldsWriter<T> {
 		BiConsumer<String, String> biConsumer) {
 
 		writeFields(
-			BaseRepresentor::getApplicationRelativeURLFunctions,
+			_serializationPlan.getApplicationRelativeURLFieldPlan(),
 			writeField(
 				relativeURL -> createAbsoluteURL(
 					_requestInfo.getApplicationURL(), relativeURL),
@@ -171,7 +179,7 @@ public class FieldsWriter<T> {
 			_requestInfo.getApplicationURL(), binaryId, _path);
 
 		writeFields(
-			BaseRepresentor::getBinaryFunctions,
+			_serializationPlan.getBinaryFieldPlan(),
 			(key, binaryFile) -> biConsumer.accept(
 				key, urlFunction.apply(key)));
 	}
@@ -185,7 +193,7 @@ public class FieldsWriter<T> {
 	 */
 	public void writeBooleanFields(BiConsumer<String, Boolean> biConsumer) {
 		writeFields(
-			BaseRepresentor::getBooleanFunctions, writeField(biConsumer));
+			_serializationPlan.getBooleanFieldPlan(), writeField(biConsumer));
 	}
 
 	/**
@@ -199,7 +207,8 @@ public class FieldsWriter<T> {
 		BiConsumer<String, List<Boolean>> biConsumer) {
 
 		writeFields(
-			BaseRepresentor::getBooleanListFunctions, writeField(biConsumer));
+			_serializationPlan.getBooleanListFieldPlan(),
+			writeField(biConsumer));
 	}
 
 	/**
@@ -247,40 +256,36 @@ public class FieldsWriter<T> {
 	}
 
 	/**
-	 * Writes a {@code Map<String, S>} returned by a {@code Representor}
-	 * function. This method uses a consumer so each caller can decide what to
-	 * do with each entry. Each member of the map is filtered using the {@link
-	 * Fields} predicate provided by {@link #getFieldsPredicate()}.
+	 * Writes the fields of a {@link FieldPlan} from the representor's {@link
+	 * SerializationPlan}. This method uses a consumer so each caller can
+	 * decide what to do with each field. Each field is filtered using the
+	 * {@link Fields} predicate provided by {@link #getFieldsPredicate()}.
 	 *
-	 * @param representorFunction the {@code Representor} function that returns
-	 *        the map being written
-	 * @param biConsumer the consumer used to process each filtered entry
+	 * @param fieldPlan the field plan whose fields are being written
+	 * @param biConsumer the consumer used to process each filtered field
+	 * @review
 	 */
 	public <U> void writeFields(
-		Function<BaseRepresentor<T>, List<FieldFunction<T, U>>>
-			representorFunction,
-		BiConsumer<String, U> biConsumer) {
+		FieldPlan<T, U> fieldPlan, BiConsumer<String, U> biConsumer) {
 
-		List<FieldFunction<T, U>> list = representorFunction.apply(
-			_baseRepresentor);
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
 
-		Stream<FieldFunction<T, U>> stream = list.stream();
+		T model = _singleModel.getModel();
 
-		stream.filter(
-			fieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
+		for (int i = 0; i < fieldPlan.size(); i++) {
+			String key = fieldPlan.getKey(i);
 
-				return fieldsPredicate.test(fieldFunction.getKey());
+			if (!fieldsPredicate.test(key)) {
+				continue;
 			}
-		).forEach(
-			fieldFunction -> _tryToWriteField(
-				fieldFunction.getKey(),
-				key -> {
-					U u = fieldFunction.apply(_singleModel.getModel());
 
-					biConsumer.accept(key, u);
-				})
-		);
+			FieldFunction<T, U> fieldFunction = fieldPlan.getFieldFunction(i);
+
+			_tryToWriteField(
+				key,
+				fieldKey -> biConsumer.accept(
+					fieldKey, fieldFunction.apply(model)));
+		}
 	}
 
 	/**
@@ -292,7 +297,7 @@ public class FieldsWriter<T> {
 	 */
 	public void writeLinks(BiConsumer<String, String> biConsumer) {
 		writeFields(
-			BaseRepresentor::getLinkFunctions,
+			_serializationPlan.getLinkFieldPlan(),
 			writeField(Function.identity(), biConsumer));
 	}
 
@@ -307,7 +312,7 @@ public class FieldsWriter<T> {
 		BiConsumer<String, String> biConsumer) {
 
 		writeFields(
-			BaseRepresentor::getLocalizedStringFunctions,
+			_serializationPlan.getLocalizedStringFieldPlan(),
 			writeField(
 				function -> function.apply(_requestInfo.getAcceptLanguage()),
 				biConsumer));
@@ -411,7 +416,7 @@ public class FieldsWriter<T> {
 	 */
 	public void writeNumberFields(BiConsumer<String, Number> biConsumer) {
 		writeFields(
-			BaseRepresentor::getNumberFunctions, writeField(biConsumer));
+			_serializationPlan.getNumberFieldPlan(), writeField(biConsumer));
 	}
 
 	/**
@@ -425,7 +430,8 @@ public class FieldsWriter<T> {
 		BiConsumer<String, List<Number>> biConsumer) {
 
 		writeFields(
-			BaseRepresentor::getNumberListFunctions, writeField(biConsumer));
+			_serializationPlan.getNumberListFieldPlan(),
+			writeField(biConsumer));
 	}
 
 	/**
@@ -669,7 +675,7 @@ public class FieldsWriter<T> {
 	 */
 	public void writeRelativeURLFields(BiConsumer<String, String> biConsumer) {
 		writeFields(
-			BaseRepresentor::getRelativeURLFunctions,
+			_serializationPlan.getRelativeURLFieldPlan(),
 			writeField(
 				relativeURL -> createAbsoluteURL(
 					_requestInfo.getServerURL(), relativeURL),
@@ -701,7 +707,7 @@ public class FieldsWriter<T> {
 	 */
 	public void writeStringFields(BiConsumer<String, String> biConsumer) {
 		writeFields(
-			BaseRepresentor::getStringFunctions, writeField(biConsumer));
+			_serializationPlan.getStringFieldPlan(), writeField(biConsumer));
 	}
 
 	/**
@@ -715,7 +721,8 @@ public class FieldsWriter<T> {
 		BiConsumer<String, List<String>> biConsumer) {
 
 		writeFields(
-			BaseRepresentor::getStringListFunctions, writeField(biConsumer));
+			_serializationPlan.getStringListFieldPlan(),
+			writeField(biConsumer));
 	}
 
 	/**
@@ -734,7 +741,7 @@ public class FieldsWriter<T> {
 		}
 		catch (Exception e) {
 			if (_logger.isDebugEnabled()) {
-				_logger.debug("Unable to write field" + key, e);
+				_logger.debug("Unable to write field " + key, e);
 			}
 		}
 	}
@@ -752,9 +759,11 @@ public class FieldsWriter<T> {
 
 	private final BaseRepresentor<T> _baseRepresentor;
 	private final FunctionalList<String> _embeddedPathElements;
+	private Predicate<String> _fieldsPredicate;
 	private final Logger _logger = getLogger(getClass());
 	private final Path _path;
 	private final RequestInfo _requestInfo;
+	private final SerializationPlan<T> _serializationPlan;
 	private final SingleModel<T> _singleModel;
 	private final SingleModelFunction _singleModelFunction;
 
@@ -15,10 +15,15 @@
 package com.liferay.apio.architect.internal.writer;
 
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
+import static com.liferay.apio.architect.internal.url.URLCreator.createContextURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createResourceURL;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getPathOptional;
 
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.internal.alias.ActionSemanticsFunction;
 import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
@@ -32,16 +37,35 @@ import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.pagination.PageType;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.ServerURL;
+import com.liferay.apio.architect.language.AcceptLanguage;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Writes a page.
@@ -89,45 +113,134 @@ public class PageWriter<T> {
 	 *         Optional#empty()} otherwise
 	 */
 	public String write() {
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
+		_writePageFields();
 
 		Collection<T> items = _page.getItems();
 
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
+		String resourceName = _getResourceName();
 
-		_writePageURLs();
+		items.forEach(
+			model -> _writeItem(
+				_jsonObjectBuilder,
+				new SingleModelImpl<>(model, resourceName)));
 
-		Optional<String> optionalURL = createResourceURL(
-			_requestInfo.getApplicationURL(), _page.getResource());
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
 
-		optionalURL.ifPresent(
-			url -> _pageMessageMapper.mapCollectionURL(
-				_jsonObjectBuilder, url));
+		return _jsonObjectBuilder.build();
+	}
 
-		String resourceName = _page.getResourceName();
+	/**
+	 * Writes the handled {@link Page} to the provided {@code JsonGenerator}.
+	 * Unlike {@link #write()}, the page's items aren't added to the page's
+	 * {@link JSONObjectBuilder}. Instead, every item is written to its own
+	 * fragment, which is streamed to the generator and discarded before the
+	 * next item is written. This way, the memory needed to write a page
+	 * depends on the size of an item, not on the size of the page.
+	 *
+	 * <p>
+	 * Unlike {@link #write()}, {@link PageMessageMapper#onFinish} is called
+	 * before the items are written, since the page's fields are written before
+	 * its items.
+	 * </p>
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @throws IOException if the page couldn't be written
+	 * @review
+	 */
+	public void write(JsonGenerator jsonGenerator) throws IOException {
+		_writePageFields();
 
-		items.forEach(
-			model -> _writeItem(new SingleModelImpl<>(model, resourceName)));
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
 
-		ActionWriter actionWriter = new ActionWriter(
-			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+		Collection<T> items = _page.getItems();
 
-		_actionSemanticsFunction.apply(
-			_page.getResource()
-		).forEach(
-			actionWriter::write
-		);
+		String resourceName = _getResourceName();
 
-		_representorFunction.apply(
-			resourceName
-		).ifPresent(
-			_mapPageSemantics(_jsonObjectBuilder)
-		);
+		Stream<T> stream = items.stream();
+
+		Iterator<JSONObjectBuilder> iterator = stream.map(
+			model -> _getItemFragment(
+				new SingleModelImpl<>(model, resourceName))
+		).iterator();
+
+		_jsonObjectBuilder.writeTo(jsonGenerator, iterator);
+	}
+
+	/**
+	 * Writes the handled {@link Page} to the provided {@code JsonGenerator},
+	 * like {@link #write(JsonGenerator)}, but renders the page's items
+	 * concurrently in the provided {@code Executor}. Every item is rendered to
+	 * its own fragment, and fragments are streamed to the generator in the
+	 * items' original order.
+	 *
+	 * <p>
+	 * The request's server URL, application URL, and languages are resolved in
+	 * the calling thread before the items are rendered, and the single models
+	 * of embedded related models are retrieved in the calling thread while it
+	 * waits for the items. This way, neither depends on state bound to the
+	 * request's thread. Field functions run in the executor's threads, so
+	 * they must not depend on that state.
+	 * </p>
+	 *
+	 * <p>
+	 * If the executor rejects an item, for example because it's being shut
+	 * down, the item is rendered in the calling thread instead.
+	 * </p>
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @param  executor the executor that renders the items
+	 * @throws IOException if the page couldn't be written
+	 * @review
+	 */
+	public void write(JsonGenerator jsonGenerator, Executor executor)
+		throws IOException {
+
+		_writePageFields();
 
 		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
 
-		return _jsonObjectBuilder.build();
+		RequestThreadTasks requestThreadTasks = new RequestThreadTasks();
+
+		PageWriter<T> itemPageWriter = new PageWriter<>(
+			this, _detach(_requestInfo),
+			(identifier, identifierClass) -> requestThreadTasks.call(
+				() -> _singleModelFunction.apply(identifier, identifierClass)));
+
+		Collection<T> items = _page.getItems();
+
+		String resourceName = _getResourceName();
+
+		Stream<T> stream = items.stream();
+
+		List<CompletableFuture<JSONObjectBuilder>> completableFutures =
+			stream.map(
+				model -> _supplyItemFragment(
+					itemPageWriter, new SingleModelImpl<>(model, resourceName),
+					executor)
+			).peek(
+				completableFuture -> completableFuture.whenComplete(
+					(jsonObjectBuilder, throwable) ->
+						requestThreadTasks.wakeUp())
+			).collect(
+				toList()
+			);
+
+		Stream<CompletableFuture<JSONObjectBuilder>> completableFutureStream =
+			completableFutures.stream();
+
+		Iterator<JSONObjectBuilder> iterator = completableFutureStream.map(
+			completableFuture -> _join(completableFuture, requestThreadTasks)
+		).iterator();
+
+		try {
+			_jsonObjectBuilder.writeTo(jsonGenerator, iterator);
+		}
+		finally {
+			completableFutures.forEach(
+				completableFuture -> completableFuture.cancel(false));
+
+			requestThreadTasks.close();
+		}
 	}
 
 	/**
@@ -315,6 +428,97 @@ public class PageWriter<T> {
 
 	}
 
+	private static RequestInfo _detach(RequestInfo requestInfo) {
+		ServerURL serverURL = requestInfo.getServerURL();
+		ApplicationURL applicationURL = requestInfo.getApplicationURL();
+		AcceptLanguage acceptLanguage = requestInfo.getAcceptLanguage();
+
+		String serverURLString = serverURL.get();
+		String applicationURLString = applicationURL.get();
+		Locale preferredLocale = acceptLanguage.getPreferredLocale();
+
+		Stream<Locale> stream = acceptLanguage.getLocales();
+
+		List<Locale> locales = stream.collect(toList());
+
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> serverURLString
+			).applicationURL(
+				() -> applicationURLString
+			).embedded(
+				requestInfo.getEmbedded()
+			).fields(
+				requestInfo.getFields()
+			).language(
+				new AcceptLanguage() {
+
+					@Override
+					public Stream<Locale> getLocales() {
+						return locales.stream();
+					}
+
+					@Override
+					public Locale getPreferredLocale() {
+						return preferredLocale;
+					}
+
+				}
+			).build());
+	}
+
+	private PageWriter(
+		PageWriter<T> pageWriter, RequestInfo requestInfo,
+		SingleModelFunction singleModelFunction) {
+
+		_page = pageWriter._page;
+		_actionSemanticsFunction = pageWriter._actionSemanticsFunction;
+		_pageMessageMapper = pageWriter._pageMessageMapper;
+		_pathFunction = pageWriter._pathFunction;
+		_representorFunction = pageWriter._representorFunction;
+		_requestInfo = requestInfo;
+		_resourceNameFunction = pageWriter._resourceNameFunction;
+		_singleModelFunction = singleModelFunction;
+
+		_jsonObjectBuilder = new JSONObjectBuilder();
+	}
+
+	private JSONObjectBuilder _getItemFragment(SingleModel<T> singleModel) {
+		JSONObjectBuilder pageJSONObjectBuilder = new JSONObjectBuilder();
+
+		_writeItem(pageJSONObjectBuilder, singleModel);
+
+		return pageJSONObjectBuilder;
+	}
+
+	private String _getResourceName() {
+		Resource resource = _page.getResource();
+
+		return resource.getName();
+	}
+
+	private JSONObjectBuilder _join(
+		CompletableFuture<JSONObjectBuilder> completableFuture,
+		RequestThreadTasks requestThreadTasks) {
+
+		requestThreadTasks.runUntilDone(completableFuture);
+
+		try {
+			return completableFuture.join();
+		}
+		catch (CompletionException ce) {
+			Throwable throwable = ce.getCause();
+
+			if (throwable instanceof RuntimeException) {
+				throw (RuntimeException)throwable;
+			}
+
+			throw ce;
+		}
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -325,59 +529,75 @@ public class PageWriter<T> {
 		};
 	}
 
+	private CompletableFuture<JSONObjectBuilder> _supplyItemFragment(
+		PageWriter<T> itemPageWriter, SingleModel<T> singleModel,
+		Executor executor) {
+
+		try {
+			return CompletableFuture.supplyAsync(
+				() -> itemPageWriter._getItemFragment(singleModel), executor);
+		}
+		catch (RejectedExecutionException ree) {
+			return CompletableFuture.completedFuture(
+				_getItemFragment(singleModel));
+		}
+	}
+
 	private void _writeBasicFields(
-		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
+		JSONObjectBuilder pageJSONObjectBuilder, FieldsWriter<?> fieldsWriter,
+		JSONObjectBuilder jsonObjectBuilder) {
 
 		fieldsWriter.writeApplicationRelativeURLFields(
 			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeBooleanFields(
 			(field, value) -> _pageMessageMapper.mapItemBooleanField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeBooleanListFields(
 			(field, value) -> _pageMessageMapper.mapItemBooleanListField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeNumberFields(
 			(field, value) -> _pageMessageMapper.mapItemNumberField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeNumberListFields(
 			(field, value) -> _pageMessageMapper.mapItemNumberListField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeRelativeURLFields(
 			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeStringFields(
 			(field, value) -> _pageMessageMapper.mapItemStringField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeStringListFields(
 			(field, value) -> _pageMessageMapper.mapItemStringListField(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 
 		fieldsWriter.writeLinks(
 			(fieldName, link) -> _pageMessageMapper.mapItemLink(
-				_jsonObjectBuilder, jsonObjectBuilder, fieldName, link));
+				pageJSONObjectBuilder, jsonObjectBuilder, fieldName, link));
 
 		fieldsWriter.writeTypes(
 			types -> _pageMessageMapper.mapItemTypes(
-				_jsonObjectBuilder, jsonObjectBuilder, types));
+				pageJSONObjectBuilder, jsonObjectBuilder, types));
 
 		fieldsWriter.writeBinaries(
 			(field, value) -> _pageMessageMapper.mapItemLink(
-				_jsonObjectBuilder, jsonObjectBuilder, field, value));
+				pageJSONObjectBuilder, jsonObjectBuilder, field, value));
 	}
 
 	private <U> void _writeItem(
+		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder collectionJSONObjectBuilder,
 		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
 		BaseRepresentorFunction baseRepresentorFunction,
@@ -403,7 +623,8 @@ public class PageWriter<T> {
 
 		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
 
-		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
+		_writeBasicFields(
+			pageJSONObjectBuilder, fieldsWriter, itemJsonObjectBuilder);
 
 		Optional<FieldsWriter<U>> relatedModelsFieldsWriterOptional =
 			getFieldsWriter(
@@ -416,23 +637,23 @@ public class PageWriter<T> {
 					_pathFunction,
 					(embeddedSingleModel, embeddedPathElements1) ->
 						_writeItemEmbeddedModelFields(
-							embeddedSingleModel, embeddedPathElements1,
-							itemJsonObjectBuilder, baseRepresentorFunction,
-							singleModel),
+							pageJSONObjectBuilder, embeddedSingleModel,
+							embeddedPathElements1, itemJsonObjectBuilder,
+							baseRepresentorFunction, singleModel),
 					(resourceURL, embeddedPathElements1) ->
 						_pageMessageMapper.mapItemLinkedResourceURL(
-							_jsonObjectBuilder, itemJsonObjectBuilder,
+							pageJSONObjectBuilder, itemJsonObjectBuilder,
 							embeddedPathElements1, resourceURL),
 					(resourceURL, embeddedPathElements1) ->
 						_pageMessageMapper.mapItemEmbeddedResourceURL(
-							_jsonObjectBuilder, itemJsonObjectBuilder,
+							pageJSONObjectBuilder, itemJsonObjectBuilder,
 							embeddedPathElements1, resourceURL));
 
 				relatedModelFieldsWriter.writeRelatedCollections(
 					_pathFunction, _resourceNameFunction,
 					(url, embeddedPathElements1) ->
 						_pageMessageMapper.mapItemLinkedResourceURL(
-							_jsonObjectBuilder, itemJsonObjectBuilder,
+							pageJSONObjectBuilder, itemJsonObjectBuilder,
 							embeddedPathElements1, url));
 			});
 
@@ -440,20 +661,23 @@ public class PageWriter<T> {
 			baseRepresentorFunction, singleModel, null,
 			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
 				-> _writeItemEmbeddedModelFields(
-				nestedSingleModel, nestedPathElements, itemJsonObjectBuilder,
-				nestedRepresentorFunction, rootSingleModel));
+				pageJSONObjectBuilder, nestedSingleModel, nestedPathElements,
+				itemJsonObjectBuilder, nestedRepresentorFunction,
+				rootSingleModel));
 
 		fieldsWriter.writeNestedLists(
 			baseRepresentorFunction, singleModel,
 			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
-				rootSingleModel, null));
+				pageJSONObjectBuilder, nestedListFieldFunction, list,
+				itemJsonObjectBuilder, rootSingleModel, null));
 
 		_pageMessageMapper.onFinishNestedCollectionItem(
 			collectionJSONObjectBuilder, itemJsonObjectBuilder, singleModel);
 	}
 
-	private void _writeItem(SingleModel<T> singleModel) {
+	private void _writeItem(
+		JSONObjectBuilder pageJSONObjectBuilder, SingleModel<T> singleModel) {
+
 		Optional<Path> pathOptional = getPathOptional(
 			singleModel, _pathFunction, _representorFunction::apply);
 
@@ -473,62 +697,66 @@ public class PageWriter<T> {
 
 		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
 
-		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
+		_writeBasicFields(
+			pageJSONObjectBuilder, fieldsWriter, itemJsonObjectBuilder);
 
 		fieldsWriter.writeSingleURL(
 			url -> _pageMessageMapper.mapItemSelfURL(
-				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+				pageJSONObjectBuilder, itemJsonObjectBuilder, url));
 
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
 			(embeddedSingleModel, embeddedPathElements1) ->
 				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedPathElements1,
-					itemJsonObjectBuilder),
+					pageJSONObjectBuilder, embeddedSingleModel,
+					embeddedPathElements1, itemJsonObjectBuilder),
 			(resourceURL, embeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, resourceURL),
 			(resourceURL, embeddedPathElements) ->
 				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, resourceURL));
 
 		fieldsWriter.writeRelatedCollections(
 			_pathFunction, _resourceNameFunction,
 			(url, embeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, url));
 
 		fieldsWriter.writeNestedResources(
 			_representorFunction::apply, singleModel, null,
 			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
 				-> _writeItemEmbeddedModelFields(
-				nestedSingleModel, nestedPathElements, itemJsonObjectBuilder,
-				nestedRepresentorFunction, singleModel));
+				pageJSONObjectBuilder, nestedSingleModel, nestedPathElements,
+				itemJsonObjectBuilder, nestedRepresentorFunction,
+				singleModel));
 
 		fieldsWriter.writeNestedLists(
 			_representorFunction::apply, singleModel,
 			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
-				singleModel, null));
+				pageJSONObjectBuilder, nestedListFieldFunction, list,
+				itemJsonObjectBuilder, singleModel, null));
 
 		_pageMessageMapper.onFinishItem(
-			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel);
+			pageJSONObjectBuilder, itemJsonObjectBuilder, singleModel);
 	}
 
 	private <S> void _writeItemEmbeddedModelFields(
-		SingleModel<S> singleModel, FunctionalList<String> embeddedPathElements,
+		JSONObjectBuilder pageJSONObjectBuilder, SingleModel<S> singleModel,
+		FunctionalList<String> embeddedPathElements,
 		JSONObjectBuilder itemJsonObjectBuilder) {
 
 		_writeItemEmbeddedModelFields(
-			singleModel, embeddedPathElements, itemJsonObjectBuilder,
-			_representorFunction::apply, singleModel);
+			pageJSONObjectBuilder, singleModel, embeddedPathElements,
+			itemJsonObjectBuilder, _representorFunction::apply, singleModel);
 	}
 
 	private <S, U> void _writeItemEmbeddedModelFields(
-		SingleModel<S> singleModel, FunctionalList<String> embeddedPathElements,
+		JSONObjectBuilder pageJSONObjectBuilder, SingleModel<S> singleModel,
+		FunctionalList<String> embeddedPathElements,
 		JSONObjectBuilder itemJsonObjectBuilder,
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel<U> rootSingleModel) {
@@ -554,117 +782,118 @@ public class PageWriter<T> {
 		fieldsWriter.writeApplicationRelativeURLFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeBooleanFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceBooleanField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeBooleanListFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceBooleanListField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeLocalizedStringFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeNumberFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceNumberField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeNumberListFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceNumberListField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeRelativeURLFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeApplicationRelativeURLFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeStringFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeStringListFields(
 			(field, value) ->
 				_pageMessageMapper.mapItemEmbeddedResourceStringListField(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					embeddedPathElements, field, value));
 
 		fieldsWriter.writeLinks(
 			(fieldName, link) -> _pageMessageMapper.mapItemEmbeddedResourceLink(
-				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
-				fieldName, link));
+				pageJSONObjectBuilder, itemJsonObjectBuilder,
+				embeddedPathElements, fieldName, link));
 
 		fieldsWriter.writeTypes(
 			types -> _pageMessageMapper.mapItemEmbeddedResourceTypes(
-				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
-				types));
+				pageJSONObjectBuilder, itemJsonObjectBuilder,
+				embeddedPathElements, types));
 
 		fieldsWriter.writeBinaries(
 			(field, value) -> _pageMessageMapper.mapItemEmbeddedResourceLink(
-				_jsonObjectBuilder, itemJsonObjectBuilder, embeddedPathElements,
-				field, value));
+				pageJSONObjectBuilder, itemJsonObjectBuilder,
+				embeddedPathElements, field, value));
 
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
 			(embeddedSingleModel, embeddedModelEmbeddedPathElements) ->
 				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedModelEmbeddedPathElements,
-					itemJsonObjectBuilder),
+					pageJSONObjectBuilder, embeddedSingleModel,
+					embeddedModelEmbeddedPathElements, itemJsonObjectBuilder),
 			(resourceURL, resourceEmbeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					resourceEmbeddedPathElements, resourceURL),
 			(resourceURL, resourceEmbeddedPathElements) ->
 				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					resourceEmbeddedPathElements, resourceURL));
 
 		fieldsWriter.writeRelatedCollections(
 			_pathFunction, _resourceNameFunction,
 			(url, resourceEmbeddedPathElements) ->
 				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
+					pageJSONObjectBuilder, itemJsonObjectBuilder,
 					resourceEmbeddedPathElements, url));
 
 		fieldsWriter.writeNestedResources(
 			baseRepresentorFunction, singleModel, embeddedPathElements,
 			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
 				-> _writeItemEmbeddedModelFields(
-				nestedSingleModel, nestedPathElements, itemJsonObjectBuilder,
-				nestedRepresentorFunction, rootSingleModel));
+				pageJSONObjectBuilder, nestedSingleModel, nestedPathElements,
+				itemJsonObjectBuilder, nestedRepresentorFunction,
+				rootSingleModel));
 
 		fieldsWriter.writeNestedLists(
 			baseRepresentorFunction, singleModel,
 			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
-				rootSingleModel, embeddedPathElements));
+				pageJSONObjectBuilder, nestedListFieldFunction, list,
+				itemJsonObjectBuilder, rootSingleModel, embeddedPathElements));
 	}
 
 	private <U> void _writeNestedList(
-		String fieldName, List<U> nestedList,
-		JSONObjectBuilder jsonObjectBuilder,
+		JSONObjectBuilder pageJSONObjectBuilder, String fieldName,
+		List<U> nestedList, JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements,
 		BaseRepresentorFunction baseRepresentorFunction,
 		SingleModel singleModel) {
@@ -682,8 +911,9 @@ public class PageWriter<T> {
 
 		nestedList.forEach(
 			model -> _writeItem(
-				nestedPageJSONObjectBuilder, new SingleModelImpl<>(model, ""),
-				embeddedPathElements, baseRepresentorFunction, singleModel));
+				pageJSONObjectBuilder, nestedPageJSONObjectBuilder,
+				new SingleModelImpl<>(model, ""), embeddedPathElements,
+				baseRepresentorFunction, singleModel));
 
 		_pageMessageMapper.onFinishNestedCollection(
 			jsonObjectBuilder, nestedPageJSONObjectBuilder, fieldName,
@@ -691,6 +921,7 @@ public class PageWriter<T> {
 	}
 
 	private <S> void _writeNestedLists(
+		JSONObjectBuilder pageJSONObjectBuilder,
 		NestedListFieldFunction nestedListFieldFunction, List<S> list,
 		JSONObjectBuilder jsonObjectBuilder, SingleModel rootSingleModel,
 		FunctionalList<String> embeddedPathElements) {
@@ -705,8 +936,47 @@ public class PageWriter<T> {
 				nestedListFieldFunction.getNestedRepresentor());
 
 		_writeNestedList(
-			key, list, jsonObjectBuilder, embeddedNestedPathElements,
-			baseRepresentorFunction, rootSingleModel);
+			pageJSONObjectBuilder, key, list, jsonObjectBuilder,
+			embeddedNestedPathElements, baseRepresentorFunction,
+			rootSingleModel);
+	}
+
+	private void _writePageFields() {
+		_pageMessageMapper.mapContextURL(
+			_jsonObjectBuilder,
+			createContextURL(
+				_requestInfo.getApplicationURL(), _getResourceName()));
+
+		_pageMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, _page.getTotalCount());
+
+		Collection<T> items = _page.getItems();
+
+		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
+
+		_writePageURLs();
+
+		Optional<String> optionalURL = createResourceURL(
+			_requestInfo.getApplicationURL(), _page.getResource());
+
+		optionalURL.ifPresent(
+			url -> _pageMessageMapper.mapCollectionURL(
+				_jsonObjectBuilder, url));
+
+		ActionWriter actionWriter = new ActionWriter(
+			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		_actionSemanticsFunction.apply(
+			_page.getResource()
+		).forEach(
+			actionWriter::write
+		);
+
+		_representorFunction.apply(
+			_getResourceName()
+		).ifPresent(
+			_mapPageSemantics(_jsonObjectBuilder)
+		);
 	}
 
 	private void _writePageURLs() {
@@ -741,6 +1011,105 @@ public class PageWriter<T> {
 			});
 	}
 
+	/**
+	 * Runs tasks that depend on state bound to the request's thread (e.g.,
+	 * retrieving the single models of embedded related models) in that
+	 * thread, on behalf of the threads that render the page's items. The
+	 * request's thread runs the tasks while it waits for the items.
+	 */
+	private static class RequestThreadTasks {
+
+		public <R> R call(Callable<R> callable) {
+			if (Thread.currentThread() == _thread) {
+				return _call(callable);
+			}
+
+			FutureTask<R> futureTask = new FutureTask<>(callable);
+
+			_tasks.add(futureTask);
+
+			if (_closed) {
+				futureTask.cancel(false);
+			}
+
+			try {
+				return futureTask.get();
+			}
+			catch (ExecutionException ee) {
+				Throwable throwable = ee.getCause();
+
+				if (throwable instanceof RuntimeException) {
+					throw (RuntimeException)throwable;
+				}
+
+				throw new CompletionException(throwable);
+			}
+			catch (InterruptedException ie) {
+				Thread currentThread = Thread.currentThread();
+
+				currentThread.interrupt();
+
+				throw new CompletionException(ie);
+			}
+		}
+
+		public void close() {
+			_closed = true;
+
+			Runnable runnable = _tasks.poll();
+
+			while (runnable != null) {
+				if (runnable instanceof Future) {
+					Future<?> future = (Future<?>)runnable;
+
+					future.cancel(false);
+				}
+
+				runnable = _tasks.poll();
+			}
+		}
+
+		public void runUntilDone(Future<?> future) {
+			while (!future.isDone()) {
+				try {
+					Runnable runnable = _tasks.take();
+
+					runnable.run();
+				}
+				catch (InterruptedException ie) {
+					Thread currentThread = Thread.currentThread();
+
+					currentThread.interrupt();
+
+					throw new CompletionException(ie);
+				}
+			}
+		}
+
+		public void wakeUp() {
+			_tasks.add(() -> {
+			});
+		}
+
+		private <R> R _call(Callable<R> callable) {
+			try {
+				return callable.call();
+			}
+			catch (RuntimeException re) {
+				throw re;
+			}
+			catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}
+
+		private volatile boolean _closed;
+		private final BlockingQueue<Runnable> _tasks =
+			new LinkedBlockingQueue<>();
+		private final Thread _thread = Thread.currentThread();
+
+	}
+
 	private final ActionSemanticsFunction _actionSemanticsFunction;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
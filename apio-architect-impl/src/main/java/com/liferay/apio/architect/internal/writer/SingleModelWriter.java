@@ -14,9 +14,12 @@
 
 package com.liferay.apio.architect.internal.writer;
 
+import static com.liferay.apio.architect.internal.url.URLCreator.createContextURL;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getPathOptional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.internal.alias.ActionSemanticsFunction;
 import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
@@ -34,6 +37,8 @@ import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -87,71 +92,35 @@ public class SingleModelWriter<T> {
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
+		Optional<JSONObjectBuilder> optional = _write();
 
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
+		return optional.map(JSONObjectBuilder::build);
+	}
 
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
+	/**
+	 * Writes the handled {@link SingleModel} to the provided {@code
+	 * JsonGenerator}, without creating an intermediate string. If no {@code
+	 * Representor} or {@code Path} exists for the model, nothing is written
+	 * and this method returns {@code false}.
+	 *
+	 * @param  jsonGenerator the JSON generator
+	 * @return {@code true} if the {@code SingleModel} was written; {@code
+	 *         false} otherwise
+	 * @throws IOException if the {@code SingleModel} couldn't be written
+	 * @review
+	 */
+	public boolean write(JsonGenerator jsonGenerator) throws IOException {
+		Optional<JSONObjectBuilder> optional = _write();
 
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
+		if (!optional.isPresent()) {
+			return false;
 		}
 
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
 
-		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
-
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		ActionWriter actionWriter = new ActionWriter(
-			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
+		jsonObjectBuilder.writeTo(jsonGenerator);
 
-		fieldsWriter.withItem(
-			item -> _actionSemanticsFunction.apply(
-				item
-			).forEach(
-				actionWriter::write
-			));
-
-		fieldsWriter.writeRelatedModels(
-			_pathFunction,
-			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
-				singleModel, _jsonObjectBuilder, embeddedPathElements),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_pathFunction, _resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
-
-		fieldsWriter.writeNestedResources(
-			_representorFunction::apply, _singleModel, null,
-			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
-				-> writeEmbeddedModelFields(
-				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
-				nestedRepresentorFunction));
-
-		fieldsWriter.writeNestedLists(
-			_representorFunction::apply, _singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, _jsonObjectBuilder, null));
-
-		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
-
-		return Optional.of(_jsonObjectBuilder.build());
+		return true;
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -449,6 +418,80 @@ public class SingleModelWriter<T> {
 		};
 	}
 
+	private Optional<JSONObjectBuilder> _write() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_singleModelMessageMapper.mapContextURL(
+			_jsonObjectBuilder,
+			createContextURL(
+				_requestInfo.getApplicationURL(),
+				_singleModel.getResourceName()));
+
+		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		ActionWriter actionWriter = new ActionWriter(
+			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		fieldsWriter.withItem(
+			item -> _actionSemanticsFunction.apply(
+				item
+			).forEach(
+				actionWriter::write
+			));
+
+		fieldsWriter.writeRelatedModels(
+			_pathFunction,
+			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
+				singleModel, _jsonObjectBuilder, embeddedPathElements),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_pathFunction, _resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url));
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, _singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> writeEmbeddedModelFields(
+				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
+				nestedRepresentorFunction));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, _singleModel,
+			(nestedListFieldFunction, list) -> _writeNestedList(
+				nestedListFieldFunction, list, _jsonObjectBuilder, null));
+
+		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private void _writeBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
 
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.action;
+
+import static com.liferay.apio.architect.internal.action.Predicates.returnsAnyOf;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ActionSemanticsIndexTest {
+
+	@Test
+	public void testGetActionSemanticsByResourceKeepsOrder() {
+		List<ActionSemantics> list = _actionSemanticsIndex.getActionSemantics(
+			Paged.of("name"));
+
+		assertThat(list, contains(_retrieve, _retrievePage, _create));
+
+		assertThat(
+			_actionSemanticsIndex.getActionSemantics(Paged.of("other")),
+			is(empty()));
+	}
+
+	@Test
+	public void testGetActionSemanticsIgnoresResourceIds() {
+		Item item = Item.of("name", Resource.Id.of(42L, "42"));
+
+		Optional<ActionSemantics> optional =
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				item, "DELETE", "remove");
+
+		assertThat(optional, is(Optional.of(_remove)));
+	}
+
+	@Test
+	public void testGetActionSemanticsOptionalFindsFirstMatch() {
+		Optional<ActionSemantics> optional =
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				Paged.of("name"), "GET", "retrieve");
+
+		assertThat(optional, is(Optional.of(_retrieve)));
+
+		optional = _actionSemanticsIndex.getActionSemanticsOptional(
+			Paged.of("name"), "GET", "retrieve", returnsAnyOf(Page.class));
+
+		assertThat(optional, is(Optional.of(_retrievePage)));
+	}
+
+	@Test
+	public void testGetActionSemanticsOptionalWithoutMatchIsEmpty() {
+		assertThat(
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				Paged.of("name"), "DELETE", "retrieve"),
+			is(Optional.empty()));
+		assertThat(
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				Item.of("name"), "GET", "create"),
+			is(Optional.empty()));
+		assertThat(
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				Paged.of("other"), "GET", "retrieve"),
+			is(Optional.empty()));
+	}
+
+	@Test
+	public void testGetActionSemanticsReturnsEveryActionInOrder() {
+		Stream<ActionSemantics> stream =
+			_actionSemanticsIndex.getActionSemantics();
+
+		assertThat(
+			stream.collect(Collectors.toList()),
+			contains(_retrieve, _remove, _retrievePage, _create));
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, String method, Class<?> returnClass) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			method
+		).returns(
+			returnClass
+		).executeFunction(
+			__ -> null
+		).build();
+	}
+
+	private static final ActionSemantics _create = _createActionSemantics(
+		Paged.of("name"), "create", "POST", Object.class);
+	private static final ActionSemantics _remove = _createActionSemantics(
+		Item.of("name"), "remove", "DELETE", Void.class);
+	private static final ActionSemantics _retrieve = _createActionSemantics(
+		Paged.of("name"), "retrieve", "GET", Object.class);
+	private static final ActionSemantics _retrievePage =
+		_createActionSemantics(Paged.of("name"), "retrieve", "GET", Page.class);
+
+	private final ActionSemanticsIndex _actionSemanticsIndex =
+		new ActionSemanticsIndex(
+			Stream.of(_retrieve, _remove, _retrievePage, _create));
+
+}
\ No newline at end of file
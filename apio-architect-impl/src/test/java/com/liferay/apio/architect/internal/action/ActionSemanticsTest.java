@@ -30,6 +30,8 @@ import static org.hamcrest.core.Is.is;
 
 import static org.junit.Assert.assertEquals;
 
+import com.liferay.apio.architect.internal.alias.ProvideFunction;
+import com.liferay.apio.architect.internal.alias.ResolveFunction;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.resource.Resource;
@@ -41,9 +43,12 @@ import io.vavr.control.Try;
 
 import java.lang.annotation.Annotation;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
+
 import org.junit.Test;
 
 /**
@@ -173,6 +178,96 @@ public class ActionSemanticsTest {
 		assertThat(result, is("1-2"));
 	}
 
+	@Test
+	public void testToActionCompilesResolveFunctionsOnce() {
+		ActionSemantics actionSemantics = ActionSemantics.ofResource(
+			Resource.Paged.of("name")
+		).name(
+			"action"
+		).method(
+			GET
+		).returns(
+			String.class
+		).executeFunction(
+			_join
+		).receivesParams(
+			String.class, Long.class
+		).build();
+
+		List<String> compiledClassNames = new ArrayList<>();
+
+		ProvideFunction provideFunction = new ProvideFunction() {
+
+			@Override
+			public Object apply(
+				ActionSemantics semantics, HttpServletRequest request,
+				Class<?> clazz) {
+
+				return clazz.getSimpleName();
+			}
+
+			@Override
+			public ResolveFunction getResolveFunction(Class<?> clazz) {
+				compiledClassNames.add(clazz.getSimpleName());
+
+				return (semantics, request) -> clazz.getSimpleName();
+			}
+
+		};
+
+		Action action = actionSemantics.toAction(provideFunction);
+
+		action.apply(null);
+		action.apply(null);
+
+		ActionSemantics updatedActionSemantics = actionSemantics.withResource(
+			Resource.Paged.of("other"));
+
+		Action updatedAction = updatedActionSemantics.toAction(
+			provideFunction);
+
+		Object object = updatedAction.apply(null);
+
+		@SuppressWarnings("unchecked")
+		Try<String> stringTry = (Try<String>)object;
+
+		assertThat(stringTry.get(), is("String-Long"));
+		assertThat(compiledClassNames, contains("String", "Long"));
+	}
+
+	@Test
+	public void testToActionReturnsFailureIfAParamCannotBeProvided() {
+		ActionSemantics actionSemantics = ActionSemantics.ofResource(
+			Resource.Paged.of("name")
+		).name(
+			"action"
+		).method(
+			GET
+		).returns(
+			String.class
+		).executeFunction(
+			_join
+		).receivesParams(
+			String.class, Long.class
+		).build();
+
+		Action action = actionSemantics.toAction(
+			(semantics, request, clazz) -> {
+				throw new IllegalArgumentException();
+			});
+
+		Object object = action.apply(null);
+
+		assertThat(object, is(instanceOf(Try.class)));
+
+		Try<?> failureTry = (Try<?>)object;
+
+		assertThat(failureTry.isFailure(), is(true));
+		assertThat(
+			failureTry.getCause(),
+			is(instanceOf(IllegalArgumentException.class)));
+	}
+
 	@Test
 	public void testToActionTransformsAnActionSemanticsIntoAnAction() {
 		ActionSemantics actionSemantics = ActionSemantics.ofResource(
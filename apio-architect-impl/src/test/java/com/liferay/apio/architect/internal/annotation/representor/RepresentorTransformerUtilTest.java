@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.representor;
+
+import static com.liferay.apio.architect.internal.annotation.representor.RepresentorTransformerUtil.getMethodBiFunction;
+import static com.liferay.apio.architect.internal.annotation.representor.RepresentorTransformerUtil.getMethodFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Method;
+
+import java.util.Locale;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RepresentorTransformerUtilTest {
+
+	@Test
+	public void testGetMethodBiFunctionCallsMethodWithArgument()
+		throws NoSuchMethodException {
+
+		Method method = MyModel.class.getMethod("getTitle", Locale.class);
+
+		BiFunction<MyModel, Locale, String> biFunction = getMethodBiFunction(
+			method);
+
+		assertThat(biFunction.apply(_myModel, Locale.US), is("Apio en_US"));
+	}
+
+	@Test
+	public void testGetMethodFunctionCallsMethod()
+		throws NoSuchMethodException {
+
+		Method method = MyModel.class.getMethod("getNumber");
+
+		Function<MyModel, Long> function = getMethodFunction(method);
+
+		assertThat(function.apply(_myModel), is(42L));
+	}
+
+	@Test
+	public void testGetMethodFunctionReturnsNullIfMethodFails()
+		throws NoSuchMethodException {
+
+		Method method = MyModel.class.getMethod("getName");
+
+		Function<MyModel, String> function = getMethodFunction(method);
+
+		assertNull(function.apply(_myModel));
+	}
+
+	@Test
+	public void testGetMethodFunctionReturnsNullWithWrongModel()
+		throws NoSuchMethodException {
+
+		Method method = MyModel.class.getMethod("getNumber");
+
+		Function<Object, Long> function = getMethodFunction(method);
+
+		assertNull(function.apply("Apio"));
+	}
+
+	public interface MyModel {
+
+		public String getName();
+
+		public long getNumber();
+
+		public String getTitle(Locale locale);
+
+	}
+
+	private final MyModel _myModel = new MyModel() {
+
+		@Override
+		public String getName() {
+			throw new IllegalStateException();
+		}
+
+		@Override
+		public long getNumber() {
+			return 42L;
+		}
+
+		@Override
+		public String getTitle(Locale locale) {
+			return "Apio " + locale;
+		}
+
+	};
+
+}
\ No newline at end of file
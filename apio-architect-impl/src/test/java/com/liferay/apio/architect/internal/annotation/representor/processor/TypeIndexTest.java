@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.representor.processor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.Vocabulary.Field;
+import com.liferay.apio.architect.annotation.Vocabulary.Type;
+import com.liferay.apio.architect.identifier.Identifier;
+
+import java.lang.reflect.Method;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class TypeIndexTest {
+
+	@Test
+	public void testOfReadsIndexedMethods() throws NoSuchMethodException {
+		Optional<TypeIndex> optional = TypeIndex.of(IndexedType.class);
+
+		assertThat(optional.isPresent(), is(true));
+
+		TypeIndex typeIndex = optional.get();
+
+		assertThat(
+			typeIndex.getIdMethod(), is(IndexedType.class.getMethod("getId")));
+
+		List<Method> methods = typeIndex.getFieldMethods();
+
+		assertThat(
+			methods,
+			contains(
+				IndexedType.class.getMethod("getName"),
+				IndexedType.class.getMethod("getTitle", Locale.class)));
+	}
+
+	@Test
+	public void testOfWithoutIndexIsEmpty() {
+		Optional<TypeIndex> optional = TypeIndex.of(NotIndexedType.class);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testOfWithStaleIndexIsEmpty() {
+		Optional<TypeIndex> optional = TypeIndex.of(StaleType.class);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
+	@Test
+	public void testProcessTypeUsesIndexedMethods() {
+		ParsedType parsedType = TypeProcessor.processType(IndexedType.class);
+
+		List<?> fieldDataList = parsedType.getFieldDataList();
+
+		assertThat(fieldDataList.size(), is(2));
+
+		FieldData<?> fieldData = (FieldData<?>)fieldDataList.get(0);
+
+		assertThat(fieldData.getFieldName(), is("name"));
+	}
+
+	@Type("Indexed")
+	public interface IndexedType extends Identifier<Long> {
+
+		@Id
+		public long getId();
+
+		@Field("name")
+		public String getName();
+
+		@Field("title")
+		public String getTitle(Locale locale);
+
+	}
+
+	@Type("NotIndexed")
+	public interface NotIndexedType extends Identifier<Long> {
+
+		@Field("name")
+		public String getName();
+
+	}
+
+	@Type("Stale")
+	public interface StaleType extends Identifier<Long> {
+
+		@Field("name")
+		public String getName();
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Compares the two ways of calling an action method with an array of
+ * arguments: {@link Method#invoke(Object, Object...)}, which {@link
+ * ActionRouterUtil#execute} uses, and a {@link MethodHandle} bound to the
+ * router and spread over the array.
+ *
+ * <p>
+ * This isn't a test. Run it with {@code java ActionRouterUtilBenchmark}. On
+ * JDK 17, {@code Method.invoke} took 1.4 to 2.6 ns per call and the bound
+ * handle 1.9 to 3.9 ns per call. After a few calls, {@code Method.invoke}
+ * runs generated bytecode, while a handle that isn't a constant can't be
+ * inlined. A {@code LambdaMetafactory} binding, which would be inlined,
+ * can't be used either: its class is defined in this bundle's class loader,
+ * which can't see the routers' classes. Action methods are therefore still
+ * called with {@code Method.invoke}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class ActionRouterUtilBenchmark {
+
+	public static void main(String[] args) throws Throwable {
+		Router router = new Router();
+
+		Method method = Router.class.getMethod(
+			"retrieve", String.class, Long.class);
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		MethodHandle methodHandle = lookup.unreflect(
+			method
+		).bindTo(
+			router
+		).asSpreader(
+			Object[].class, method.getParameterCount()
+		).asType(
+			MethodType.methodType(Object.class, Object[].class)
+		);
+
+		Object[] arguments = {"Apio", 42L};
+
+		for (int i = 0; i < _ROUNDS; i++) {
+			long start = System.nanoTime();
+
+			for (int j = 0; j < _CALLS; j++) {
+				_sink = method.invoke(router, arguments);
+			}
+
+			_print("Method.invoke", start);
+
+			start = System.nanoTime();
+
+			for (int j = 0; j < _CALLS; j++) {
+				_sink = (Object)methodHandle.invokeExact(arguments);
+			}
+
+			_print("MethodHandle.invokeExact", start);
+		}
+	}
+
+	public static class Router {
+
+		public String retrieve(String name, Long id) {
+			return name;
+		}
+
+	}
+
+	private static void _print(String name, long start) {
+		double nanosPerCall = (System.nanoTime() - start) / (double)_CALLS;
+
+		System.out.println(
+			String.format("%-25s %6.2f ns/call", name, nanosPerCall));
+	}
+
+	private static final int _CALLS = 20000000;
+
+	private static final int _ROUNDS = 5;
+
+	private static Object _sink;
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BinaryFileUtilTest {
+
+	@Before
+	public void setUp() throws IOException {
+		File file = temporaryFolder.newFile();
+
+		Files.write(file.toPath(), _BYTES);
+
+		_fileBinaryFile = new BinaryFile(
+			() -> FileChannel.open(file.toPath(), READ), (long)_BYTES.length,
+			"text/plain", "file.txt");
+
+		_streamBinaryFile = new BinaryFile(
+			new ByteArrayInputStream(_BYTES), (long)_BYTES.length,
+			"text/plain");
+	}
+
+	@Test
+	public void testTransferToWithFileChannelTransfersRange()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		BinaryFileUtil.transferTo(
+			_fileBinaryFile, new ByteRange(6, 10), byteArrayOutputStream);
+
+		assertThat(byteArrayOutputStream.toString("UTF-8"), is("Apio "));
+	}
+
+	@Test
+	public void testTransferToWithFileChannelTransfersWholeFile()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		BinaryFileUtil.transferTo(_fileBinaryFile, byteArrayOutputStream);
+
+		assertThat(byteArrayOutputStream.toByteArray(), is(_BYTES));
+	}
+
+	@Test
+	public void testTransferToWithInputStreamTransfersRange()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		BinaryFileUtil.transferTo(
+			_streamBinaryFile, new ByteRange(11, 19), byteArrayOutputStream);
+
+		assertThat(byteArrayOutputStream.toString("UTF-8"), is("Architect"));
+	}
+
+	@Test
+	public void testTransferToWithInputStreamTransfersWholeFile()
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		BinaryFileUtil.transferTo(_streamBinaryFile, byteArrayOutputStream);
+
+		assertThat(byteArrayOutputStream.toByteArray(), is(_BYTES));
+	}
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static final byte[] _BYTES = "Hello Apio Architect".getBytes(
+		UTF_8);
+
+	private BinaryFile _fileBinaryFile;
+	private BinaryFile _streamBinaryFile;
+
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ByteRangeTest {
+
+	@Test
+	public void testParseIgnoresMalformedHeaders() {
+		assertThat(ByteRange.parse(null, 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("items=0-10", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=10", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=-", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=20-10", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=a-10", 100), is(emptyOptional()));
+	}
+
+	@Test
+	public void testParseReturnsEmptyListIfNoRangeIsSatisfiable() {
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			"bytes=100-200, -0", 100);
+
+		List<ByteRange> byteRanges = optional.get();
+
+		assertThat(byteRanges.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testParseReturnsSatisfiableRanges() {
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			"bytes=0-9, 90-, -5, 50-500", 100);
+
+		List<ByteRange> byteRanges = optional.get();
+
+		assertThat(byteRanges.size(), is(4));
+
+		_assertByteRange(byteRanges.get(0), 0, 9);
+		_assertByteRange(byteRanges.get(1), 90, 99);
+		_assertByteRange(byteRanges.get(2), 95, 99);
+		_assertByteRange(byteRanges.get(3), 50, 99);
+
+		ByteRange byteRange = byteRanges.get(0);
+
+		assertThat(byteRange.getContentRange(100), is("bytes 0-9/100"));
+		assertThat(byteRange.getLength(), is(10L));
+	}
+
+	private static void _assertByteRange(
+		ByteRange byteRange, long start, long end) {
+
+		assertThat(byteRange.getStart(), is(start));
+		assertThat(byteRange.getEnd(), is(end));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding.GZIP;
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding.IDENTITY;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ContentEncodingOutputStreamTest {
+
+	@Before
+	public void setUp() {
+		_byteArrayOutputStream = new ByteArrayOutputStream();
+		_headers = new MultivaluedHashMap<>();
+
+		_headers.putSingle(CONTENT_TYPE, "application/ld+json");
+	}
+
+	@Test
+	public void testBinaryEntityIsNotEncoded() throws IOException {
+		_headers.putSingle(CONTENT_TYPE, "image/png");
+
+		ContentEncodingOutputStream contentEncodingOutputStream =
+			new ContentEncodingOutputStream(
+				_byteArrayOutputStream, _headers, GZIP, 0);
+
+		contentEncodingOutputStream.write(_BYTES);
+
+		contentEncodingOutputStream.finish();
+
+		assertThat(_headers.containsKey(CONTENT_ENCODING), is(false));
+		assertThat(_byteArrayOutputStream.toByteArray(), is(_BYTES));
+	}
+
+	@Test
+	public void testEntityBiggerThanMinSizeIsEncoded() throws IOException {
+		_headers.putSingle(CONTENT_LENGTH, _BYTES.length);
+
+		ContentEncodingOutputStream contentEncodingOutputStream =
+			new ContentEncodingOutputStream(
+				_byteArrayOutputStream, _headers, GZIP, 10);
+
+		for (byte b : _BYTES) {
+			contentEncodingOutputStream.write(b);
+		}
+
+		contentEncodingOutputStream.finish();
+
+		assertThat(_headers.getFirst(CONTENT_ENCODING), is("gzip"));
+		assertThat(_headers.containsKey(CONTENT_LENGTH), is(false));
+
+		InputStream inputStream = new GZIPInputStream(
+			new ByteArrayInputStream(_byteArrayOutputStream.toByteArray()));
+
+		assertThat(_read(inputStream), is(_BYTES));
+	}
+
+	@Test
+	public void testEntityBiggerThanMinSizeHasItsOwnEntityTag()
+		throws IOException {
+
+		_headers.putSingle(ETAG, new EntityTag("apio"));
+
+		ContentEncodingOutputStream contentEncodingOutputStream =
+			new ContentEncodingOutputStream(
+				_byteArrayOutputStream, _headers, GZIP, 10);
+
+		contentEncodingOutputStream.write(_BYTES);
+
+		contentEncodingOutputStream.finish();
+
+		assertThat(_headers.getFirst(ETAG), is(new EntityTag("apio-gzip")));
+	}
+
+	@Test
+	public void testEntitySmallerThanMinSizeIsNotEncoded() throws IOException {
+		_headers.putSingle(ETAG, new EntityTag("apio"));
+
+		ContentEncodingOutputStream contentEncodingOutputStream =
+			new ContentEncodingOutputStream(
+				_byteArrayOutputStream, _headers, GZIP, 1024);
+
+		contentEncodingOutputStream.write(_BYTES);
+
+		contentEncodingOutputStream.finish();
+
+		assertThat(_headers.containsKey(CONTENT_ENCODING), is(false));
+		assertThat(_headers.getFirst(ETAG), is(new EntityTag("apio")));
+		assertThat(_byteArrayOutputStream.toByteArray(), is(_BYTES));
+	}
+
+	@Test
+	public void testWriteEncodedSetsContentEncoding() throws IOException {
+		_headers.putSingle(ETAG, new EntityTag("apio"));
+
+		ContentEncodingOutputStream contentEncodingOutputStream =
+			new ContentEncodingOutputStream(
+				_byteArrayOutputStream, _headers, GZIP, 10);
+
+		ContentEncoding contentEncoding =
+			contentEncodingOutputStream.getContentEncoding(_BYTES.length);
+
+		assertThat(contentEncoding, is(GZIP));
+		assertThat(
+			contentEncodingOutputStream.getContentEncoding(5), is(IDENTITY));
+
+		byte[] bytes = GZIP.encode(_BYTES);
+
+		contentEncodingOutputStream.writeEncoded(contentEncoding, bytes);
+
+		contentEncodingOutputStream.finish();
+
+		assertThat(_headers.getFirst(CONTENT_ENCODING), is("gzip"));
+		assertThat(_headers.getFirst(ETAG), is(new EntityTag("apio-gzip")));
+		assertThat(_byteArrayOutputStream.toByteArray(), is(bytes));
+	}
+
+	private static byte[] _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[1024];
+
+		int length;
+
+		while ((length = inputStream.read(buffer)) != -1) {
+			byteArrayOutputStream.write(buffer, 0, length);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static final byte[] _BYTES =
+		"{\"name\":\"Apio\",\"type\":\"Apio\"}".getBytes(UTF_8);
+
+	private ByteArrayOutputStream _byteArrayOutputStream;
+	private MultivaluedMap<String, Object> _headers;
+
+}
\ No newline at end of file
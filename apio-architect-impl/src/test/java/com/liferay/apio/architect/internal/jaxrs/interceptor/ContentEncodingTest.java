@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.interceptor;
+
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding.DEFLATE;
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding.GZIP;
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding.IDENTITY;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ContentEncodingTest {
+
+	@Test
+	public void testEncodeWithDeflateCanBeInflated() throws IOException {
+		byte[] bytes = DEFLATE.encode(_BYTES);
+
+		InputStream inputStream = new InflaterInputStream(
+			new ByteArrayInputStream(bytes));
+
+		assertThat(_read(inputStream), is(_BYTES));
+	}
+
+	@Test
+	public void testEncodeWithGzipCanBeUnzipped() throws IOException {
+		byte[] bytes = GZIP.encode(_BYTES);
+
+		InputStream inputStream = new GZIPInputStream(
+			new ByteArrayInputStream(bytes));
+
+		assertThat(_read(inputStream), is(_BYTES));
+	}
+
+	@Test
+	public void testEncodeWithIdentityReturnsSameBytes() {
+		assertThat(IDENTITY.encode(_BYTES), is(_BYTES));
+	}
+
+	@Test
+	public void testGetEntityTagAddsTheCodingToStrongTags() {
+		EntityTag entityTag = new EntityTag("apio");
+
+		assertThat(
+			DEFLATE.getEntityTag(entityTag), is(new EntityTag("apio-deflate")));
+		assertThat(
+			GZIP.getEntityTag(entityTag), is(new EntityTag("apio-gzip")));
+		assertThat(IDENTITY.getEntityTag(entityTag), is(entityTag));
+
+		EntityTag weakEntityTag = new EntityTag("apio", true);
+
+		assertThat(GZIP.getEntityTag(weakEntityTag), is(weakEntityTag));
+	}
+
+	@Test
+	public void testNegotiateHonorsQualities() {
+		assertThat(
+			ContentEncoding.negotiate("gzip;q=0.5, deflate"), is(DEFLATE));
+		assertThat(
+			ContentEncoding.negotiate("gzip;q=0, deflate;q=0"), is(IDENTITY));
+		assertThat(
+			ContentEncoding.negotiate("*;q=0.1, deflate;q=0"), is(GZIP));
+	}
+
+	@Test
+	public void testNegotiatePrefersGzip() {
+		assertThat(ContentEncoding.negotiate("deflate, gzip"), is(GZIP));
+		assertThat(ContentEncoding.negotiate("*"), is(GZIP));
+		assertThat(ContentEncoding.negotiate("x-gzip"), is(GZIP));
+	}
+
+	@Test
+	public void testNegotiateWithoutSupportedCodingsReturnsIdentity() {
+		assertThat(ContentEncoding.negotiate(null), is(IDENTITY));
+		assertThat(ContentEncoding.negotiate(""), is(IDENTITY));
+		assertThat(ContentEncoding.negotiate("br, identity"), is(IDENTITY));
+	}
+
+	private static byte[] _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] buffer = new byte[1024];
+
+		int length;
+
+		while ((length = inputStream.read(buffer)) != -1) {
+			byteArrayOutputStream.write(buffer, 0, length);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static final byte[] _BYTES =
+		"{\"name\":\"Apio\",\"type\":\"Apio\"}".getBytes(UTF_8);
+
+}
\ No newline at end of file
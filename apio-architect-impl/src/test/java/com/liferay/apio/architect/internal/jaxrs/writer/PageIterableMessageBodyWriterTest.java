@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.pagination.PageIterable;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
+import com.liferay.apio.architect.pagination.Page;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.Request;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author Alejandro Hernández
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageIterableMessageBodyWriterTest {
+
+	@Test
+	public void testIsNotWriteableIfNegotiationSelectsAnotherMediaType() {
+		_negotiate(
+			"application/ld+json, application/x-ndjson;q=0.1",
+			"application/ld+json");
+
+		assertThat(_isWriteable(PageIterable.class), is(false));
+	}
+
+	@Test
+	public void testIsNotWriteableIfTheElementIsNotAPageIterable() {
+		assertThat(_isWriteable(Page.class), is(false));
+	}
+
+	@Test
+	public void testIsWriteableIfNegotiationSelectsNDJSON() {
+		_negotiate(
+			"application/x-ndjson, application/ld+json;q=0.1",
+			"application/x-ndjson");
+
+		assertThat(_isWriteable(PageIterable.class), is(true));
+	}
+
+	private boolean _isWriteable(Class<?> clazz) {
+		return _pageIterableMessageBodyWriter.isWriteable(
+			clazz, clazz, null, null);
+	}
+
+	private void _negotiate(String accept, String mediaType) {
+		Mockito.when(
+			_httpServletRequest.getHeader(ACCEPT)
+		).thenReturn(
+			accept
+		);
+
+		Mockito.when(
+			_singleModelMessageMapper.getMediaType()
+		).thenReturn(
+			mediaType
+		);
+
+		Mockito.when(
+			_singleModelMessageMapperManager.
+				getSingleModelMessageMapperOptional(_request, accept)
+		).thenReturn(
+			Optional.of(_singleModelMessageMapper)
+		);
+	}
+
+	@Mock
+	private HttpServletRequest _httpServletRequest;
+
+	@InjectMocks
+	private PageIterableMessageBodyWriter<Object>
+		_pageIterableMessageBodyWriter;
+
+	@Mock
+	private Request _request;
+
+	@Mock
+	private SingleModelMessageMapper<Object> _singleModelMessageMapper;
+
+	@Mock
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
+
+}
\ No newline at end of file
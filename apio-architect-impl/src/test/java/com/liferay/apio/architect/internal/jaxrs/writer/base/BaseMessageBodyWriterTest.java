@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer.base;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.ServerURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BaseMessageBodyWriterTest {
+
+	@After
+	public void tearDown() {
+		ManagerCache.INSTANCE.clear();
+	}
+
+	@Test
+	public void testCacheableWritersWithTheSameMediaTypeDoNotShareDocuments()
+		throws IOException {
+
+		MultivaluedMap<String, Object> documentationHeaders =
+			new MultivaluedHashMap<>();
+
+		String documentation = _writeTo(
+			new DocumentationMessageBodyWriter(),
+			documentationHeaders);
+
+		MultivaluedMap<String, Object> entryPointHeaders =
+			new MultivaluedHashMap<>();
+
+		String entryPoint = _writeTo(
+			new EntryPointMessageBodyWriter(),
+			entryPointHeaders);
+
+		assertThat(documentation, containsString("documentation"));
+		assertThat(entryPoint, containsString("entryPoint"));
+		assertThat(
+			entryPointHeaders.getFirst(ETAG),
+			is(not(documentationHeaders.getFirst(ETAG))));
+	}
+
+	private String _writeTo(
+			CacheableMessageBodyWriter cacheableMessageBodyWriter,
+			MultivaluedMap<String, Object> httpHeaders)
+		throws IOException {
+
+		ProviderManager providerManager = Mockito.mock(ProviderManager.class);
+
+		Mockito.when(
+			providerManager.provideMandatory(
+				Mockito.nullable(HttpServletRequest.class),
+				Mockito.eq(ServerURL.class))
+		).thenReturn(
+			() -> "http://localhost"
+		);
+
+		Mockito.when(
+			providerManager.provideMandatory(
+				Mockito.nullable(HttpServletRequest.class),
+				Mockito.eq(ApplicationURL.class))
+		).thenReturn(
+			() -> "http://localhost/api"
+		);
+
+		cacheableMessageBodyWriter.providerManager = providerManager;
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		cacheableMessageBodyWriter.writeTo(
+			"Apio", String.class, String.class, null, null, httpHeaders,
+			byteArrayOutputStream);
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private abstract static class CacheableMessageBodyWriter
+		extends BaseMessageBodyWriter<String, MessageMapper<String>> {
+
+		public CacheableMessageBodyWriter(String fieldName) {
+			_fieldName = fieldName;
+		}
+
+		@Override
+		public boolean canWrite(Class<?> clazz) {
+			return String.class.isAssignableFrom(clazz);
+		}
+
+		@Override
+		public Optional<MessageMapper<String>> getMessageMapperOptional(
+			Request request) {
+
+			return Optional.of(() -> "application/ld+json");
+		}
+
+		@Override
+		protected boolean isCacheable() {
+			return true;
+		}
+
+		@Override
+		protected void write(
+				String string, MessageMapper<String> messageMapper,
+				RequestInfo requestInfo, JsonGenerator jsonGenerator)
+			throws IOException {
+
+			jsonGenerator.writeStartObject();
+
+			jsonGenerator.writeStringField(_fieldName, string);
+
+			jsonGenerator.writeEndObject();
+		}
+
+		private final String _fieldName;
+
+	}
+
+	private static class DocumentationMessageBodyWriter
+		extends CacheableMessageBodyWriter {
+
+		public DocumentationMessageBodyWriter() {
+			super("documentation");
+		}
+
+	}
+
+	private static class EntryPointMessageBodyWriter
+		extends CacheableMessageBodyWriter {
+
+		public EntryPointMessageBodyWriter() {
+			super("entryPoint");
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -16,7 +16,14 @@ package com.liferay.apio.architect.internal.message.json;
 
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.json.JSONException;
 
@@ -424,6 +431,183 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingWriteToWithIteratorMergesFragmentsOfOtherShapes()
+		throws IOException, JSONException {
+
+		JSONObjectBuilder firstJSONObjectBuilder = new JSONObjectBuilder();
+
+		firstJSONObjectBuilder.field(
+			"member"
+		).arrayValue(
+		).addString(
+			"first"
+		);
+
+		firstJSONObjectBuilder.field(
+			"total"
+		).numberValue(
+			1
+		);
+
+		JSONObjectBuilder secondJSONObjectBuilder = new JSONObjectBuilder();
+
+		secondJSONObjectBuilder.field(
+			"member"
+		).arrayValue(
+		).addString(
+			"second"
+		);
+
+		String expected = "{'member': ['first', 'second'], 'total': 1}";
+
+		assertEquals(
+			expected,
+			_writeTo(firstJSONObjectBuilder, secondJSONObjectBuilder), true);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testInvokingWriteToWithIteratorThrowsIfAFragmentIsLost()
+		throws IOException {
+
+		_jsonObjectBuilder.field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		JSONObjectBuilder firstJSONObjectBuilder = new JSONObjectBuilder();
+
+		firstJSONObjectBuilder.field(
+			"member"
+		).arrayValue(
+		).addString(
+			"first"
+		);
+
+		JSONObjectBuilder secondJSONObjectBuilder = new JSONObjectBuilder();
+
+		secondJSONObjectBuilder.field(
+			"solution"
+		).numberValue(
+			21
+		);
+
+		_writeTo(firstJSONObjectBuilder, secondJSONObjectBuilder);
+	}
+
+	@Test
+	public void testInvokingWriteToWithIteratorWritesFragmentsWithOtherPaths()
+		throws IOException, JSONException {
+
+		JSONObjectBuilder firstJSONObjectBuilder = new JSONObjectBuilder();
+
+		firstJSONObjectBuilder.nestedField(
+			"_embedded", "items"
+		).arrayValue(
+		).addString(
+			"first"
+		);
+
+		JSONObjectBuilder secondJSONObjectBuilder = new JSONObjectBuilder();
+
+		secondJSONObjectBuilder.nestedField(
+			"_embedded", "others"
+		).arrayValue(
+		).addString(
+			"second"
+		);
+
+		JSONObjectBuilder thirdJSONObjectBuilder = new JSONObjectBuilder();
+
+		thirdJSONObjectBuilder.nestedField(
+			"_embedded", "items"
+		).arrayValue(
+		).addString(
+			"third"
+		);
+
+		String expected =
+			"{'_embedded': {'items': ['first', 'third'], 'others': " +
+				"['second']}}";
+
+		assertEquals(
+			expected,
+			_writeTo(
+				firstJSONObjectBuilder, secondJSONObjectBuilder,
+				thirdJSONObjectBuilder),
+			true);
+	}
+
+	@Test
+	public void testInvokingWriteToWithIteratorStreamsTheFragments()
+		throws IOException, JSONException {
+
+		_jsonObjectBuilder.field(
+			"solution"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.nestedField(
+			"_embedded", "items"
+		).arrayValue(
+		).addString(
+			"first"
+		);
+
+		Stream<String> stream = Stream.of("second", "third");
+
+		Iterator<JSONObjectBuilder> iterator = stream.map(
+			string -> {
+				JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+				jsonObjectBuilder.nestedField(
+					"_embedded", "items"
+				).arrayValue(
+				).addString(
+					string
+				);
+
+				return jsonObjectBuilder;
+			}
+		).iterator();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (JsonGenerator jsonGenerator =
+				JSONObjectBuilder.createJsonGenerator(byteArrayOutputStream)) {
+
+			_jsonObjectBuilder.writeTo(jsonGenerator, iterator);
+		}
+
+		String expected =
+			"{'solution': 42, '_embedded': {'items': ['first', 'second', " +
+				"'third']}}";
+
+		assertEquals(expected, byteArrayOutputStream.toString("UTF-8"), true);
+	}
+
+	private String _writeTo(JSONObjectBuilder... jsonObjectBuilders)
+		throws IOException {
+
+		Iterator<JSONObjectBuilder> iterator = Arrays.asList(
+			jsonObjectBuilders
+		).iterator();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (JsonGenerator jsonGenerator =
+				JSONObjectBuilder.createJsonGenerator(byteArrayOutputStream)) {
+
+			_jsonObjectBuilder.writeTo(jsonGenerator, iterator);
+		}
+
+		return byteArrayOutputStream.toString("UTF-8");
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder =
 		new JSONObjectBuilder();
 
@@ -16,11 +16,16 @@ package com.liferay.apio.architect.internal.message.json.ld;
 
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionId;
 import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getActionTypes;
+import static com.liferay.apio.architect.internal.message.json.ld.JSONLDMessageMapperUtil.getContextJSONObjectBuilder;
+import static com.liferay.apio.architect.internal.util.representor.MockRepresentorCreator.createFirstEmbeddedModelRepresentor;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.resource.Resource.Nested;
 import com.liferay.apio.architect.resource.Resource.Paged;
@@ -84,4 +89,19 @@ public class JSONLDMessageMapperUtilTest {
 		assertThat(retrieveTypes, contains("Operation"));
 	}
 
+	@Test
+	public void testGetContextJSONObjectBuilder() throws Exception {
+		JSONObjectBuilder jsonObjectBuilder = getContextJSONObjectBuilder(
+			createFirstEmbeddedModelRepresentor());
+
+		String expected =
+			"{\"@context\": [{\"@vocab\": \"http://schema.org/\"}, " +
+				"\"https://www.w3.org/ns/hydra/core#\", {\"embedded\": " +
+				"{\"@type\": \"@id\"}, \"linked\": {\"@type\": " +
+				"\"@id\"}, \"relatedCollection\": {\"@type\": " +
+				"\"@id\"}}]}";
+
+		assertEquals(expected, jsonObjectBuilder.build(), false);
+	}
+
 }
\ No newline at end of file
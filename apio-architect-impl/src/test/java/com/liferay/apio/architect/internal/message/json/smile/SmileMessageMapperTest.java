@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json.smile;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import com.liferay.apio.architect.error.APIError;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDErrorMessageMapper;
+import com.liferay.apio.architect.internal.writer.ErrorWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.json.JSONException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class SmileMessageMapperTest {
+
+	@Test
+	public void testSmileErrorMessageMapperKeepsTheJSONLDStructure()
+		throws IOException, JSONException {
+
+		SmileErrorMessageMapper smileErrorMessageMapper =
+			new SmileErrorMessageMapper();
+
+		assertThat(
+			smileErrorMessageMapper.getMediaType(),
+			is("application/x-jackson-smile"));
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (JsonGenerator jsonGenerator =
+				smileErrorMessageMapper.createJsonGenerator(
+					byteArrayOutputStream)) {
+
+			ErrorWriter.writeError(
+				smileErrorMessageMapper, _API_ERROR, jsonGenerator);
+		}
+
+		ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+
+		JsonNode jsonNode = objectMapper.readTree(
+			byteArrayOutputStream.toByteArray());
+
+		String expected = ErrorWriter.writeError(
+			new JSONLDErrorMessageMapper(), _API_ERROR);
+
+		assertEquals(expected, jsonNode.toString(), true);
+	}
+
+	private static final APIError _API_ERROR = new APIError(
+		new IllegalArgumentException(), "A title", "A description", "A type",
+		404);
+
+}
\ No newline at end of file
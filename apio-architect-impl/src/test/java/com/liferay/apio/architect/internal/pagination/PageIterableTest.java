@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.pagination;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageIterableTest {
+
+	@Test
+	public void testIteratorFetchesEveryPageInOrder() {
+		List<Integer> pageNumbers = new ArrayList<>();
+
+		PageIterable<String> pageIterable = new PageIterable<>(
+			_getPage(1),
+			pageNumber -> {
+				pageNumbers.add(pageNumber);
+
+				return _getPage(pageNumber);
+			});
+
+		List<String> items = new ArrayList<>();
+
+		for (Page<String> page : pageIterable) {
+			items.addAll(page.getItems());
+		}
+
+		assertThat(items, contains("1", "2", "3", "4", "5"));
+		assertThat(pageNumbers, contains(2, 3));
+	}
+
+	@Test
+	public void testIteratorFetchesNextPageLazily() {
+		List<Integer> pageNumbers = new ArrayList<>();
+
+		PageIterable<String> pageIterable = new PageIterable<>(
+			_getPage(1),
+			pageNumber -> {
+				pageNumbers.add(pageNumber);
+
+				return _getPage(pageNumber);
+			});
+
+		Iterator<Page<String>> iterator = pageIterable.iterator();
+
+		Page<String> page = iterator.next();
+
+		assertThat(page.getPageNumber(), is(1));
+		assertThat(pageNumbers.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testIteratorStopsWhenPageIsEmpty() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("1", "2"), 5);
+
+		Page<String> page = new PageImpl<>(
+			Paged.of("name"), pageItems, new PaginationImpl(2, 1));
+
+		PageIterable<String> pageIterable = new PageIterable<>(
+			page,
+			pageNumber -> new PageImpl<>(
+				Paged.of("name"), new PageItems<>(new ArrayList<>(), 5),
+				new PaginationImpl(2, pageNumber)));
+
+		Iterator<Page<String>> iterator = pageIterable.iterator();
+
+		assertThat(iterator.next(), is(page));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test
+	public void testIsItsFirstPage() {
+		Page<String> page = _getPage(1);
+
+		PageIterable<String> pageIterable = new PageIterable<>(
+			page, this::_getPage);
+
+		assertThat(pageIterable.getItems(), is(page.getItems()));
+		assertThat(pageIterable.getItemsPerPage(), is(2));
+		assertThat(pageIterable.getLastPageNumber(), is(3));
+		assertThat(pageIterable.getPageNumber(), is(1));
+		assertThat(pageIterable.getResource(), is(page.getResource()));
+		assertThat(pageIterable.getTotalCount(), is(5));
+		assertThat(pageIterable.hasNext(), is(true));
+		assertThat(pageIterable.hasPrevious(), is(false));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testNextThrowsExceptionWhenThereAreNoMorePages() {
+		PageIterable<String> pageIterable = new PageIterable<>(
+			_getPage(3), this::_getPage);
+
+		Iterator<Page<String>> iterator = pageIterable.iterator();
+
+		iterator.next();
+
+		iterator.next();
+	}
+
+	private Page<String> _getPage(int pageNumber) {
+		List<String> items = _ITEMS.subList(
+			(pageNumber - 1) * 2, Math.min(pageNumber * 2, _ITEMS.size()));
+
+		PageItems<String> pageItems = new PageItems<>(items, _ITEMS.size());
+
+		return new PageImpl<>(
+			Paged.of("name"), pageItems, new PaginationImpl(2, pageNumber));
+	}
+
+	private static final List<String> _ITEMS = Arrays.asList(
+		"1", "2", "3", "4", "5");
+
+}
\ No newline at end of file
@@ -58,6 +58,15 @@ public class EmbeddedProviderTest {
 		assertThat(predicate.test("embedded.other"), is(false));
 	}
 
+	@Test
+	public void testEmbeddedProviderReturnsFalseForPartialPathElements() {
+		Predicate<String> predicate = _getPredicate("embedded.inner");
+
+		assertThat(predicate.test("embed"), is(false));
+		assertThat(predicate.test("embedded.inn"), is(false));
+		assertThat(predicate.test("embedded.inner.other"), is(false));
+	}
+
 	private Predicate<String> _getPredicate(String embedded) {
 		EmbeddedProvider embeddedProvider = new EmbeddedProvider();
 
@@ -15,11 +15,14 @@
 package com.liferay.apio.architect.internal.provider;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.liferay.apio.architect.internal.response.control.Fields;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -61,22 +64,61 @@ public class FieldsProviderTest {
 		assertThat(predicate.test("givenName"), is(true));
 	}
 
-	private Predicate<String> _getPredicate(String... personFields) {
+	@Test
+	public void testFieldsProviderReturnsFieldsOfEveryType() {
+		Map<String, String[]> parameterMap = new HashMap<>();
+
+		parameterMap.put("fields[Person]", new String[] {"givenName"});
+		parameterMap.put("fields[Thing]", new String[] {"name"});
+
+		Fields fields = _getFields(parameterMap);
+
+		Predicate<String> predicate = fields.apply(
+			Arrays.asList("Person", "Thing"));
+
+		assertThat(predicate.test("alternateName"), is(false));
+		assertThat(predicate.test("givenName"), is(true));
+		assertThat(predicate.test("name"), is(true));
+
+		Predicate<String> thingPredicate = fields.apply(
+			Collections.singletonList("Thing"));
+
+		assertThat(thingPredicate.test("givenName"), is(false));
+		assertThat(thingPredicate.test("name"), is(true));
+	}
+
+	@Test
+	public void testFieldsProviderReusesPredicateForSameTypes() {
+		Fields fields = _getFields(
+			Collections.singletonMap(
+				"fields[Person]", new String[] {"givenName"}));
+
+		Predicate<String> predicate = fields.apply(
+			Collections.singletonList("Person"));
+
+		assertThat(
+			fields.apply(Collections.singletonList("Person")),
+			is(sameInstance(predicate)));
+	}
+
+	private Fields _getFields(Map<String, String[]> parameterMap) {
 		FieldsProvider fieldsProvider = new FieldsProvider();
 
 		HttpServletRequest httpServletRequest = Mockito.mock(
 			HttpServletRequest.class);
 
-		Map<String, String[]> parameterMap = Collections.singletonMap(
-			"fields[Person]", personFields);
-
 		Mockito.when(
 			httpServletRequest.getParameterMap()
 		).thenReturn(
 			parameterMap
 		);
 
-		Fields fields = fieldsProvider.createContext(httpServletRequest);
+		return fieldsProvider.createContext(httpServletRequest);
+	}
+
+	private Predicate<String> _getPredicate(String... personFields) {
+		Fields fields = _getFields(
+			Collections.singletonMap("fields[Person]", personFields));
 
 		return fields.apply(Collections.singletonList("Person"));
 	}
@@ -17,16 +17,21 @@ package com.liferay.apio.architect.internal.representor;
 import static com.liferay.apio.architect.internal.representor.RepresentorTestUtil.testFields;
 import static com.liferay.apio.architect.internal.representor.RepresentorTestUtil.testRelatedModel;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
 import static java.util.Arrays.asList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.alias.representor.FieldFunction;
 import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.related.RelatedCollectionImpl;
+import com.liferay.apio.architect.internal.representor.SerializationPlan.FieldPlan;
 import com.liferay.apio.architect.internal.representor.dummy.Dummy;
 import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
@@ -136,6 +141,8 @@ public class RepresentorTest {
 			"stringList1", dummy -> dummy.stringList1
 		).addStringList(
 			"stringList2", dummy -> dummy.stringList2
+		).version(
+			dummy -> dummy.date1
 		).build();
 	}
 
@@ -266,6 +273,40 @@ public class RepresentorTest {
 			4);
 	}
 
+	@Test
+	public void testSerializationPlan() {
+		SerializationPlan<Dummy> serializationPlan = SerializationPlan.of(
+			_representor);
+
+		assertThat(
+			SerializationPlan.of(_representor),
+			is(sameInstance(serializationPlan)));
+
+		FieldPlan<Dummy, String> fieldPlan =
+			serializationPlan.getStringFieldPlan();
+
+		assertThat(fieldPlan.size(), is(5));
+
+		List<String> keys = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+
+		for (int i = 0; i < fieldPlan.size(); i++) {
+			FieldFunction<Dummy, String> fieldFunction =
+				fieldPlan.getFieldFunction(i);
+
+			keys.add(fieldPlan.getKey(i));
+			values.add(fieldFunction.apply(_dummy));
+		}
+
+		assertThat(
+			keys, contains("date1", "date2", "nullDate", "string1", "string2"));
+		assertThat(
+			values,
+			contains(
+				"2016-06-15T09:00Z", "2017-04-03T18:36Z", null, "String 1",
+				"String 2"));
+	}
+
 	@Test
 	public void testTypes() {
 		String primaryType = _representor.getPrimaryType();
@@ -277,6 +318,13 @@ public class RepresentorTest {
 		assertThat(types, contains("Type 1", "Type 2", "Type 3"));
 	}
 
+	@Test
+	public void testVersion() {
+		assertThat(
+			_representor.getVersionOptional(_dummy),
+			is(optionalWithValue(is("1465981200000"))));
+	}
+
 	private List<Class> _classes;
 	private final Dummy _dummy = new Dummy(23);
 	private List<String> _keys;
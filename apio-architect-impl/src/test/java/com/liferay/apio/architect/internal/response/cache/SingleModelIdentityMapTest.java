@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.cache;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class SingleModelIdentityMapTest {
+
+	@Before
+	public void setUp() {
+		_singleModelIdentityMap = SingleModelIdentityMap.of(_createRequest());
+	}
+
+	@Test
+	public void testDifferentIdentifierClassesAreRetrievedSeparately() {
+		_get(FirstIdentifier.class, 1L);
+		_get(SecondIdentifier.class, 1L);
+
+		assertThat(_atomicInteger.get(), is(2));
+		assertThat(_singleModelIdentityMap.getHitCount(), is(0));
+		assertThat(_singleModelIdentityMap.getSize(), is(2));
+	}
+
+	@Test
+	public void testMissingModelsAreOnlyRetrievedOnce() {
+		for (int i = 0; i < 3; i++) {
+			Optional<SingleModel<?>> optional = _singleModelIdentityMap.get(
+				FirstIdentifier.class, 1L,
+				() -> {
+					_atomicInteger.incrementAndGet();
+
+					return Optional.empty();
+				});
+
+			assertThat(optional, is(emptyOptional()));
+		}
+
+		assertThat(_atomicInteger.get(), is(1));
+		assertThat(_singleModelIdentityMap.getHitCount(), is(2));
+	}
+
+	@Test
+	public void testNullIdentifiersAreNeverStored() {
+		_get(FirstIdentifier.class, null);
+		_get(FirstIdentifier.class, null);
+
+		assertThat(_atomicInteger.get(), is(2));
+		assertThat(_singleModelIdentityMap.getSize(), is(0));
+	}
+
+	@Test
+	public void testRepeatedLookupsReturnTheRetrievedModel() {
+		SingleModel<?> singleModel = _get(FirstIdentifier.class, 1L);
+
+		for (int i = 0; i < 49; i++) {
+			assertThat(
+				_get(FirstIdentifier.class, 1L), is(sameInstance(singleModel)));
+		}
+
+		_get(FirstIdentifier.class, 2L);
+
+		assertThat(_atomicInteger.get(), is(2));
+		assertThat(_singleModelIdentityMap.getHitCount(), is(49));
+		assertThat(_singleModelIdentityMap.getSize(), is(2));
+	}
+
+	@Test
+	public void testTheMapIsSharedByRequest() {
+		HttpServletRequest httpServletRequest = _createRequest();
+
+		assertThat(
+			SingleModelIdentityMap.getOptional(httpServletRequest),
+			is(emptyOptional()));
+
+		SingleModelIdentityMap singleModelIdentityMap =
+			SingleModelIdentityMap.of(httpServletRequest);
+
+		assertThat(
+			SingleModelIdentityMap.of(httpServletRequest),
+			is(sameInstance(singleModelIdentityMap)));
+
+		Optional<SingleModelIdentityMap> optional =
+			SingleModelIdentityMap.getOptional(httpServletRequest);
+
+		assertThat(optional.get(), is(sameInstance(singleModelIdentityMap)));
+	}
+
+	private HttpServletRequest _createRequest() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Mockito.anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.put(
+				(String)invocation.getArguments()[0],
+				invocation.getArguments()[1])
+		).when(
+			httpServletRequest
+		).setAttribute(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		return httpServletRequest;
+	}
+
+	private SingleModel<?> _get(
+		Class<? extends Identifier<?>> identifierClass, Object identifier) {
+
+		Optional<SingleModel<?>> optional = _singleModelIdentityMap.get(
+			identifierClass, identifier,
+			() -> {
+				_atomicInteger.incrementAndGet();
+
+				return Optional.of(Mockito.mock(SingleModel.class));
+			});
+
+		return optional.get();
+	}
+
+	private interface FirstIdentifier extends Identifier<Long> {
+	}
+
+	private interface SecondIdentifier extends Identifier<Long> {
+	}
+
+	private final AtomicInteger _atomicInteger = new AtomicInteger();
+	private SingleModelIdentityMap _singleModelIdentityMap;
+
+}
\ No newline at end of file
@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.cache;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class SingleModelResponseCacheTest {
+
+	@Before
+	public void setUp() {
+		_singleModelResponseCache = new SingleModelResponseCache();
+
+		ProviderManager providerManager = Mockito.mock(ProviderManager.class);
+
+		Mockito.when(
+			providerManager.provideOptional(
+				Mockito.any(HttpServletRequest.class),
+				Mockito.eq(Credentials.class))
+		).thenAnswer(
+			invocation -> {
+				HttpServletRequest httpServletRequest =
+					(HttpServletRequest)invocation.getArguments()[0];
+
+				String remoteUser = httpServletRequest.getRemoteUser();
+
+				if (remoteUser == null) {
+					return Optional.empty();
+				}
+
+				return Optional.of(
+					(Credentials)() -> _credentialsFunction.apply(remoteUser));
+			}
+		);
+
+		_singleModelResponseCache.providerManager = providerManager;
+
+		_singleModelResponseCache.activate(
+			Collections.<String, Object>singletonMap("enabled", "true"));
+	}
+
+	@Test
+	public void testDisabledCacheNeverReturnsRenderedSingleModels() {
+		_singleModelResponseCache.activate(Collections.emptyMap());
+
+		_render(_item1, "item1");
+
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest()),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetReturnsRenderedSingleModel() {
+		_render(_item1, "item1");
+
+		Optional<RenderedSingleModel> optional = _singleModelResponseCache.get(
+			_item1, _createRequest());
+
+		RenderedSingleModel renderedSingleModel = optional.get();
+
+		assertThat(
+			new String(renderedSingleModel.getBytes(), UTF_8), is("item1"));
+		assertThat(renderedSingleModel.getMediaType(), is("application/json"));
+	}
+
+	@Test
+	public void testInvalidateEmbeddedItemRemovesRenderedSingleModel() {
+		_render(_item1, "item1", _item2);
+
+		_singleModelResponseCache.invalidate(_item2);
+
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest()),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testInvalidateItemRemovesRenderedSingleModel() {
+		_render(_item1, "item1");
+		_render(_item2, "item2");
+
+		_singleModelResponseCache.invalidate(_item1);
+
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest()),
+			is(emptyOptional()));
+
+		Optional<RenderedSingleModel> optional = _singleModelResponseCache.get(
+			_item2, _createRequest());
+
+		assertThat(optional.isPresent(), is(true));
+	}
+
+	@Test
+	public void testRenderedSingleModelIsNotSharedBetweenCredentials() {
+		_render(_item1, "item1");
+
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest("other")),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testRenderedSingleModelIsNotSharedBetweenUnequalCredentials() {
+		_credentialsFunction = UserCredentials::new;
+
+		_render(_item1, "item1");
+
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest("other")),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testRenderedSingleModelIsSharedBetweenEqualCredentials() {
+		_credentialsFunction = UserCredentials::new;
+
+		_render(_item1, "item1");
+
+		Optional<RenderedSingleModel> optional = _singleModelResponseCache.get(
+			_item1, _createRequest());
+
+		assertThat(optional.isPresent(), is(true));
+	}
+
+	@Test
+	public void testRenderDuringInvalidationIsNotCached() {
+		HttpServletRequest httpServletRequest = _createRequest();
+
+		_singleModelResponseCache.get(_item1, httpServletRequest);
+
+		_singleModelResponseCache.invalidate(_item1);
+
+		_singleModelResponseCache.put(
+			httpServletRequest, "application/json", "item1"::getBytes);
+
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest()),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testRequestWithoutCredentialsIsNotCached() {
+		HttpServletRequest httpServletRequest = _createRequest(null);
+
+		_singleModelResponseCache.get(_item1, httpServletRequest);
+
+		_singleModelResponseCache.put(
+			httpServletRequest, "application/json", "item1"::getBytes);
+
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest(null)),
+			is(emptyOptional()));
+		assertThat(
+			_singleModelResponseCache.get(_item1, _createRequest()),
+			is(emptyOptional()));
+	}
+
+	private HttpServletRequest _createRequest() {
+		return _createRequest("user");
+	}
+
+	private HttpServletRequest _createRequest(String remoteUser) {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		Mockito.when(
+			httpServletRequest.getRemoteUser()
+		).thenReturn(
+			remoteUser
+		);
+
+		Mockito.when(
+			httpServletRequest.getRequestURL()
+		).thenReturn(
+			new StringBuffer("http://localhost/p/resource")
+		);
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Mockito.anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.put(
+				(String)invocation.getArguments()[0],
+				invocation.getArguments()[1])
+		).when(
+			httpServletRequest
+		).setAttribute(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.remove(invocation.getArguments()[0])
+		).when(
+			httpServletRequest
+		).removeAttribute(
+			Mockito.anyString()
+		);
+
+		return httpServletRequest;
+	}
+
+	private void _render(Item item, String content, Item... embeddedItems) {
+		HttpServletRequest httpServletRequest = _createRequest();
+
+		_singleModelResponseCache.get(item, httpServletRequest);
+
+		for (Item embeddedItem : embeddedItems) {
+			_singleModelResponseCache.addDependency(
+				embeddedItem, httpServletRequest);
+		}
+
+		_singleModelResponseCache.put(
+			httpServletRequest, "application/json",
+			() -> content.getBytes(UTF_8));
+	}
+
+	private static class UserCredentials {
+
+		private UserCredentials(String remoteUser) {
+			_remoteUser = remoteUser;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (object == this) {
+				return true;
+			}
+
+			if (!(object instanceof UserCredentials)) {
+				return false;
+			}
+
+			UserCredentials userCredentials = (UserCredentials)object;
+
+			return Objects.equals(_remoteUser, userCredentials._remoteUser);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(_remoteUser);
+		}
+
+		@Override
+		public String toString() {
+			return "UserCredentials";
+		}
+
+		private final String _remoteUser;
+
+	}
+
+	private Function<String, Object> _credentialsFunction =
+		remoteUser -> remoteUser;
+	private final Item _item1 = Item.of("resource", Id.of(1L, "1"));
+	private final Item _item2 = Item.of("resource", Id.of(2L, "2"));
+	private SingleModelResponseCache _singleModelResponseCache;
+
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.url;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class URLTemplateTest {
+
+	@Test
+	public void testAppendToAppendsLiteralsAndValues() {
+		URLTemplate urlTemplate = URLTemplate.compile("{name}/{id}/binary");
+
+		StringBuilder stringBuilder = new StringBuilder("www.liferay.com/");
+
+		urlTemplate.appendTo(stringBuilder, "name", "id");
+
+		assertThat(
+			stringBuilder.toString(), is("www.liferay.com/name/id/binary"));
+	}
+
+	@Test
+	public void testAppendToEncodesValuesAsPathSegments() {
+		URLTemplate urlTemplate = URLTemplate.compile("{name}/{id}");
+
+		StringBuilder stringBuilder = new StringBuilder();
+
+		urlTemplate.appendTo(stringBuilder, "a name", "a/b;c%ñ");
+
+		assertThat(stringBuilder.toString(), is("a%20name/a%2Fb%3Bc%25%C3%B1"));
+	}
+
+	@Test
+	public void testAppendToKeepsAllowedCharacters() {
+		URLTemplate urlTemplate = URLTemplate.compile("{id}");
+
+		StringBuilder stringBuilder = new StringBuilder();
+
+		urlTemplate.appendTo(stringBuilder, "a-b._~!$&'()*+,=:@1");
+
+		assertThat(stringBuilder.toString(), is("a-b._~!$&'()*+,=:@1"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAppendToWithWrongNumberOfValuesThrowsException() {
+		URLTemplate urlTemplate = URLTemplate.compile("{name}/{id}");
+
+		urlTemplate.appendTo(new StringBuilder(), "name");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCompileWithUnclosedVariableThrowsException() {
+		URLTemplate.compile("{name}/{id");
+	}
+
+}
\ No newline at end of file
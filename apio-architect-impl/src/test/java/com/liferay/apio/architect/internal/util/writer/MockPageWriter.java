@@ -16,9 +16,15 @@ package com.liferay.apio.architect.internal.util.writer;
 
 import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getRequestInfo;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.pagination.PageImpl;
 import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.util.model.RootModel;
 import com.liferay.apio.architect.internal.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
@@ -26,9 +32,13 @@ import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Provides methods that test {@code PageMessageMapper} objects.
@@ -50,6 +60,82 @@ public class MockPageWriter {
 	 * @return the string containing the JSON object
 	 */
 	public static String write(PageMessageMapper<RootModel> pageMessageMapper) {
+		PageWriter<RootModel> pageWriter = _getPageWriter(pageMessageMapper);
+
+		return pageWriter.write();
+	}
+
+	/**
+	 * Writes a {@link RootModel} collection with the hierarchy of embedded
+	 * models and multiple fields, rendering the page's items concurrently in
+	 * the provided {@code Executor}.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON object
+	 * @param  executor the executor that renders the items
+	 * @return the string containing the JSON object
+	 * @throws IOException if the page couldn't be written
+	 */
+	public static String write(
+			PageMessageMapper<RootModel> pageMessageMapper, Executor executor)
+		throws IOException {
+
+		return write(
+			pageMessageMapper, executor, getRequestInfo(),
+			MockWriterUtil::getSingleModel);
+	}
+
+	/**
+	 * Writes a {@link RootModel} collection with the hierarchy of embedded
+	 * models and multiple fields, rendering the page's items concurrently in
+	 * the provided {@code Executor}, and using the provided request info and
+	 * function to get embedded single models.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON object
+	 * @param  executor the executor that renders the items
+	 * @param  requestInfo the request info
+	 * @param  singleModelFunction the function that gets embedded single
+	 *         models
+	 * @return the string containing the JSON object
+	 * @throws IOException if the page couldn't be written
+	 */
+	public static String write(
+			PageMessageMapper<RootModel> pageMessageMapper, Executor executor,
+			RequestInfo requestInfo, SingleModelFunction singleModelFunction)
+		throws IOException {
+
+		PageWriter<RootModel> pageWriter = _getPageWriter(
+			pageMessageMapper, requestInfo, singleModelFunction);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (JsonGenerator jsonGenerator =
+				pageMessageMapper.createJsonGenerator(byteArrayOutputStream)) {
+
+			pageWriter.write(jsonGenerator, executor);
+		}
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private MockPageWriter() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static PageWriter<RootModel> _getPageWriter(
+		PageMessageMapper<RootModel> pageMessageMapper) {
+
+		return _getPageWriter(
+			pageMessageMapper, getRequestInfo(),
+			MockWriterUtil::getSingleModel);
+	}
+
+	private static PageWriter<RootModel> _getPageWriter(
+		PageMessageMapper<RootModel> pageMessageMapper, RequestInfo requestInfo,
+		SingleModelFunction singleModelFunction) {
+
 		Collection<RootModel> items = Arrays.asList(
 			() -> "1", () -> "2", () -> "3");
 
@@ -60,7 +146,7 @@ public class MockPageWriter {
 		Page<RootModel> page = new PageImpl<>(
 			Paged.of("root"), pageItems, pagination);
 
-		PageWriter<RootModel> pageWriter = PageWriter.create(
+		return PageWriter.create(
 			builder -> builder.page(
 				page
 			).pageMessageMapper(
@@ -72,18 +158,12 @@ public class MockPageWriter {
 			).representorFunction(
 				MockWriterUtil::getRepresentorOptional
 			).requestInfo(
-				getRequestInfo()
+				requestInfo
 			).singleModelFunction(
-				MockWriterUtil::getSingleModel
+				singleModelFunction
 			).actionSemanticsFunction(
 				MockWriterUtil::getActionSemantics
 			).build());
-
-		return pageWriter.write();
-	}
-
-	private MockPageWriter() {
-		throw new UnsupportedOperationException();
 	}
 
 }
\ No newline at end of file
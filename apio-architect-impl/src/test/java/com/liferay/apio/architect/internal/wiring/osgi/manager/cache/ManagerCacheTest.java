@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.internal.jaxrs.interceptor.ContentEncoding.IDENTITY;
+import static com.liferay.apio.architect.internal.jaxrs.util.EntityTagUtil.getEntityTag;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.EXCEPTION_MAPPERS;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.PAGE_MESSAGE_MAPPERS;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.PARSED_TYPES;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.CacheSection.REPRESENTABLES;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
+import com.liferay.apio.architect.internal.jaxrs.interceptor.EncodedDocument;
+import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+import com.liferay.apio.architect.routes.ItemRoutes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheTest {
+
+	@After
+	public void tearDown() {
+		INSTANCE.setInvalidationListener(null);
+
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testClearCallsInvalidationListener() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		INSTANCE.setInvalidationListener(atomicInteger::incrementAndGet);
+
+		INSTANCE.clear();
+		INSTANCE.clear();
+
+		assertThat(atomicInteger.get(), is(2));
+	}
+
+	@Test
+	public void testClearForgetsNegotiatedMessageMappers() {
+		Request request = _mockRequest();
+
+		_putErrorMessageMapper();
+
+		INSTANCE.getErrorMessageMapperOptional(
+			request, "application/json", _EMPTY_FUNCTION);
+
+		INSTANCE.clear();
+
+		_putErrorMessageMapper();
+
+		Optional<ErrorMessageMapper> optional =
+			INSTANCE.getErrorMessageMapperOptional(
+				request, "application/json", _EMPTY_FUNCTION);
+
+		assertThat(optional.isPresent(), is(true));
+
+		verify(request, times(2)).selectVariant(any());
+	}
+
+	@Test
+	public void testClearSectionKeepsUnrelatedSections() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		EmptyFunction emptyFunction = () -> {
+			atomicInteger.incrementAndGet();
+
+			INSTANCE.putParsedType("first", _parsedType);
+		};
+
+		INSTANCE.getParsedTypesMap(emptyFunction);
+
+		_putErrorMessageMapper();
+
+		INSTANCE.clear(PAGE_MESSAGE_MAPPERS);
+
+		Map<String, ParsedType> map = INSTANCE.getParsedTypesMap(
+			emptyFunction);
+
+		assertThat(map.size(), is(1));
+		assertThat(atomicInteger.get(), is(1));
+
+		Optional<ErrorMessageMapper> optional =
+			INSTANCE.getErrorMessageMapperOptional(
+				_mockRequest(), "application/json", _EMPTY_FUNCTION);
+
+		assertThat(optional.isPresent(), is(true));
+	}
+
+	@Test
+	public void testClearSectionRecomputesDependentSections() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		EmptyFunction emptyFunction = () -> {
+			atomicInteger.incrementAndGet();
+
+			INSTANCE.putItemRoutes("first", mock(ItemRoutes.class));
+		};
+
+		INSTANCE.getItemRoutesMap(emptyFunction);
+
+		INSTANCE.clear(EXCEPTION_MAPPERS);
+
+		INSTANCE.getItemRoutesMap(emptyFunction);
+
+		assertThat(atomicInteger.get(), is(1));
+
+		INSTANCE.clear(REPRESENTABLES);
+
+		INSTANCE.getItemRoutesMap(emptyFunction);
+
+		assertThat(atomicInteger.get(), is(2));
+
+		INSTANCE.clear(PARSED_TYPES);
+
+		INSTANCE.getItemRoutesMap(emptyFunction);
+
+		assertThat(atomicInteger.get(), is(3));
+	}
+
+	@Test
+	public void testComputeStartedBeforeClearIsNotPublished() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		Map<String, ParsedType> map = INSTANCE.getParsedTypesMap(
+			() -> {
+				atomicInteger.incrementAndGet();
+
+				INSTANCE.putParsedType("first", _parsedType);
+
+				INSTANCE.clear();
+			});
+
+		assertThat(map.size(), is(1));
+
+		INSTANCE.getParsedTypesMap(
+			() -> {
+				atomicInteger.incrementAndGet();
+
+				INSTANCE.putParsedType("second", _parsedType);
+			});
+
+		assertThat(atomicInteger.get(), is(2));
+	}
+
+	@Test
+	public void testConcurrentMissesComputeOnce() throws Exception {
+		AtomicInteger atomicInteger = new AtomicInteger();
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Callable<Map<String, ParsedType>> callable = () -> {
+			countDownLatch.await();
+
+			return INSTANCE.getParsedTypesMap(
+				() -> {
+					atomicInteger.incrementAndGet();
+
+					INSTANCE.putParsedType("first", _parsedType);
+					INSTANCE.putParsedType("second", _parsedType);
+				});
+		};
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<Map<String, ParsedType>>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 8; i++) {
+				futures.add(executorService.submit(callable));
+			}
+
+			countDownLatch.countDown();
+
+			for (Future<Map<String, ParsedType>> future : futures) {
+				Map<String, ParsedType> map = future.get();
+
+				assertThat(map.size(), is(2));
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testGetEncodedDocumentStopsCachingAtItsMaximumSize() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		Function<String, EncodedDocument> function = __ -> {
+			atomicInteger.incrementAndGet();
+
+			return new EncodedDocument(_BYTES);
+		};
+
+		for (int i = 0; i < 64; i++) {
+			INSTANCE.getEncodedDocument(String.valueOf(i), function);
+		}
+
+		INSTANCE.getEncodedDocument("0", function);
+
+		assertThat(atomicInteger.get(), is(64));
+
+		INSTANCE.getEncodedDocument("uncached", function);
+		INSTANCE.getEncodedDocument("uncached", function);
+
+		assertThat(atomicInteger.get(), is(66));
+	}
+
+	@Test
+	public void testGetMessageMapperOptionalReusesNegotiationPerAccept() {
+		Request request = _mockRequest();
+
+		_putErrorMessageMapper();
+
+		INSTANCE.getErrorMessageMapperOptional(
+			request, "application/json, */*", _EMPTY_FUNCTION);
+
+		Optional<ErrorMessageMapper> optional =
+			INSTANCE.getErrorMessageMapperOptional(
+				request, "application/json,*/*", _EMPTY_FUNCTION);
+
+		assertThat(optional.isPresent(), is(true));
+
+		verify(request, times(1)).selectVariant(any());
+
+		INSTANCE.getErrorMessageMapperOptional(
+			request, "application/xml", _EMPTY_FUNCTION);
+		INSTANCE.getErrorMessageMapperOptional(request, null, _EMPTY_FUNCTION);
+		INSTANCE.getErrorMessageMapperOptional(request, null, _EMPTY_FUNCTION);
+
+		verify(request, times(4)).selectVariant(any());
+	}
+
+	@Test
+	public void testRebuildEncodedDocumentsComputesClearedDocuments() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		INSTANCE.putEncodedDocumentSupplier(
+			"rebuilt",
+			() -> {
+				atomicInteger.incrementAndGet();
+
+				return new EncodedDocument(_BYTES);
+			});
+
+		INSTANCE.clear();
+
+		INSTANCE.rebuildEncodedDocuments();
+
+		EncodedDocument encodedDocument = INSTANCE.getEncodedDocument(
+			"rebuilt",
+			__ -> {
+				throw new AssertionError();
+			});
+
+		assertThat(encodedDocument.getBytes(IDENTITY), is(_BYTES));
+		assertThat(encodedDocument.getEntityTag(), is(getEntityTag(_BYTES)));
+
+		INSTANCE.rebuildEncodedDocuments();
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testRebuildEncodedDocumentsForgetsFailingDocuments() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		INSTANCE.putEncodedDocumentSupplier(
+			"failing",
+			() -> {
+				atomicInteger.incrementAndGet();
+
+				throw new IllegalStateException();
+			});
+
+		INSTANCE.rebuildEncodedDocuments();
+		INSTANCE.rebuildEncodedDocuments();
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testPublishedDataIsNotModifiedByLaterComputations() {
+		Map<String, ParsedType> map = INSTANCE.getParsedTypesMap(
+			() -> INSTANCE.putParsedType("first", _parsedType));
+
+		INSTANCE.putParsedType("second", _parsedType);
+
+		assertThat(map.size(), is(1));
+		assertThat(INSTANCE.getParsedTypesMap(_EMPTY_FUNCTION).size(), is(2));
+	}
+
+	@Test
+	public void testPublishingDataOnlyCopiesTheModifiedSection() {
+		Map<String, ItemRoutes> itemRoutesMap = INSTANCE.getItemRoutesMap(
+			() -> INSTANCE.putItemRoutes("first", mock(ItemRoutes.class)));
+		Map<String, ParsedType> parsedTypesMap = INSTANCE.getParsedTypesMap(
+			() -> INSTANCE.putParsedType("first", _parsedType));
+
+		INSTANCE.putParsedType("second", _parsedType);
+		INSTANCE.putParsedType("third", _parsedType);
+
+		assertThat(
+			INSTANCE.getItemRoutesMap(_EMPTY_FUNCTION),
+			is(sameInstance(itemRoutesMap)));
+		assertThat(parsedTypesMap.size(), is(1));
+		assertThat(INSTANCE.getParsedTypesMap(_EMPTY_FUNCTION).size(), is(3));
+	}
+
+	private Request _mockRequest() {
+		Request request = mock(Request.class);
+
+		Variant variant = new Variant(
+			MediaType.APPLICATION_JSON_TYPE, (String)null, null);
+
+		when(
+			request.selectVariant(any())
+		).thenReturn(
+			variant
+		);
+
+		return request;
+	}
+
+	private void _putErrorMessageMapper() {
+		INSTANCE.putErrorMessageMapper(
+			MediaType.APPLICATION_JSON_TYPE, mock(ErrorMessageMapper.class));
+	}
+
+	private static final byte[] _BYTES = "{\"@id\": \"doc\"}".getBytes(UTF_8);
+
+	private static final EmptyFunction _EMPTY_FUNCTION = () -> {
+	};
+
+	private final ParsedType _parsedType = mock(ParsedType.class);
+
+}
\ No newline at end of file
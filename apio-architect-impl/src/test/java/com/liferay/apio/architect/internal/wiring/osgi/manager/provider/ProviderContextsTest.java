@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.provider;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProviderContextsTest {
+
+	@Test
+	public void testEmptyInstancesAreOnlyCreatedOnce() {
+		ProviderContexts providerContexts = ProviderContexts.of(
+			_createRequest());
+
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			Optional<String> optional = providerContexts.get(
+				String.class,
+				() -> {
+					atomicInteger.incrementAndGet();
+
+					return Optional.empty();
+				});
+
+			assertThat(optional, is(emptyOptional()));
+		}
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testInstancesAreCreatedOncePerClass() {
+		ProviderContexts providerContexts = ProviderContexts.of(
+			_createRequest());
+
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			Optional<String> optional = providerContexts.get(
+				String.class,
+				() -> Optional.of("string" + atomicInteger.incrementAndGet()));
+
+			assertThat(optional, is(optionalWithValue(is("string1"))));
+		}
+
+		Optional<Integer> optional = providerContexts.get(
+			Integer.class, () -> Optional.of(atomicInteger.incrementAndGet()));
+
+		assertThat(optional, is(optionalWithValue(is(2))));
+	}
+
+	@Test
+	public void testStoreIsSharedByRequest() {
+		HttpServletRequest httpServletRequest = _createRequest();
+
+		ProviderContexts providerContexts = ProviderContexts.of(
+			httpServletRequest);
+
+		assertThat(
+			ProviderContexts.of(httpServletRequest),
+			is(sameInstance(providerContexts)));
+		assertThat(
+			ProviderContexts.of(_createRequest()),
+			is(not(sameInstance(providerContexts))));
+	}
+
+	private HttpServletRequest _createRequest() {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		Mockito.when(
+			httpServletRequest.getAttribute(Mockito.anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> attributes.put(
+				(String)invocation.getArguments()[0],
+				invocation.getArguments()[1])
+		).when(
+			httpServletRequest
+		).setAttribute(
+			Mockito.anyString(), Mockito.any()
+		);
+
+		return httpServletRequest;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.wiring.osgi.error.ApioDeveloperError.MustHavePathIdentifierMapper;
+import com.liferay.apio.architect.uri.Path;
+import com.liferay.apio.architect.uri.mapper.PathIdentifierMapper;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResolvedPathIdentifierMapperTest {
+
+	@Test(expected = MustHavePathIdentifierMapper.class)
+	public void testMapToIdentifierOrFailWithoutMappersFails() {
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			new ResolvedPathIdentifierMapper(null, null, null);
+
+		resolvedPathIdentifierMapper.mapToIdentifierOrFail(
+			new Path("name", "42"));
+	}
+
+	@Test
+	public void testMapToIdentifierOrFailUsesGenericParentMapper() {
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			new ResolvedPathIdentifierMapper(
+				null, _longPathIdentifierMapper, "generic-parent");
+
+		Object identifier = resolvedPathIdentifierMapper.mapToIdentifierOrFail(
+			new Path("name", "42"));
+
+		assertThat(identifier, is(42L));
+	}
+
+	@Test
+	public void testMapToIdentifierOrFailUsesResourceMapper() {
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			new ResolvedPathIdentifierMapper(
+				_stringPathIdentifierMapper, _longPathIdentifierMapper,
+				"generic-parent");
+
+		Object identifier = resolvedPathIdentifierMapper.mapToIdentifierOrFail(
+			new Path("name", "42"));
+
+		assertThat(identifier, is("42"));
+	}
+
+	@Test
+	public void testMapToPathFallsBackToGenericParentMapper() {
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			new ResolvedPathIdentifierMapper(
+				_failingPathIdentifierMapper, _longPathIdentifierMapper,
+				"generic-parent");
+
+		Optional<Path> optional = resolvedPathIdentifierMapper.mapToPath(
+			"name", 42L);
+
+		Path path = optional.get();
+
+		assertThat(path.getName(), is("generic-parent"));
+		assertThat(path.getId(), is("42"));
+	}
+
+	@Test
+	public void testMapToPathUsesResourceMapper() {
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			new ResolvedPathIdentifierMapper(
+				_stringPathIdentifierMapper, _longPathIdentifierMapper,
+				"generic-parent");
+
+		Optional<Path> optional = resolvedPathIdentifierMapper.mapToPath(
+			"name", "42");
+
+		Path path = optional.get();
+
+		assertThat(path.getName(), is("name"));
+		assertThat(path.getId(), is("42"));
+	}
+
+	@Test
+	public void testMapToPathWithoutMappersReturnsEmpty() {
+		ResolvedPathIdentifierMapper resolvedPathIdentifierMapper =
+			new ResolvedPathIdentifierMapper(null, null, null);
+
+		assertThat(
+			resolvedPathIdentifierMapper.mapToPath("name", "42"),
+			is(emptyOptional()));
+	}
+
+	private final PathIdentifierMapper<Object> _failingPathIdentifierMapper =
+		new PathIdentifierMapper<Object>() {
+
+			@Override
+			public Object map(Path path) {
+				throw new IllegalArgumentException();
+			}
+
+			@Override
+			public Path map(String name, Object object) {
+				throw new IllegalArgumentException();
+			}
+
+		};
+
+	private final PathIdentifierMapper<Long> _longPathIdentifierMapper =
+		new PathIdentifierMapper<Long>() {
+
+			@Override
+			public Long map(Path path) {
+				return Long.valueOf(path.getId());
+			}
+
+			@Override
+			public Path map(String name, Long id) {
+				return new Path(name, String.valueOf(id));
+			}
+
+		};
+
+	private final PathIdentifierMapper<String> _stringPathIdentifierMapper =
+		new PathIdentifierMapper<String>() {
+
+			@Override
+			public String map(Path path) {
+				return path.getId();
+			}
+
+			@Override
+			public Path map(String name, String id) {
+				return new Path(name, id);
+			}
+
+		};
+
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
+
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.util.model.RootModel;
+import com.liferay.apio.architect.internal.util.writer.MockPageWriter;
+import com.liferay.apio.architect.internal.util.writer.MockWriterUtil;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageWriterTest {
+
+	@Test
+	public void testWriteWithExecutorShutDownWritesItemsInCallingThread()
+		throws Exception {
+
+		PageMessageMapper<RootModel> pageMessageMapper =
+			new JSONLDPageMessageMapper<>();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+		executorService.shutdown();
+
+		String expected = MockPageWriter.write(pageMessageMapper);
+
+		String actual = MockPageWriter.write(
+			pageMessageMapper, executorService);
+
+		assertEquals(expected, actual, true);
+	}
+
+	@Test
+	public void testWriteWithExecutorUsesThreadBoundStateInCallingThread()
+		throws Exception {
+
+		PageMessageMapper<RootModel> pageMessageMapper =
+			new JSONLDPageMessageMapper<>();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+		Thread thread = Thread.currentThread();
+
+		RequestInfo requestInfo = RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> _checkThread(thread, "/")
+			).applicationURL(
+				() -> _checkThread(thread, "/")
+			).embedded(
+				Arrays.asList("embedded1", "embedded1.embedded")::contains
+			).fields(
+				__ -> string -> true
+			).language(
+				() -> _checkThread(thread, Locale.getDefault())
+			).build());
+
+		SingleModelFunction singleModelFunction =
+			(identifier, identifierClass) -> _checkThread(
+				thread,
+				MockWriterUtil.getSingleModel(identifier, identifierClass));
+
+		try {
+			String expected = MockPageWriter.write(pageMessageMapper);
+
+			String actual = MockPageWriter.write(
+				pageMessageMapper, executorService, requestInfo,
+				singleModelFunction);
+
+			assertEquals(expected, actual, true);
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void testWriteWithExecutorWritesSameItemsInSameOrder()
+		throws Exception {
+
+		PageMessageMapper<RootModel> pageMessageMapper =
+			new JSONLDPageMessageMapper<>();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+		try {
+			String expected = MockPageWriter.write(pageMessageMapper);
+
+			String actual = MockPageWriter.write(
+				pageMessageMapper, executorService);
+
+			assertEquals(expected, actual, true);
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+
+	private static <T> T _checkThread(Thread thread, T t) {
+		if (Thread.currentThread() != thread) {
+			throw new IllegalStateException(
+				"Thread-bound state accessed outside the request's thread");
+		}
+
+		return t;
+	}
+
+}
\ No newline at end of file
@@ -32,6 +32,8 @@ import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInA
 import static org.hamcrest.core.Is.is;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.documentation.APIDescription;
+import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
@@ -40,6 +42,7 @@ import com.liferay.apio.architect.internal.annotation.ActionManager;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
 import com.liferay.apio.architect.internal.test.base.BaseTest;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
@@ -51,6 +54,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
@@ -240,9 +244,19 @@ public class RootResourceTest extends BaseTest {
 		public Documentation getDocumentation(
 			HttpServletRequest httpServletRequest) {
 
+			return getDocumentation(
+				Optional::empty, Optional::empty, Optional::empty);
+		}
+
+		@Override
+		public Documentation getDocumentation(
+			Supplier<Optional<APITitle>> apiTitleSupplier,
+			Supplier<Optional<APIDescription>> apiDescriptionSupplier,
+			Supplier<Optional<ApplicationURL>> applicationURLSupplier) {
+
 			return new Documentation(
-				Optional::empty, Optional::empty, Optional::empty,
-				Collections::emptyMap, Stream.empty(),
+				apiTitleSupplier, apiDescriptionSupplier,
+				applicationURLSupplier, Collections::emptyMap, Stream.empty(),
 				__ -> Stream.empty(), () -> __ -> Locale::toString);
 		}
 